@@ -0,0 +1,79 @@
+package systems.kinau.fishingbot.network.protocol.play;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import systems.kinau.fishingbot.network.capture.CapturedPacket;
+import systems.kinau.fishingbot.network.capture.PacketCaptureReader;
+import systems.kinau.fishingbot.network.protocol.Packet;
+import systems.kinau.fishingbot.network.protocol.PacketRegistries;
+import systems.kinau.fishingbot.network.protocol.PacketRegistry;
+import systems.kinau.fishingbot.network.protocol.codec.ProtocolCodecs;
+import systems.kinau.fishingbot.network.utils.ByteArrayDataInputWrapper;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Walks all entity metadata packets of a capture recorded with -capture, once as entries of the bot and once of other entities.
+ * By default the 1.19.4 fishing session in src/jmh/resources is used (relative to the project directory):
+ * bobber and item entities, the bot itself, other players, mobs and a named villager.
+ * <p>
+ * mvn -Pjmh test-compile exec:exec -Dexec.classpathScope=test -Dexec.executable=java
+ * -Dexec.args="-cp %classpath org.openjdk.jmh.Main EntityMetadataBenchmark [-p capture=path/to/capture.fbcap]"
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EntityMetadataBenchmark {
+
+    @Param("src/jmh/resources/entity-metadata-1.19.4.fbcap")
+    private String capture;
+
+    @Param({"false", "true"})
+    private boolean self;
+
+    private ProtocolCodecs codecs;
+    private List<byte[]> packets;
+
+    @Setup
+    public void setup() throws IOException {
+        packets = new ArrayList<>();
+        try (PacketCaptureReader reader = new PacketCaptureReader(new File(capture))) {
+            codecs = ProtocolCodecs.forProtocol(reader.getProtocol());
+            PacketRegistry registry = PacketRegistries.getInstance().getPlayRegistryIn(reader.getProtocol());
+            CapturedPacket packet;
+            while ((packet = reader.next()) != null) {
+                if (packet.isInbound() && packet.getState() == systems.kinau.fishingbot.network.protocol.State.PLAY
+                        && registry.getPacket(packet.getPacketId()) == PacketInEntityMetadata.class)
+                    packets.add(packet.getData());
+            }
+        }
+        if (packets.isEmpty())
+            throw new IllegalStateException(capture + " contains no entity metadata packets");
+    }
+
+    @Benchmark
+    public void readEntries(Blackhole blackhole) {
+        for (byte[] data : packets) {
+            ByteArrayDataInputWrapper in = new ByteArrayDataInputWrapper(data);
+            blackhole.consume(Packet.readVarInt(in));
+            PacketInEntityMetadata.readEntries(in, codecs, self, blackhole::consume, blackhole::consume);
+        }
+    }
+}
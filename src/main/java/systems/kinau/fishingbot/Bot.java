@@ -5,18 +5,21 @@
 
 package systems.kinau.fishingbot;
 
+import com.google.common.io.ByteStreams;
 import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import lombok.Getter;
 import lombok.Setter;
 import org.apache.commons.cli.CommandLine;
 import systems.kinau.fishingbot.auth.AuthData;
 import systems.kinau.fishingbot.auth.Authenticator;
+import systems.kinau.fishingbot.bot.ChatPriority;
 import systems.kinau.fishingbot.bot.Player;
 import systems.kinau.fishingbot.bot.loot.LootHistory;
 import systems.kinau.fishingbot.event.EventManager;
 import systems.kinau.fishingbot.gui.Dialogs;
 import systems.kinau.fishingbot.i18n.I18n;
 import systems.kinau.fishingbot.io.config.SettingsConfig;
+import systems.kinau.fishingbot.io.logging.BatchedFileHandler;
 import systems.kinau.fishingbot.io.logging.LogFormatter;
 import systems.kinau.fishingbot.modules.*;
 import systems.kinau.fishingbot.modules.command.ChatCommandModule;
@@ -27,26 +30,41 @@ import systems.kinau.fishingbot.modules.discord.DiscordModule;
 import systems.kinau.fishingbot.modules.ejection.EjectionModule;
 import systems.kinau.fishingbot.modules.fishing.FishingModule;
 import systems.kinau.fishingbot.modules.fishing.RegistryHandler;
+import systems.kinau.fishingbot.modules.statistics.CatchStatistics;
+import systems.kinau.fishingbot.modules.statistics.StatisticsModule;
 import systems.kinau.fishingbot.modules.timer.TimerModule;
+import systems.kinau.fishingbot.network.capture.PacketReplay;
+import systems.kinau.fishingbot.network.http.SharedHttpClient;
 import systems.kinau.fishingbot.network.mojangapi.MojangAPI;
 import systems.kinau.fishingbot.network.mojangapi.Realm;
 import systems.kinau.fishingbot.network.ping.ServerPinger;
 import systems.kinau.fishingbot.network.protocol.NetworkHandler;
 import systems.kinau.fishingbot.network.protocol.ProtocolConstants;
+import systems.kinau.fishingbot.network.protocol.State;
+import systems.kinau.fishingbot.network.reconnect.LoginSlots;
+import systems.kinau.fishingbot.network.reconnect.ReconnectScheduler;
 
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
 import java.io.File;
 import java.io.IOException;
 import java.net.Socket;
-import java.util.Arrays;
 import java.util.List;
+import java.util.Locale;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.logging.FileHandler;
 
 public class Bot {
 
+    private static final long PROFILE_KEY_RENEW_MARGIN = TimeUnit.MINUTES.toMillis(5);
+    private static final long PING_LEAD = TimeUnit.SECONDS.toMillis(2);
+
     @Getter @Setter private boolean running;
     @Getter @Setter private boolean preventStartup;
     @Getter @Setter private boolean preventReconnect;
@@ -54,7 +72,7 @@ public class Bot {
     @Getter @Setter private int serverProtocol = ProtocolConstants.MINECRAFT_1_8; //default 1.8
     @Getter @Setter private String serverHost;
     @Getter @Setter private int serverPort;
-    @Getter @Setter private AuthData authData;
+    @Getter @Setter private volatile AuthData authData;
     @Getter @Setter private boolean wontConnect = false;
     @Getter         private ExecutorService commandsThread;
     @Getter         private boolean noGui;
@@ -71,6 +89,12 @@ public class Bot {
     @Getter @Setter private FishingModule fishingModule;
 
     @Getter         private File logsFolder = new File(FishingBot.getExecutionDirectory(), "logs");
+    @Getter         private PacketReplay replay;
+    @Getter @Setter private volatile MojangAPI mojangAPI;
+    @Getter @Setter private long disconnectedAt;
+    @Getter @Setter private long serverLatency = -1;
+    @Getter         private ReconnectScheduler reconnectScheduler;
+                    private LoginSlots.Slot loginSlot;
 
     public Bot(CommandLine cmdLine) {
         FishingBot.getInstance().setCurrentBot(this);
@@ -88,6 +112,8 @@ public class Bot {
         else
             this.config = new SettingsConfig(new File(FishingBot.getExecutionDirectory(), "config.json").getAbsolutePath());
 
+        this.reconnectScheduler = new ReconnectScheduler(config.getAutoReconnectTime(), config.getAutoReconnectMaxTime(), TimeUnit.SECONDS);
+
         // update i18n
 
         FishingBot.setI18n(new I18n(config.getLanguage(), FishingBot.PREFIX, true));
@@ -109,11 +135,11 @@ public class Bot {
 
         // set logger file handler
         try {
-            FileHandler fh;
+            BatchedFileHandler fh;
             if(!logsFolder.exists() && !logsFolder.mkdir() && logsFolder.isDirectory())
                 throw new IOException(FishingBot.getI18n().t("log-failed-creating-folder"));
-            FishingBot.getLog().removeHandler(Arrays.stream(FishingBot.getLog().getHandlers()).filter(handler -> handler instanceof FileHandler).findAny().orElse(null));
-            FishingBot.getLog().addHandler(fh = new FileHandler(logsFolder.getPath() + "/log%g.log", 0 /* 0 = infinity */, getConfig().getLogCount()));
+            FishingBot.getLogHandler().removeHandler(FishingBot.getLogHandler().getHandlers().stream().filter(handler -> handler instanceof FileHandler).findAny().orElse(null));
+            FishingBot.getLogHandler().addHandler(fh = new BatchedFileHandler(logsFolder.getPath() + "/log%g.log", 0 /* 0 = infinity */, getConfig().getLogCount()));
             fh.setFormatter(new LogFormatter());
         } catch (IOException e) {
             FishingBot.getI18n().severe("log-failed-creating-log");
@@ -125,6 +151,21 @@ public class Bot {
         // log config location
         FishingBot.getI18n().info("config-loaded-from", new File(getConfig().getPath()).getAbsolutePath());
 
+        // replaying a capture needs neither authentication nor a server
+        if (cmdLine.hasOption("replay")) {
+            this.replay = new PacketReplay(new File(cmdLine.getOptionValue("replay")));
+            try {
+                setServerProtocol(replay.readProtocol());
+            } catch (IOException e) {
+                e.printStackTrace();
+                setPreventStartup(true);
+                return;
+            }
+            this.authData = new AuthData(null, null, getConfig().getUserName());
+            setPreventReconnect(true);
+            return;
+        }
+
         // authenticate player if online-mode is set
         if (getConfig().isOnlineMode()) {
             boolean authSuccessful = authenticate();
@@ -157,9 +198,8 @@ public class Bot {
         int assumedProtocolIdForMJAPI = ProtocolConstants.getProtocolId(getConfig().getDefaultProtocol());
         if (assumedProtocolIdForMJAPI == ProtocolConstants.AUTOMATIC)
             assumedProtocolIdForMJAPI = ProtocolConstants.getLatest();
-        MojangAPI mojangAPI = null;
         if (getConfig().isOnlineMode())
-            mojangAPI = new MojangAPI(getAuthData(), assumedProtocolIdForMJAPI);
+            this.mojangAPI = new MojangAPI(getAuthData(), assumedProtocolIdForMJAPI);
 
         // Check rather to connect to realm
         if (getConfig().getRealmId() != -1 && mojangAPI != null) {
@@ -257,6 +297,16 @@ public class Bot {
         }
     }
 
+    /**
+     * Lets the next bot waiting for the server log in
+     */
+    public void releaseLoginSlot() {
+        LoginSlots.Slot slot = this.loginSlot;
+        this.loginSlot = null;
+        if (slot != null)
+            slot.close();
+    }
+
     public FishingModule getFishingModule() {
         return (FishingModule) getModuleManager().getLoadedModule(FishingModule.class).orElse(null);
     }
@@ -269,6 +319,10 @@ public class Bot {
         return (DiscordModule) getModuleManager().getLoadedModule(DiscordModule.class).orElse(null);
     }
 
+    public StatisticsModule getStatisticsModule() {
+        return (StatisticsModule) getModuleManager().getLoadedModule(StatisticsModule.class).orElse(null);
+    }
+
     public void start(CommandLine cmdLine) {
         if (isRunning() || isPreventStartup()) {
             FishingBot.getInstance().setCurrentBot(null);
@@ -282,6 +336,10 @@ public class Bot {
     }
 
     public void runCommand(String command, boolean executeBotCommand) {
+        runCommand(command, executeBotCommand, ChatPriority.NORMAL);
+    }
+
+    public void runCommand(String command, boolean executeBotCommand, ChatPriority priority) {
         commandsThread.execute(() -> {
             if (getNet() == null)
                 return;
@@ -291,7 +349,7 @@ public class Bot {
                     return;
             }
 
-            getPlayer().sendMessage(command);
+            getPlayer().sendMessage(command, priority);
         });
     }
 
@@ -319,6 +377,8 @@ public class Bot {
         getCommandRegistry().registerCommand(new DropRodCommand());
         getCommandRegistry().registerCommand(new LookCommand());
         getCommandRegistry().registerCommand(new SummaryCommand());
+        getCommandRegistry().registerCommand(new RatesCommand());
+        getCommandRegistry().registerCommand(new TicksCommand());
         getCommandRegistry().registerCommand(new RightClickCommand());
         getCommandRegistry().registerCommand(new SwapCommand());
         getCommandRegistry().registerCommand(new ClickInvCommand());
@@ -330,26 +390,36 @@ public class Bot {
         int port = getServerPort();
 
         LootHistory savedLootHistory = new LootHistory();
+        CatchStatistics savedStatistics = new CatchStatistics();
 
+        boolean reconnecting = false;
         do {
             try {
                 setRunning(true);
-                if (isWontConnect()) {
+                if (isWontConnect() || reconnecting) {
+                    reconnecting = false;
                     setWontConnect(false);
-                    ServerPinger sp = new ServerPinger(getServerHost(), getServerPort());
+                    // keep the last known protocol if the server does not answer
+                    ServerPinger sp = new ServerPinger(getServerHost(), getServerPort(), getServerProtocol());
                     sp.ping();
                     if (isWontConnect()) {
                         if (!getConfig().isAutoReconnect())
                             return;
                         try {
-                            Thread.sleep(getConfig().getAutoReconnectTime() * 1000);
+                            Thread.sleep(getReconnectScheduler().nextDelay());
                         } catch (InterruptedException ignore) { }
                         continue;
                     }
                 }
-                this.socket = new Socket(serverName, port);
-
-                this.net = new NetworkHandler();
+                if (getReplay() != null) {
+                    this.net = new NetworkHandler(new DataInputStream(new ByteArrayInputStream(new byte[0])), new DataOutputStream(ByteStreams.nullOutputStream()));
+                } else {
+                    this.loginSlot = LoginSlots.acquire(serverName, port, getConfig().getMaxConcurrentLogins(), this::isRunning);
+                    if (!isRunning())
+                        continue;
+                    this.socket = new Socket(serverName, port);
+                    this.net = new NetworkHandler();
+                }
                 this.commandsThread = Executors.newSingleThreadExecutor(
                         new ThreadFactoryBuilder().setNameFormat("command-executor-thread-%d").build());
 
@@ -361,7 +431,7 @@ public class Bot {
                     getEventManager().registerListener(FishingBot.getInstance().getMainGUIController());
 
                 // registry handler
-                new RegistryHandler(getServerProtocol());
+                RegistryHandler.getSnapshot(getServerProtocol());
 
                 // enable required modules
 
@@ -369,6 +439,7 @@ public class Bot {
                 getModuleManager().enableModule(new LoginModule(getAuthData().getUsername()));
                 getModuleManager().enableModule(new ClientDefaultsModule());
                 getModuleManager().enableModule(new FishingModule(savedLootHistory));
+                getModuleManager().enableModule(new StatisticsModule(savedStatistics));
                 getModuleManager().enableModule(new ChatProxyModule());
 
                 if (getConfig().isStartTextEnabled())
@@ -383,6 +454,9 @@ public class Bot {
                 if (getConfig().isTimerEnabled())
                     getModuleManager().enableModule(new TimerModule());
 
+                if (getMojangAPI() != null)
+                    getModuleManager().enableModule(new TokenRefreshModule());
+
                 // init player
 
                 this.player = new Player();
@@ -400,6 +474,11 @@ public class Bot {
                     }
                 }));
 
+                if (getReplay() != null) {
+                    getReplay().run(net);
+                    setRunning(false);
+                }
+
                 // game loop (for receiving packets)
 
                 while (running) {
@@ -415,6 +494,7 @@ public class Bot {
                 e.printStackTrace();
                 FishingBot.getI18n().severe("bot-could-not-be-started", e.getMessage());
             } finally {
+                releaseLoginSlot();
                 try {
                     if (socket != null)
                         this.socket.close();
@@ -422,25 +502,48 @@ public class Bot {
                     e.printStackTrace();
                 }
 
-                if (getPlayer() != null)
+                if (getPlayer() != null) {
                     getEventManager().unregisterListener(getPlayer());
+                    getPlayer().getLookScheduler().cancel();
+                    getPlayer().getChatScheduler().cancel();
+                }
                 if (commandsThread != null && !commandsThread.isShutdown())
                     commandsThread.shutdownNow();
                 getEventManager().getRegisteredListener().clear();
                 getEventManager().getClassToInstanceMapping().clear();
                 if (getFishingModule() != null)
                     savedLootHistory = getFishingModule().getLootHistory();
+                // the time to fishing is measured from the end of the last session which got in game, not from failed attempts
+                if (net != null && net.getState() == State.PLAY && disconnectedAt == 0)
+                    this.disconnectedAt = System.currentTimeMillis();
+                if (net != null)
+                    net.closeCapture();
                 getModuleManager().disableAll();
                 this.socket = null;
                 this.net = null;
                 this.player = null;
             }
             if (getConfig().isAutoReconnect() && !isPreventReconnect()) {
-                FishingBot.getI18n().info("bot-automatic-reconnect", String.valueOf(getConfig().getAutoReconnectTime()));
+                long delay = getReconnectScheduler().nextDelay();
+                FishingBot.getI18n().info("bot-automatic-reconnect", String.format(Locale.ROOT, "%.1f", delay / 1000.0));
+
+                // tokens and profile keys running out are renewed while waiting, auth data, protocol and registries are kept
+                CompletableFuture<Void> renewKeys = null;
+                if (getMojangAPI() != null && getAuthData() != null && getAuthData().getProfileKeys() != null)
+                    renewKeys = SharedHttpClient.getInstance().runAsync(() -> TokenRefreshModule.refreshTokens(PROFILE_KEY_RENEW_MARGIN));
 
+                // the server is pinged shortly before the wait is over, the reconnect below gets the cached answer
+                long pingLead = Math.min(delay, PING_LEAD);
                 try {
-                    Thread.sleep(getConfig().getAutoReconnectTime() * 1000);
+                    Thread.sleep(delay - pingLead);
+                    if (getReplay() == null)
+                        new ServerPinger(getServerHost(), getServerPort(), getServerProtocol()).pingAsync();
+                    Thread.sleep(pingLead);
                 } catch (InterruptedException ignore) { }
+                reconnecting = getReplay() == null;
+
+                if (renewKeys != null)
+                    renewKeys.join();
 
                 if (getAuthData() == null) {
                     if (getConfig().isOnlineMode())
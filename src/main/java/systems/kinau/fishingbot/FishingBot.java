@@ -10,13 +10,13 @@ import systems.kinau.fishingbot.gui.MainGUI;
 import systems.kinau.fishingbot.i18n.I18n;
 import systems.kinau.fishingbot.i18n.Language;
 import systems.kinau.fishingbot.io.config.SettingsConfig;
+import systems.kinau.fishingbot.io.logging.AsyncLogHandler;
 import systems.kinau.fishingbot.io.logging.CustomPrintStream;
 import systems.kinau.fishingbot.io.logging.LogFormatter;
+import systems.kinau.fishingbot.tick.TickEngine;
 
 import java.io.File;
 import java.util.Properties;
-import java.util.concurrent.Executors;
-import java.util.concurrent.ScheduledExecutorService;
 import java.util.logging.ConsoleHandler;
 import java.util.logging.Level;
 import java.util.logging.Logger;
@@ -28,7 +28,8 @@ public class FishingBot {
     public static String TITLE;
     @Getter private static FishingBot instance;
     @Getter public static Logger log = Logger.getLogger(Bot.class.getSimpleName());
-    @Getter private static ScheduledExecutorService scheduler = Executors.newScheduledThreadPool(2);
+    @Getter private static AsyncLogHandler logHandler;
+    @Getter private static TickEngine tickEngine = new TickEngine(4);
 
     @Getter private SettingsConfig config;
     @Getter private File refreshTokenFile;
@@ -55,8 +56,11 @@ public class FishingBot {
 
         // initialize Logger
         log.setLevel(Level.ALL);
+        logHandler = new AsyncLogHandler(4096);
+        log.addHandler(logHandler);
+        Runtime.getRuntime().addShutdownHook(new Thread(logHandler::close));
         ConsoleHandler ch;
-        log.addHandler(ch = new ConsoleHandler());
+        logHandler.addHandler(ch = new ConsoleHandler());
         log.setUseParentHandlers(false);
         LogFormatter formatter = new LogFormatter();
         ch.setFormatter(formatter);
@@ -22,6 +22,7 @@ public class Main {
         options.addOption("config", true, "specifies the path to the config");
         options.addOption("refreshToken", "accountfile", true, "specifies the path to the refreshToken which is used to login to Microsoft");
         options.addOption("onlyCreateConfig", false, "shut down the bot after the config is created");
+        options.addOption("replay", true, "replays a packet capture without connecting to a server and exits");
 
         // add nogui option if Desktop is not supported
         if (!Desktop.isDesktopSupported()) {
@@ -43,7 +44,10 @@ public class Main {
             if (cmd.hasOption("onlyCreateConfig"))
                 return;
 
-            if (!cmd.hasOption("nogui")) {
+            if (cmd.hasOption("replay")) {
+                FishingBot.getInstance().startBot();
+                FishingBot.getTickEngine().shutdown();
+            } else if (!cmd.hasOption("nogui")) {
                 String[] finalArgs = args;
                 new Thread(() -> {
                     try {
@@ -52,7 +56,7 @@ public class Main {
                             FishingBot.getInstance().getCurrentBot().setPreventReconnect(true);
                             FishingBot.getInstance().getCurrentBot().setRunning(false);
                         }
-                        FishingBot.getScheduler().shutdownNow();
+                        FishingBot.getTickEngine().shutdown();
                     } catch (Throwable ex) {
                         ex.printStackTrace();
                         Dialogs.showJavaFXNotWorking();
@@ -20,7 +20,7 @@ public class AuthData {
     @Getter private final String accessToken;
     @Getter private final String uuid;
     @Getter private final String username;
-    @Getter @Setter private ProfileKeys profileKeys;
+    @Getter @Setter private volatile ProfileKeys profileKeys;
 
     public String getUUIDWithoutDashes() {
         if (uuid == null) return null;
@@ -34,5 +34,9 @@ public class AuthData {
         private final String publicKeySignature;
         private final PrivateKey privateKey;
         private final long expiresAt;
+
+        public boolean expiresWithin(long millis) {
+            return expiresAt - System.currentTimeMillis() < millis;
+        }
     }
 }
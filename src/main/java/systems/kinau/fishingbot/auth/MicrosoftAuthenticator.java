@@ -23,6 +23,7 @@ import java.io.IOException;
 import java.nio.charset.StandardCharsets;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
 
 public class MicrosoftAuthenticator implements IAuthenticator {
@@ -31,12 +32,24 @@ public class MicrosoftAuthenticator implements IAuthenticator {
     private final static MethodAccessor GET_PROFILE_ACCESSOR = Reflect.getMethod(MsaAuthenticationService.class, "getProfile");
 
     public static final String CLIENT_ID = "fef9faea-d962-4476-9ce7-4960c8baa946";
+    public static final String MSA_ENDPOINT = "https://login.microsoftonline.com/consumers/oauth2/v2.0";
     private final static Gson GSON = new Gson();
+    private final static long ACCESS_TOKEN_MARGIN = TimeUnit.MINUTES.toMillis(5);
 
     @Override
     public Optional<AuthData> authenticate() {
         FishingBot.getI18n().info("auth-using-microsoft");
-        String refreshToken = readRefreshToken();
+        String account = TokenVault.getCurrentAccount();
+        TokenVault.Account cached = TokenVault.getInstance().get(account).orElse(null);
+
+        // a reconnect or restart within the lifetime of the last access token needs no network at all
+        if (cached != null && cached.hasAccessToken(ACCESS_TOKEN_MARGIN)) {
+            FishingBot.getI18n().info("auth-using-cached-token", cached.getUsername(),
+                    TimeUnit.MILLISECONDS.toMinutes(cached.getAccessTokenExpiresAt() - System.currentTimeMillis()));
+            return Optional.of(cached.toAuthData());
+        }
+
+        String refreshToken = cached != null && cached.getRefreshToken() != null ? cached.getRefreshToken() : readRefreshToken();
         CompletableFuture<Alert> authDialog = null;
 
         try {
@@ -70,6 +83,8 @@ public class MicrosoftAuthenticator implements IAuthenticator {
                     FishingBot.getInstance().getCurrentBot().setPreventStartup(true);
                     return Optional.empty();
                 }
+            } else if (cached != null && cached.getRefreshToken() != null) {
+                FishingBot.getI18n().info("auth-found-refresh-token", TokenVault.getInstance().getFile().getAbsolutePath());
             } else {
                 FishingBot.getI18n().info("auth-found-refresh-token", FishingBot.getInstance().getRefreshTokenFile().getAbsolutePath());
             }
@@ -80,30 +95,9 @@ public class MicrosoftAuthenticator implements IAuthenticator {
                 return Optional.empty();
             }
 
-            setDialogProgress(authDialog, 0.1);
-
-            try {
-                Files.write(refreshToken, FishingBot.getInstance().getRefreshTokenFile(), StandardCharsets.UTF_8);
-            } catch (IOException e) {
-                e.printStackTrace();
-            }
-
-            AuthenticationService authService = new MsaAuthenticationService(CLIENT_ID, refreshToken);
-            setDialogProgress(authDialog, 0.2);
-            AccessTokenCallback callback = AccessTokenGenerator.createAccessToken(refreshToken, CLIENT_ID);
-
-            if (callback == null) {
-                FishingBot.getI18n().severe("auth-could-not-get-access-token");
-                closeDialog(authDialog);
-                return Optional.empty();
-            }
-            setDialogProgress(authDialog, 0.5);
-            JsonObject object = GSON.toJsonTree(LOGIN_RESPONSE_ACCESSOR.invoke(authService, "d=" + callback.getAccessToken())).getAsJsonObject();
-            authService.setAccessToken(object.get("access_token").getAsString());
-            setDialogProgress(authDialog, 0.9);
-            MicrosoftAuthenticator.GET_PROFILE_ACCESSOR.invoke(authService);
+            Optional<AuthData> authData = login(account, refreshToken, authDialog);
             closeDialog(authDialog);
-            return Optional.of(new AuthData(authService.getAccessToken(), authService.getSelectedProfile().getIdAsString(), authService.getSelectedProfile().getName()));
+            return authData;
         } catch (Throwable e) {
             e.printStackTrace();
             closeDialog(authDialog);
@@ -111,6 +105,56 @@ public class MicrosoftAuthenticator implements IAuthenticator {
         }
     }
 
+    /**
+     * Gets a new Minecraft access token using the stored refresh token of the account, without any user interaction
+     *
+     * @return the new auth data or empty if the account has no refresh token or the refresh failed
+     */
+    public Optional<AuthData> refresh(String account) {
+        Optional<String> refreshToken = TokenVault.getInstance().get(account).map(TokenVault.Account::getRefreshToken);
+        if (!refreshToken.isPresent())
+            return Optional.empty();
+        try {
+            return login(account, refreshToken.get(), null);
+        } catch (Throwable e) {
+            e.printStackTrace();
+            return Optional.empty();
+        }
+    }
+
+    private Optional<AuthData> login(String account, String refreshToken, CompletableFuture<Alert> authDialog) throws Throwable {
+        setDialogProgress(authDialog, 0.1);
+
+        AuthenticationService authService = new MsaAuthenticationService(CLIENT_ID, refreshToken);
+        setDialogProgress(authDialog, 0.2);
+        AccessTokenCallback callback = AccessTokenGenerator.createAccessToken(refreshToken, CLIENT_ID);
+
+        if (callback == null) {
+            FishingBot.getI18n().severe("auth-could-not-get-access-token");
+            return Optional.empty();
+        }
+        setDialogProgress(authDialog, 0.5);
+        JsonObject object = GSON.toJsonTree(LOGIN_RESPONSE_ACCESSOR.invoke(authService, "d=" + callback.getAccessToken())).getAsJsonObject();
+        authService.setAccessToken(object.get("access_token").getAsString());
+        long expiresIn = object.has("expires_in") ? object.get("expires_in").getAsLong() : 0;
+        setDialogProgress(authDialog, 0.9);
+        MicrosoftAuthenticator.GET_PROFILE_ACCESSOR.invoke(authService);
+
+        AuthData authData = new AuthData(authService.getAccessToken(), authService.getSelectedProfile().getIdAsString(), authService.getSelectedProfile().getName());
+        // Microsoft rotates the refresh token, the old one must not be used again
+        String newRefreshToken = callback.getRefreshToken() != null ? callback.getRefreshToken() : refreshToken;
+        TokenVault.getInstance().update(account, entry -> {
+            if (entry.getUuid() != null && !entry.getUuid().equals(authData.getUuid()))
+                entry.clearProfileKeys();
+            entry.setRefreshToken(newRefreshToken);
+            entry.setAccessToken(authData.getAccessToken());
+            entry.setAccessTokenExpiresAt(System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(expiresIn));
+            entry.setUuid(authData.getUuid());
+            entry.setUsername(authData.getUsername());
+        });
+        return Optional.of(authData);
+    }
+
     private void setDialogProgress(CompletableFuture<Alert> authDialog, double progress) {
         modifyDialog(authDialog, alert -> {
             Node flowPane = alert.getDialogPane().contentProperty().get();
@@ -0,0 +1,221 @@
+package systems.kinau.fishingbot.auth;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonParseException;
+import com.google.gson.reflect.TypeToken;
+import lombok.Getter;
+import lombok.Setter;
+import systems.kinau.fishingbot.FishingBot;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.security.KeyFactory;
+import java.security.PrivateKey;
+import java.security.PublicKey;
+import java.security.spec.PKCS8EncodedKeySpec;
+import java.security.spec.X509EncodedKeySpec;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+/**
+ * Credentials of all accounts used on this machine, stored in one json file next to the refresh token.
+ * Keeps the refresh token, the last Minecraft access token and the profile keys of every account with their expiry,
+ * so a bot (re)starting with still valid credentials does not need to contact Microsoft or Mojang.
+ * Bots in other processes share the file, every change is made under a file lock.
+ */
+public class TokenVault {
+
+    private static final Gson GSON = new GsonBuilder().setPrettyPrinting().create();
+    private static final String FILE_NAME = "tokens.json";
+
+    private static volatile TokenVault instance;
+
+    @Getter private final File file;
+    private final File lockFile;
+
+    public TokenVault(File file) {
+        this.file = file;
+        this.lockFile = new File(file.getPath() + ".lock");
+    }
+
+    public static TokenVault getInstance() {
+        TokenVault vault = instance;
+        if (vault == null) {
+            synchronized (TokenVault.class) {
+                vault = instance;
+                if (vault == null) {
+                    File folder = FishingBot.getInstance().getRefreshTokenFile().getAbsoluteFile().getParentFile();
+                    instance = vault = new TokenVault(new File(folder, FILE_NAME));
+                }
+            }
+        }
+        return vault;
+    }
+
+    /**
+     * @return the key of the account the current bot uses, its configured mail
+     */
+    public static String getCurrentAccount() {
+        return FishingBot.getInstance().getCurrentBot().getConfig().getUserName();
+    }
+
+    public synchronized Optional<Account> get(String account) {
+        try (FileChannel channel = openLock(); FileLock ignored = channel.lock()) {
+            return Optional.ofNullable(read().get(account));
+        } catch (IOException e) {
+            e.printStackTrace();
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Changes the entry of the account, creating it if there is none yet
+     */
+    public synchronized void update(String account, Consumer<Account> change) {
+        update(account, true, change);
+    }
+
+    /**
+     * Changes the entry of the account, accounts not logged in with Microsoft have none and are left alone
+     */
+    public synchronized void updateExisting(String account, Consumer<Account> change) {
+        update(account, false, change);
+    }
+
+    private void update(String account, boolean create, Consumer<Account> change) {
+        try (FileChannel channel = openLock(); FileLock ignored = channel.lock()) {
+            Map<String, Account> accounts = read();
+            Account entry = create ? accounts.computeIfAbsent(account, key -> new Account()) : accounts.get(account);
+            if (entry == null)
+                return;
+            change.accept(entry);
+            write(accounts);
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+    }
+
+    private FileChannel openLock() throws IOException {
+        File folder = lockFile.getParentFile();
+        if (folder != null && !folder.exists())
+            folder.mkdirs();
+        return FileChannel.open(lockFile.toPath(), StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+    }
+
+    private Map<String, Account> read() throws IOException {
+        if (!file.exists())
+            return new HashMap<>();
+        Map<String, Account> accounts;
+        try (Reader reader = Files.newBufferedReader(file.toPath(), StandardCharsets.UTF_8)) {
+            accounts = GSON.fromJson(reader, new TypeToken<Map<String, Account>>() { }.getType());
+        } catch (JsonParseException ex) {
+            // the other accounts' refresh tokens may still be recovered by hand, so the file is kept instead of overwritten
+            File broken = new File(file.getPath() + ".broken-" + System.currentTimeMillis());
+            Files.move(file.toPath(), broken.toPath(), StandardCopyOption.ATOMIC_MOVE);
+            FishingBot.getI18n().warning("auth-token-vault-unreadable", file.getAbsolutePath(), broken.getName());
+            return new HashMap<>();
+        }
+        return accounts == null ? new HashMap<>() : accounts;
+    }
+
+    private void write(Map<String, Account> accounts) throws IOException {
+        Path temp = new File(file.getPath() + ".tmp").toPath();
+        createOwnerOnly(temp);
+        try (Writer writer = Files.newBufferedWriter(temp, StandardCharsets.UTF_8, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            GSON.toJson(accounts, writer);
+        }
+        Files.move(temp, file.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * Creates the empty file only its owner may read, before any token is written to it
+     */
+    private static void createOwnerOnly(Path path) throws IOException {
+        Files.deleteIfExists(path);
+        if (FileSystems.getDefault().supportedFileAttributeViews().contains("posix")) {
+            Files.createFile(path, PosixFilePermissions.asFileAttribute(PosixFilePermissions.fromString("rw-------")));
+            return;
+        }
+        Files.createFile(path);
+        File created = path.toFile();
+        if (!created.setReadable(false, false) || !created.setReadable(true, true)
+                || !created.setWritable(false, false) || !created.setWritable(true, true))
+            FishingBot.getI18n().warning("auth-token-vault-permissions", created.getAbsolutePath());
+    }
+
+    @Getter
+    @Setter
+    public static class Account {
+
+        private String refreshToken;
+        private String accessToken;
+        private long accessTokenExpiresAt;
+        private String uuid;
+        private String username;
+
+        private String publicKey;
+        private String privateKey;
+        private String publicKeySignature;
+        private String publicKeySignatureV2;
+        private long profileKeysExpiresAt;
+
+        public boolean hasAccessToken(long validFor) {
+            return accessToken != null && uuid != null && username != null
+                    && accessTokenExpiresAt - System.currentTimeMillis() > validFor;
+        }
+
+        public AuthData toAuthData() {
+            return new AuthData(accessToken, uuid, username);
+        }
+
+        /**
+         * @return the stored profile keys with the signature for the protocol, or null if they expire within validFor millis
+         */
+        public AuthData.ProfileKeys getProfileKeys(boolean signatureV2, long validFor) {
+            String signature = signatureV2 ? publicKeySignatureV2 : publicKeySignature;
+            if (publicKey == null || privateKey == null || signature == null
+                    || profileKeysExpiresAt - System.currentTimeMillis() <= validFor)
+                return null;
+            try {
+                KeyFactory keyFactory = KeyFactory.getInstance("RSA");
+                PublicKey pubKey = keyFactory.generatePublic(new X509EncodedKeySpec(Base64.getDecoder().decode(publicKey)));
+                PrivateKey privKey = keyFactory.generatePrivate(new PKCS8EncodedKeySpec(Base64.getDecoder().decode(privateKey)));
+                return new AuthData.ProfileKeys(pubKey, signature, privKey, profileKeysExpiresAt);
+            } catch (Exception ex) {
+                ex.printStackTrace();
+                return null;
+            }
+        }
+
+        public void setProfileKeys(PublicKey pubKey, PrivateKey privKey, String signature, String signatureV2, long expiresAt) {
+            this.publicKey = Base64.getEncoder().encodeToString(pubKey.getEncoded());
+            this.privateKey = Base64.getEncoder().encodeToString(privKey.getEncoded());
+            this.publicKeySignature = signature;
+            this.publicKeySignatureV2 = signatureV2;
+            this.profileKeysExpiresAt = expiresAt;
+        }
+
+        public void clearProfileKeys() {
+            this.publicKey = null;
+            this.privateKey = null;
+            this.publicKeySignature = null;
+            this.publicKeySignatureV2 = null;
+            this.profileKeysExpiresAt = 0;
+        }
+    }
+}
@@ -4,12 +4,12 @@ import com.google.gson.JsonObject;
 import com.google.gson.JsonParser;
 import org.apache.http.HttpHeaders;
 import org.apache.http.HttpResponse;
-import org.apache.http.client.HttpClient;
 import org.apache.http.client.methods.HttpUriRequest;
 import org.apache.http.client.methods.RequestBuilder;
-import org.apache.http.impl.client.HttpClientBuilder;
 import org.apache.http.util.EntityUtils;
 import systems.kinau.fishingbot.FishingBot;
+import systems.kinau.fishingbot.auth.MicrosoftAuthenticator;
+import systems.kinau.fishingbot.network.http.SharedHttpClient;
 
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
@@ -21,9 +21,11 @@ import java.nio.charset.StandardCharsets;
  */
 public class AccessTokenGenerator {
 
-    private static final HttpClient CLIENT = HttpClientBuilder.create().build();
-
     public static AccessTokenCallback createAccessToken(String refreshToken, String clientId) {
+        return createAccessToken(MicrosoftAuthenticator.MSA_ENDPOINT, refreshToken, clientId);
+    }
+
+    public static AccessTokenCallback createAccessToken(String endpoint, String refreshToken, String clientId) {
         if (refreshToken == null || refreshToken.trim().isEmpty()) {
             throw new IllegalArgumentException("User does not have a refresh token");
         }
@@ -31,7 +33,7 @@ public class AccessTokenGenerator {
         FishingBot.getI18n().info("auth-try-refreshing-access-token");
 
         HttpUriRequest request = RequestBuilder.post()
-            .setUri("https://login.microsoftonline.com/consumers/oauth2/v2.0/token")
+            .setUri(endpoint + "/token")
             .setHeader(HttpHeaders.CONTENT_TYPE, "application/x-www-form-urlencoded")
             .addParameter("client_id", clientId)
             .addParameter("grant_type", "refresh_token")
@@ -39,7 +41,7 @@ public class AccessTokenGenerator {
             .build();
 
         try {
-            HttpResponse response = CLIENT.execute(request);
+            HttpResponse response = SharedHttpClient.getInstance().execute(request);
 
             if (response.getStatusLine().getStatusCode() != 200) {
                 EntityUtils.consumeQuietly(response.getEntity());
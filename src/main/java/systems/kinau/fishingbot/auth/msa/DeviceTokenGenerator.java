@@ -4,11 +4,11 @@ import com.google.gson.JsonObject;
 import com.google.gson.JsonParser;
 import org.apache.http.HttpHeaders;
 import org.apache.http.HttpResponse;
-import org.apache.http.client.HttpClient;
 import org.apache.http.client.methods.HttpUriRequest;
 import org.apache.http.client.methods.RequestBuilder;
-import org.apache.http.impl.client.HttpClientBuilder;
 import org.apache.http.util.EntityUtils;
+import systems.kinau.fishingbot.auth.MicrosoftAuthenticator;
+import systems.kinau.fishingbot.network.http.SharedHttpClient;
 
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
@@ -20,18 +20,20 @@ import java.nio.charset.StandardCharsets;
  */
 public class DeviceTokenGenerator {
 
-    private static final HttpClient CLIENT = HttpClientBuilder.create().build();
-
     public static DeviceTokenCallback createDeviceToken(String clientId) {
+        return createDeviceToken(MicrosoftAuthenticator.MSA_ENDPOINT, clientId);
+    }
+
+    public static DeviceTokenCallback createDeviceToken(String endpoint, String clientId) {
         HttpUriRequest request = RequestBuilder.post()
-            .setUri("https://login.microsoftonline.com/consumers/oauth2/v2.0/devicecode")
+            .setUri(endpoint + "/devicecode")
             .setHeader(HttpHeaders.CONTENT_TYPE, "application/x-www-form-urlencoded")
             .addParameter("client_id", clientId)
             .addParameter("scope", "XboxLive.signin offline_access")
             .build();
 
         try {
-            HttpResponse response = CLIENT.execute(request);
+            HttpResponse response = SharedHttpClient.getInstance().execute(request);
 
             if (response.getStatusLine().getStatusCode() != 200) {
                 EntityUtils.consumeQuietly(response.getEntity());
@@ -4,12 +4,12 @@ import com.google.gson.JsonObject;
 import com.google.gson.JsonParser;
 import org.apache.http.HttpHeaders;
 import org.apache.http.HttpResponse;
-import org.apache.http.client.HttpClient;
 import org.apache.http.client.methods.HttpUriRequest;
 import org.apache.http.client.methods.RequestBuilder;
-import org.apache.http.impl.client.HttpClientBuilder;
 import org.apache.http.util.EntityUtils;
 import systems.kinau.fishingbot.FishingBot;
+import systems.kinau.fishingbot.auth.MicrosoftAuthenticator;
+import systems.kinau.fishingbot.network.http.SharedHttpClient;
 import systems.kinau.fishingbot.utils.Pair;
 
 import java.io.IOException;
@@ -24,14 +24,16 @@ import java.util.concurrent.atomic.AtomicReference;
  */
 public class RefreshTokenCallback {
 
-    private static final HttpClient CLIENT = HttpClientBuilder.create().build();
-
     public static String await(DeviceTokenCallback callback, String clientId) throws ObtainTokenException {
-        AtomicReference<Pair<RefreshTokenResult, String>> refreshToken = new AtomicReference<>(get(callback, clientId));
+        return await(MicrosoftAuthenticator.MSA_ENDPOINT, callback, clientId);
+    }
+
+    public static String await(String endpoint, DeviceTokenCallback callback, String clientId) throws ObtainTokenException {
+        AtomicReference<Pair<RefreshTokenResult, String>> refreshToken = new AtomicReference<>(get(endpoint, callback, clientId));
 
         while (refreshToken.get().getKey() == RefreshTokenResult.AUTHORIZATION_PENDING) {
             FishingBot.getLog().info(refreshToken.get().getValue());
-            refreshToken.set(get(callback, clientId));
+            refreshToken.set(get(endpoint, callback, clientId));
 
             if (FishingBot.getInstance().getCurrentBot().isPreventStartup())
                 break;
@@ -57,9 +59,9 @@ public class RefreshTokenCallback {
         }
     }
 
-    private static Pair<RefreshTokenResult, String> get(DeviceTokenCallback callback, String clientId) {
+    private static Pair<RefreshTokenResult, String> get(String endpoint, DeviceTokenCallback callback, String clientId) {
         HttpUriRequest request = RequestBuilder.post()
-            .setUri("https://login.microsoftonline.com/consumers/oauth2/v2.0/token")
+            .setUri(endpoint + "/token")
             .setHeader(HttpHeaders.CONTENT_TYPE, "application/x-www-form-urlencoded")
             .addParameter("grant_type", "urn:ietf:params:oauth:grant-type:device_code")
             .addParameter("client_id", clientId)
@@ -67,7 +69,7 @@ public class RefreshTokenCallback {
             .build();
 
         try {
-            HttpResponse response = CLIENT.execute(request);
+            HttpResponse response = SharedHttpClient.getInstance().execute(request);
             JsonObject object = new JsonParser().parse(EntityUtils.toString(response.getEntity(), StandardCharsets.UTF_8)).getAsJsonObject();
 
             // Token has not been generated
@@ -0,0 +1,12 @@
+package systems.kinau.fishingbot.bot;
+
+public enum ChatPriority {
+
+    // commands keeping the bot alive, e.g. before death or on respawn
+    HIGH,
+    // commands and replies
+    NORMAL,
+    // announcements, merged and dropped first if the queue is full
+    LOW
+
+}
@@ -0,0 +1,200 @@
+package systems.kinau.fishingbot.bot;
+
+import lombok.Getter;
+import systems.kinau.fishingbot.Bot;
+import systems.kinau.fishingbot.FishingBot;
+import systems.kinau.fishingbot.network.protocol.ProtocolConstants;
+import systems.kinau.fishingbot.tick.TickTask;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+/**
+ * Sends chat lines and commands of the player without triggering the servers spam protection.
+ * Lines are queued by priority and sent while the token bucket (refilled by one token per interval) is not empty.
+ * Identical queued announcements are only sent once and consecutive announcements are merged into one line.
+ * The tick task is only registered at the {@link systems.kinau.fishingbot.tick.TickEngine} while lines are queued.
+ */
+public class ChatScheduler {
+
+    private static final String MERGE_SEPARATOR = " | ";
+
+    private final Player player;
+    private final Deque<QueuedLine>[] queues;
+    private TickTask tickTask;
+
+    private double tokens;
+    private long lastRefill;
+
+    @Getter private long sentLines;
+    @Getter private long droppedLines;
+    @Getter private long coalescedLines;
+    @Getter private long maxLatency;
+    private long totalLatency;
+
+    @SuppressWarnings("unchecked")
+    public ChatScheduler(Player player) {
+        this.player = player;
+        this.queues = new Deque[ChatPriority.values().length];
+        for (int i = 0; i < queues.length; i++) {
+            queues[i] = new ArrayDeque<>();
+        }
+        this.tokens = getBurst();
+        this.lastRefill = System.currentTimeMillis();
+    }
+
+    public synchronized boolean enqueue(String line, ChatPriority priority) {
+        Deque<QueuedLine> queue = queues[priority.ordinal()];
+        // only repeated announcements are pointless, commands may be sent several times on purpose
+        if (priority == ChatPriority.LOW && !line.startsWith("/")) {
+            for (QueuedLine queuedLine : queue) {
+                if (queuedLine.line.equals(line)) {
+                    coalescedLines++;
+                    return true;
+                }
+            }
+        }
+
+        if (getQueued() >= getMaxQueued() && !dropLowerThan(priority)) {
+            droppedLines++;
+            return false;
+        }
+
+        queue.addLast(new QueuedLine(line, System.currentTimeMillis()));
+        if (tickTask == null)
+            this.tickTask = FishingBot.getTickEngine().scheduleRepeating("chat", this::tick, 0, 1);
+        return true;
+    }
+
+    public synchronized int getQueued() {
+        int queued = 0;
+        for (Deque<QueuedLine> queue : queues) {
+            queued += queue.size();
+        }
+        return queued;
+    }
+
+    public synchronized double getAverageLatency() {
+        return sentLines == 0 ? 0 : (double) totalLatency / sentLines;
+    }
+
+    public void cancel() {
+        synchronized (this) {
+            for (Deque<QueuedLine> queue : queues) {
+                droppedLines += queue.size();
+                queue.clear();
+            }
+            stopTicking();
+        }
+    }
+
+    private void tick() {
+        Bot bot = FishingBot.getInstance().getCurrentBot();
+        if (bot == null || bot.getNet() == null) {
+            cancel();
+            return;
+        }
+        while (true) {
+            String line;
+            synchronized (this) {
+                refill();
+                if (tokens < 1)
+                    return;
+                line = poll(bot.getServerProtocol());
+                if (line == null) {
+                    stopTicking();
+                    return;
+                }
+                tokens--;
+            }
+            try {
+                player.sendChatLine(line);
+            } catch (Exception ex) {
+                ex.printStackTrace();
+            }
+        }
+    }
+
+    private String poll(int protocol) {
+        for (int priority = 0; priority < queues.length; priority++) {
+            QueuedLine queuedLine = queues[priority].pollFirst();
+            if (queuedLine == null)
+                continue;
+            registerSent(queuedLine);
+            if (priority != ChatPriority.LOW.ordinal() || queuedLine.line.startsWith("/"))
+                return queuedLine.line;
+
+            StringBuilder merged = new StringBuilder(queuedLine.line);
+            int maxLength = protocol < ProtocolConstants.MINECRAFT_1_11 ? 100 : 256;
+            QueuedLine next;
+            while ((next = queues[priority].peekFirst()) != null && !next.line.startsWith("/")
+                    && merged.length() + MERGE_SEPARATOR.length() + next.line.length() <= maxLength) {
+                queues[priority].pollFirst();
+                merged.append(MERGE_SEPARATOR).append(next.line);
+                registerSent(next);
+                coalescedLines++;
+            }
+            return merged.toString();
+        }
+        return null;
+    }
+
+    private void registerSent(QueuedLine queuedLine) {
+        long latency = System.currentTimeMillis() - queuedLine.queuedAt;
+        this.sentLines++;
+        this.totalLatency += latency;
+        this.maxLatency = Math.max(maxLatency, latency);
+    }
+
+    private boolean dropLowerThan(ChatPriority priority) {
+        for (int lower = queues.length - 1; lower > priority.ordinal(); lower--) {
+            if (queues[lower].pollFirst() != null) {
+                droppedLines++;
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void refill() {
+        long now = System.currentTimeMillis();
+        long interval = Math.max(1, FishingBot.getInstance().getCurrentBot().getConfig().getChatRefillInterval());
+        this.tokens = Math.min(getBurst(), tokens + (double) (now - lastRefill) / interval);
+        this.lastRefill = now;
+    }
+
+    private int getBurst() {
+        return Math.max(1, FishingBot.getInstance().getCurrentBot().getConfig().getChatBurst());
+    }
+
+    private int getMaxQueued() {
+        return Math.max(1, FishingBot.getInstance().getCurrentBot().getConfig().getChatMaxQueued());
+    }
+
+    private void stopTicking() {
+        if (tickTask != null)
+            tickTask.cancel();
+        this.tickTask = null;
+    }
+
+    @Override
+    public synchronized String toString() {
+        return "queued: " + getQueued()
+                + ", sent: " + sentLines
+                + ", coalesced: " + coalescedLines
+                + ", dropped: " + droppedLines
+                + ", latency avg: " + String.format("%.1f", getAverageLatency()) + "ms"
+                + ", max: " + maxLatency + "ms";
+    }
+
+    private static class QueuedLine {
+
+        private final String line;
+        private final long queuedAt;
+
+        private QueuedLine(String line, long queuedAt) {
+            this.line = line;
+            this.queuedAt = queuedAt;
+        }
+    }
+}
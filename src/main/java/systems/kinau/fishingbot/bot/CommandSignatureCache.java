@@ -0,0 +1,94 @@
+package systems.kinau.fishingbot.bot;
+
+import com.mojang.brigadier.arguments.ArgumentType;
+import com.mojang.brigadier.context.CommandContextBuilder;
+import com.mojang.brigadier.context.ParsedArgument;
+import com.mojang.brigadier.tree.ArgumentCommandNode;
+import com.mojang.brigadier.tree.CommandNode;
+import systems.kinau.fishingbot.modules.command.CommandExecutor;
+import systems.kinau.fishingbot.modules.command.brigardier.LazyCommandTree;
+import systems.kinau.fishingbot.modules.command.brigardier.argument.MessageArgumentType;
+import systems.kinau.fishingbot.network.utils.CryptManager;
+import systems.kinau.fishingbot.utils.CommandUtils;
+import systems.kinau.fishingbot.utils.Pair;
+
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * Caches which arguments of outgoing commands have to be signed.
+ * Commands without arguments or whose literal has no message argument anywhere in its subtree are never parsed,
+ * parse results of all other commands are cached by the full command.
+ * The lazy command tree is only decoded on a cache miss.
+ * Everything is bound to the command tree it was computed for and dropped as soon as the server sends a new one.
+ */
+public class CommandSignatureCache {
+
+    private static final int MAX_CACHED_COMMANDS = 256;
+
+    private LazyCommandTree tree;
+    private final Map<String, Boolean> signableLiterals = new HashMap<>();
+    private final Map<String, List<CryptManager.SignableArgument>> commands = new LinkedHashMap<String, List<CryptManager.SignableArgument>>(16, 0.75F, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, List<CryptManager.SignableArgument>> eldest) {
+            return size() > MAX_CACHED_COMMANDS;
+        }
+    };
+
+    public synchronized void invalidate() {
+        this.tree = null;
+        signableLiterals.clear();
+        commands.clear();
+    }
+
+    /**
+     * @param command the command without leading slash
+     * @return the arguments to sign, empty if the command contains no message argument
+     */
+    public synchronized List<CryptManager.SignableArgument> getSignableArguments(LazyCommandTree tree, String command) {
+        if (this.tree != tree) {
+            invalidate();
+            this.tree = tree;
+        }
+
+        int literalEnd = command.indexOf(' ');
+        if (literalEnd < 0)
+            return Collections.emptyList();
+        String literal = command.substring(0, literalEnd);
+        if (!signableLiterals.computeIfAbsent(literal, this::mayContainSignableArguments))
+            return Collections.emptyList();
+
+        List<CryptManager.SignableArgument> signableArguments = commands.get(command);
+        if (signableArguments != null)
+            return signableArguments;
+
+        CommandContextBuilder<CommandExecutor> context = tree.getDispatcher().parse(command, CommandExecutor.UNSET).getContext();
+        Map<String, Pair<ArgumentType<?>, ParsedArgument<CommandExecutor, ?>>> arguments = CommandUtils.getArguments(context);
+        signableArguments = Collections.unmodifiableList(arguments.entrySet().stream()
+                .filter(entry -> entry.getValue().getKey() instanceof MessageArgumentType)
+                .map(entry -> new CryptManager.SignableArgument(entry.getKey(), entry.getValue().getValue().getResult().toString()))
+                .collect(Collectors.toList()));
+        commands.put(command, signableArguments);
+        return signableArguments;
+    }
+
+    private boolean mayContainSignableArguments(String literal) {
+        CommandNode<CommandExecutor> node = tree.getDispatcher().getRoot().getChild(literal);
+        // unknown literals are still parsed, the parse result decides
+        if (node == null)
+            return true;
+        return containsMessageArgument(node, Collections.newSetFromMap(new IdentityHashMap<>()));
+    }
+
+    private boolean containsMessageArgument(CommandNode<CommandExecutor> node, Set<CommandNode<CommandExecutor>> visited) {
+        if (!visited.add(node))
+            return false;
+        if (node instanceof ArgumentCommandNode && ((ArgumentCommandNode<?, ?>) node).getType() instanceof MessageArgumentType)
+            return true;
+        for (CommandNode<CommandExecutor> child : node.getChildren()) {
+            if (containsMessageArgument(child, visited))
+                return true;
+        }
+        return node.getRedirect() != null && containsMessageArgument(node.getRedirect(), visited);
+    }
+}
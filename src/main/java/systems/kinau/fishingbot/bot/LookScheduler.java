@@ -0,0 +1,117 @@
+package systems.kinau.fishingbot.bot;
+
+import systems.kinau.fishingbot.Bot;
+import systems.kinau.fishingbot.FishingBot;
+import systems.kinau.fishingbot.network.protocol.play.PacketOutPosLook;
+import systems.kinau.fishingbot.tick.TickTask;
+import systems.kinau.fishingbot.utils.LocationUtils;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Interpolates the players rotation towards a target, one step (and one look packet) per game tick.
+ * The tick task is only registered at the {@link systems.kinau.fishingbot.tick.TickEngine} while a look is in progress.
+ */
+public class LookScheduler {
+
+    private final Player player;
+    private TickTask tickTask;
+    private Look current;
+
+    public LookScheduler(Player player) {
+        this.player = player;
+    }
+
+    /**
+     * Starts rotating towards yaw and pitch
+     *
+     * @return a future completed with true after the last step has been sent, or with false if
+     *         another look is still in progress or the bot disconnected while looking
+     */
+    public synchronized CompletableFuture<Boolean> look(float yaw, float pitch, int speed) {
+        if (current != null)
+            return CompletableFuture.completedFuture(false);
+
+        float yawDiff = LocationUtils.yawDiff(player.getYaw(), yaw);
+        float pitchDiff = LocationUtils.yawDiff(player.getPitch(), pitch);
+        int steps = (int) Math.ceil(Math.max(Math.abs(yawDiff), Math.abs(pitchDiff)) / Math.max(1, speed));
+
+        this.current = new Look(steps, steps == 0 ? 0 : yawDiff / steps, steps == 0 ? 0 : pitchDiff / steps);
+        if (tickTask == null)
+            this.tickTask = FishingBot.getTickEngine().scheduleRepeating("look", this::tick, 0, 1);
+        return current.future;
+    }
+
+    public synchronized boolean isLooking() {
+        return current != null;
+    }
+
+    public void cancel() {
+        Look look;
+        synchronized (this) {
+            look = current;
+            this.current = null;
+            stopTicking();
+        }
+        if (look != null)
+            look.future.complete(false);
+    }
+
+    private void tick() {
+        Look look;
+        boolean success;
+        synchronized (this) {
+            look = current;
+            if (look == null) {
+                stopTicking();
+                return;
+            }
+            Bot bot = FishingBot.getInstance().getCurrentBot();
+            success = bot != null && bot.getNet() != null;
+            if (success && look.remainingSteps > 0) {
+                look.remainingSteps--;
+                player.setYaw(player.getYaw() + look.yawPerStep);
+                player.setPitch(player.getPitch() + look.pitchPerStep);
+                if (player.getYaw() > 180)
+                    player.setYaw(-180 + (player.getYaw() - 180));
+                if (player.getYaw() < -180)
+                    player.setYaw(180 + (player.getYaw() + 180));
+                bot.getNet().sendPacket(new PacketOutPosLook(player.getX(), player.getY(), player.getZ(), player.getYaw(), player.getPitch(), true));
+                return;
+            }
+            this.current = null;
+        }
+
+        // completed outside of the lock, so dependent actions are able to start the next look right away
+        try {
+            look.future.complete(success);
+        } catch (Exception ex) {
+            ex.printStackTrace();
+        }
+
+        synchronized (this) {
+            if (current == null)
+                stopTicking();
+        }
+    }
+
+    private void stopTicking() {
+        if (tickTask != null)
+            tickTask.cancel();
+        this.tickTask = null;
+    }
+
+    private static class Look {
+
+        private final CompletableFuture<Boolean> future = new CompletableFuture<>();
+        private final float yawPerStep;
+        private final float pitchPerStep;
+        private int remainingSteps;
+
+        private Look(int steps, float yawPerStep, float pitchPerStep) {
+            this.remainingSteps = steps;
+            this.yawPerStep = yawPerStep;
+            this.pitchPerStep = pitchPerStep;
+        }
+    }
+}
@@ -5,10 +5,6 @@
 
 package systems.kinau.fishingbot.bot;
 
-import com.mojang.brigadier.CommandDispatcher;
-import com.mojang.brigadier.arguments.ArgumentType;
-import com.mojang.brigadier.context.CommandContextBuilder;
-import com.mojang.brigadier.context.ParsedArgument;
 import lombok.Getter;
 import lombok.Setter;
 import systems.kinau.fishingbot.FishingBot;
@@ -17,8 +13,7 @@ import systems.kinau.fishingbot.event.EventHandler;
 import systems.kinau.fishingbot.event.Listener;
 import systems.kinau.fishingbot.event.custom.RespawnEvent;
 import systems.kinau.fishingbot.event.play.*;
-import systems.kinau.fishingbot.modules.command.CommandExecutor;
-import systems.kinau.fishingbot.modules.command.brigardier.argument.MessageArgumentType;
+import systems.kinau.fishingbot.modules.command.brigardier.LazyCommandTree;
 import systems.kinau.fishingbot.modules.fishing.AnnounceType;
 import systems.kinau.fishingbot.network.protocol.ProtocolConstants;
 import systems.kinau.fishingbot.network.protocol.play.*;
@@ -27,9 +22,9 @@ import systems.kinau.fishingbot.network.utils.CryptManager;
 import systems.kinau.fishingbot.utils.*;
 
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
-import java.util.stream.Collectors;
 
 public class Player implements Listener {
 
@@ -53,14 +48,16 @@ public class Player implements Listener {
     @Getter @Setter private Inventory inventory;
     @Getter         private final Map<Integer, Inventory> openedInventories = new HashMap<>();
     @Getter @Setter private Optional<CryptManager.MessageSignature> lastUsedSignature = Optional.empty();
-    @Getter @Setter private CommandDispatcher<CommandExecutor> mcCommandDispatcher;
+    @Getter @Setter private LazyCommandTree mcCommandTree;
 
     @Getter @Setter private UUID uuid;
 
     @Getter @Setter private int entityID = -1;
     @Getter @Setter private int lastPing = 500;
 
-    @Getter @Setter private Thread lookThread;
+    @Getter         private final LookScheduler lookScheduler = new LookScheduler(this);
+    @Getter         private final ChatScheduler chatScheduler = new ChatScheduler(this);
+    @Getter         private final CommandSignatureCache commandSignatureCache = new CommandSignatureCache();
 
     public Player() {
         this.inventory = new Inventory();
@@ -172,7 +169,7 @@ public class Player implements Listener {
         if (FishingBot.getInstance().getCurrentBot().getConfig().isAutoCommandBeforeDeathEnabled()) {
             if (event.getHealth() < getHealth() && event.getHealth() <= FishingBot.getInstance().getCurrentBot().getConfig().getMinHealthBeforeDeath() && !isSentLowHealth()) {
                 for (String command : FishingBot.getInstance().getCurrentBot().getConfig().getAutoCommandBeforeDeath()) {
-                    FishingBot.getInstance().getCurrentBot().runCommand(command, true);
+                    FishingBot.getInstance().getCurrentBot().runCommand(command, true, ChatPriority.HIGH);
                 }
                 setSentLowHealth(true);
             } else if (isSentLowHealth() && event.getHealth() > FishingBot.getInstance().getCurrentBot().getConfig().getMinHealthBeforeDeath())
@@ -197,7 +194,7 @@ public class Player implements Listener {
             } catch (InterruptedException ignore) { }
             if (FishingBot.getInstance().getCurrentBot().getConfig().isAutoCommandOnRespawnEnabled()) {
                 for (String command : FishingBot.getInstance().getCurrentBot().getConfig().getAutoCommandOnRespawn()) {
-                    FishingBot.getInstance().getCurrentBot().runCommand(command, true);
+                    FishingBot.getInstance().getCurrentBot().runCommand(command, true, ChatPriority.HIGH);
                 }
             }
         }).start();
@@ -210,14 +207,19 @@ public class Player implements Listener {
 
     @EventHandler
     public void onCommandsRegistered(CommandsRegisteredEvent event) {
-        setMcCommandDispatcher(event.getCommandDispatcher());
+        if (event.getCommandTree() == getMcCommandTree())
+            return;
+        setMcCommandTree(event.getCommandTree());
+        getCommandSignatureCache().invalidate();
     }
 
     public void respawn() {
         FishingBot.getInstance().getCurrentBot().getNet().sendPacket(new PacketOutClientStatus(PacketOutClientStatus.Action.PERFORM_RESPAWN));
 
         if (FishingBot.getInstance().getCurrentBot().getConfig().isAutoSneak()) {
-            FishingBot.getScheduler().schedule(() -> {
+            FishingBot.getTickEngine().schedule("auto-sneak", () -> {
+                if (FishingBot.getInstance().getCurrentBot() == null || FishingBot.getInstance().getCurrentBot().getNet() == null)
+                    return;
                 FishingBot.getInstance().getCurrentBot().getNet().sendPacket(new PacketOutEntityAction(EntityAction.START_SNEAKING));
                 this.sneaking = true;
             }, 250, TimeUnit.MILLISECONDS);
@@ -225,40 +227,43 @@ public class Player implements Listener {
     }
 
     public void sendMessage(String message) {
+        sendMessage(message, ChatPriority.NORMAL);
+    }
+
+    public void sendMessage(String message, ChatPriority priority) {
         message = message.replace("%prefix%", FishingBot.PREFIX);
         for (String line : message.split("\n")) {
             if (FishingBot.getInstance().getCurrentBot().getServerProtocol() == ProtocolConstants.MINECRAFT_1_8) {
                 for (String split : StringUtils.splitDescription(line)) {
-                    FishingBot.getInstance().getCurrentBot().getNet().sendPacket(new PacketOutChatMessage(split));
+                    getChatScheduler().enqueue(split, priority);
                 }
-            } else if (FishingBot.getInstance().getCurrentBot().getServerProtocol() < ProtocolConstants.MINECRAFT_1_19) {
-                FishingBot.getInstance().getCurrentBot().getNet().sendPacket(new PacketOutChatMessage(line));
             } else {
-                if (line.startsWith("/"))
-                    executeChatCommand(line.substring(1));
-                else
-                    FishingBot.getInstance().getCurrentBot().getNet().sendPacket(new PacketOutChatMessage(line));
+                getChatScheduler().enqueue(line, priority);
             }
         }
     }
 
+    /**
+     * Sends a single line immediately, use {@link #sendMessage(String, ChatPriority)} to respect the chat rate limit
+     */
+    public void sendChatLine(String line) {
+        if (FishingBot.getInstance().getCurrentBot().getServerProtocol() >= ProtocolConstants.MINECRAFT_1_19 && line.startsWith("/"))
+            executeChatCommand(line.substring(1));
+        else
+            FishingBot.getInstance().getCurrentBot().getNet().sendPacket(new PacketOutChatMessage(line));
+    }
+
     private void executeChatCommand(String command) {
-        if (mcCommandDispatcher == null) {
+        if (mcCommandTree == null) {
             FishingBot.getInstance().getCurrentBot().getNet().sendPacket(new PacketOutChatCommand(command));
             return;
         }
 
-        CommandContextBuilder<CommandExecutor> context = mcCommandDispatcher.parse(command, CommandExecutor.UNSET).getContext();
-        Map<String, Pair<ArgumentType<?>, ParsedArgument<CommandExecutor, ?>>> arguments = CommandUtils.getArguments(context);
-        boolean containsSignableArguments = arguments.values().stream().anyMatch(argument -> argument.getKey() instanceof MessageArgumentType);
-        if (!containsSignableArguments) {
+        List<CryptManager.SignableArgument> signableArguments = getCommandSignatureCache().getSignableArguments(mcCommandTree, command);
+        if (signableArguments.isEmpty()) {
             FishingBot.getInstance().getCurrentBot().getNet().sendPacket(new PacketOutChatCommand(command));
             return;
         }
-        List<CryptManager.SignableArgument> signableArguments = arguments.entrySet().stream()
-                .filter(entry -> entry.getValue().getKey() instanceof MessageArgumentType)
-                .map(entry -> new CryptManager.SignableArgument(entry.getKey(), entry.getValue().getValue().getResult().toString()))
-                .collect(Collectors.toList());
         FishingBot.getInstance().getCurrentBot().getNet().sendPacket(new PacketOutChatCommand(command, signableArguments));
     }
 
@@ -306,21 +311,24 @@ public class Player implements Listener {
     }
 
     public void shiftToInventory(int slotId, Inventory inventory) {
+        shiftToWindow(slotId, inventory.getWindowId(), inventory.getContent().size(), inventory.getActionCounter());
+    }
+
+    public void shiftToWindow(int slotId, int windowId, int windowSize, short actionCounter) {
         // This is not notchian behaviour, but it works
         Map<Short, Slot> remainingSlots = new HashMap<>();
         remainingSlots.put((short) slotId, Slot.EMPTY);
         FishingBot.getInstance().getCurrentBot().getNet().sendPacket(
                 new PacketOutClickWindow(
-                        /* player inventory */ inventory.getWindowId(),
-                        /* the clicked slot */ (short) (slotId + (inventory.getContent().size() == 63 ? 18 : 45)),
+                        /* window */ windowId,
+                        /* the clicked slot, the player inventory follows the container slots */ (short) (slotId + windowSize - 45),
                         /* use right click */ (byte) 0,
-                        /* action count starting at 1 */ inventory.getActionCounter(),
+                        /* action count starting at 1 */ actionCounter,
                         /* shift click mode */ 1,
                         /* slot */ getInventory().getContent().get(slotId),
                         remainingSlots
                 )
         );
-        try { Thread.sleep(20); } catch (InterruptedException ignore) { }
 
         FishingBot.getInstance().getCurrentBot().getPlayer().getInventory().getContent().put(slotId, Slot.EMPTY);
     }
@@ -331,55 +339,21 @@ public class Player implements Listener {
         return look(yaw, pitch, FishingBot.getInstance().getCurrentBot().getConfig().getLookSpeed(), onFinish);
     }
 
-    public boolean look(float yaw, float pitch, int speed) {
-        return look(yaw, pitch, speed, null);
+    public CompletableFuture<Boolean> look(float yaw, float pitch, int speed) {
+        return getLookScheduler().look(yaw, pitch, speed);
     }
 
     public boolean look(float yaw, float pitch, int speed, Consumer<Boolean> onFinish) {
-        if (lookThread != null && Thread.currentThread().getId() != lookThread.getId() && lookThread.isAlive()) {
+        CompletableFuture<Boolean> look = look(yaw, pitch, speed);
+        if (look.isDone() && !look.join())
             return false;
-        } else if (lookThread != null && Thread.currentThread().getId() == lookThread.getId() && lookThread.isAlive()) {
-            internalLook(yaw, pitch, speed, onFinish); // calling look inside onFinish
-            return true;
-        }
-
-        this.lookThread = new Thread(() -> {
-            internalLook(yaw, pitch, speed, onFinish);
-        });
-        getLookThread().start();
-        return true;
-    }
-
-    private void internalLook(float yaw, float pitch, int speed, Consumer<Boolean> onFinish) {
-        float yawDiff = LocationUtils.yawDiff(getYaw(), yaw);
-        float pitchDiff = LocationUtils.yawDiff(getPitch(), pitch);
-
-        int steps = (int) Math.ceil(Math.max(Math.abs(yawDiff), Math.abs(pitchDiff)) / Math.max(1, speed));
-        float yawPerStep = yawDiff / steps;
-        float pitchPerStep = pitchDiff / steps;
-
-        for (int i = 0; i < steps; i++) {
-            setYaw(getYaw() + yawPerStep);
-            setPitch(getPitch() + pitchPerStep);
-            if (getYaw() > 180)
-                setYaw(-180 + (getYaw() - 180));
-            if (getYaw() < -180)
-                setYaw(180 + (getYaw() + 180));
-            FishingBot.getInstance().getCurrentBot().getNet().sendPacket(new PacketOutPosLook(getX(), getY(), getZ(), getYaw(), getPitch(), true));
-            try {
-                Thread.sleep(50);
-            } catch (InterruptedException ignore) { }
-        }
         if (onFinish != null)
-            onFinish.accept(true);
-
-        try {
-            Thread.sleep(50);
-        } catch (InterruptedException ignore) { }
+            look.thenAccept(onFinish);
+        return true;
     }
 
     public boolean isCurrentlyLooking() {
-        return !(lookThread == null || lookThread.isInterrupted() || !lookThread.isAlive());
+        return getLookScheduler().isLooking();
     }
 
     public void openAdjacentChest(LocationUtils.Direction direction) {
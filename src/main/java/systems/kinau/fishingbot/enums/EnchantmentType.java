@@ -9,7 +9,9 @@ import lombok.Getter;
 import lombok.Setter;
 
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 public enum EnchantmentType {
@@ -55,11 +57,13 @@ public enum EnchantmentType {
     SWIFT_SNEAK(-1, "swift_sneak"),
     FUTURE(-1);
 
+    private static final EnchantmentType[] BY_LEGACY_ID;
+    private static final Map<String, EnchantmentType> BY_NAME = new HashMap<>();
+
     @Getter private List<String> names;
     @Getter private int legacyId;
     @Getter @Setter private String futureName;
 
-
     EnchantmentType(int legacyId, String... names) {
         this.legacyId = legacyId;
         this.names = Arrays.asList(names);
@@ -72,17 +76,26 @@ public enum EnchantmentType {
     }
 
     public static Optional<EnchantmentType> getFromId(int id) {
-        return Arrays.stream(values()).filter(enchantmentType -> enchantmentType.getLegacyId() == id).findAny();
+        if (id < 0 || id >= BY_LEGACY_ID.length)
+            return Optional.empty();
+        return Optional.ofNullable(BY_LEGACY_ID[id]);
     }
 
     public static Optional<EnchantmentType> getFromName(String name) {
         if (name.startsWith("minecraft:"))
-            name = name.replace("minecraft:", "");
+            name = name.substring("minecraft:".length());
+        return Optional.ofNullable(BY_NAME.get(name));
+    }
+
+    static {
+        int maxLegacyId = Arrays.stream(values()).mapToInt(EnchantmentType::getLegacyId).max().orElse(-1);
+        BY_LEGACY_ID = new EnchantmentType[maxLegacyId + 1];
         for (EnchantmentType value : values()) {
-            if (value.getNames().contains(name))
-                return Optional.of(value);
+            if (value.getLegacyId() >= 0)
+                BY_LEGACY_ID[value.getLegacyId()] = value;
+            for (String name : value.getNames()) {
+                BY_NAME.putIfAbsent(name, value);
+            }
         }
-        return Optional.empty();
     }
-
 }
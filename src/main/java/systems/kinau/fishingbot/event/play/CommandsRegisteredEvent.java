@@ -5,10 +5,15 @@ import lombok.AllArgsConstructor;
 import lombok.Getter;
 import systems.kinau.fishingbot.event.Event;
 import systems.kinau.fishingbot.modules.command.CommandExecutor;
+import systems.kinau.fishingbot.modules.command.brigardier.LazyCommandTree;
 
 @AllArgsConstructor
 public class CommandsRegisteredEvent extends Event {
 
-    @Getter private CommandDispatcher<CommandExecutor> commandDispatcher;
+    @Getter private LazyCommandTree commandTree;
+
+    public CommandDispatcher<CommandExecutor> getCommandDispatcher() {
+        return commandTree.getDispatcher();
+    }
 
 }
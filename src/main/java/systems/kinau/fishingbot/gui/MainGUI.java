@@ -35,7 +35,7 @@ public class MainGUI extends Application {
         stage.show();
 
         // init logger
-        FishingBot.getLog().addHandler(new GUILogHandler((TextArea) loader.getNamespace().get("consoleTextArea")));
+        FishingBot.getLogHandler().addHandler(new GUILogHandler((TextArea) loader.getNamespace().get("consoleTextArea")));
 
         // Scene Builder does not accept this as fxml
         ((Accordion)loader.getNamespace().get("enchantmentsAccordion")).setExpandedPane((TitledPane)loader.getNamespace().get("booksPane"));
@@ -94,6 +94,10 @@ public class TimersConfigOption extends ConfigOption {
             timerObj.put("units", timer.getTimer().getUnits());
             timerObj.put("timeUnit", timer.getTimer().getTimeUnit().name());
             timerObj.put("commands", timer.getTimer().getCommands());
+            if (timer.getTimer().getCron() != null)
+                timerObj.put("cron", timer.getTimer().getCron());
+            if (timer.getTimer().getJitter() > 0)
+                timerObj.put("jitter", timer.getTimer().getJitter());
             rootArray.add(timerObj);
         }
         return rootArray.toJSONString();
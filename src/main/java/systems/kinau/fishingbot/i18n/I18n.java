@@ -10,6 +10,8 @@ import java.util.HashMap;
 import java.util.Map;
 import java.util.Properties;
 import java.util.ResourceBundle;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.logging.Level;
 
 /**
  * Created: 13.10.2020
@@ -21,6 +23,7 @@ public class I18n {
     private Map<String, String> locales = new HashMap<>();
     private Map<String, String> fallbackLocales = new HashMap<>();
     private final String prefix;
+    private final Map<String, Template> templates = new ConcurrentHashMap<>();
     @Getter private ResourceBundle bundle;
 
     public I18n(Language language, String defaultPrefix) {
@@ -48,27 +51,110 @@ public class I18n {
     }
 
     public String t(String key, Object... args) {
-        String value = locales.get(key);
-        if (value == null)
-            value = fallbackLocales.get(key);
-        return value == null ? "N/A" : MessageFormat.format(value, args).replace("%prefix%", prefix);
+        Template template = getTemplate(key);
+        return template == null ? "N/A" : template.format(args);
     }
 
     public void info(String key, Object... args) {
-        for (String line : t(key, args).split("\n")) {
-            FishingBot.getLog().info(line);
-        }
+        log(Level.INFO, key, args);
     }
 
     public void warning(String key, Object... args) {
-        for (String line : t(key, args).split("\n")) {
-            FishingBot.getLog().warning(line);
-        }
+        log(Level.WARNING, key, args);
     }
 
     public void severe(String key, Object... args) {
-        for (String line : t(key, args).split("\n")) {
-            FishingBot.getLog().severe(line);
+        log(Level.SEVERE, key, args);
+    }
+
+    private void log(Level level, String key, Object... args) {
+        if (!FishingBot.getLog().isLoggable(level))
+            return;
+        Template template = getTemplate(key);
+        if (template == null) {
+            FishingBot.getLog().log(level, "N/A");
+            return;
+        }
+        for (int i = 0; i < template.getLineCount(); i++) {
+            String line = template.formatLine(i, args);
+            // arguments may span multiple lines as well
+            if (line.indexOf('\n') < 0) {
+                FishingBot.getLog().log(level, line);
+                continue;
+            }
+            for (String part : line.split("\n")) {
+                FishingBot.getLog().log(level, part);
+            }
+        }
+    }
+
+    private Template getTemplate(String key) {
+        Template template = templates.get(key);
+        if (template != null)
+            return template;
+        String value = locales.get(key);
+        if (value == null)
+            value = fallbackLocales.get(key);
+        if (value == null)
+            return null;
+        template = new Template(value, prefix);
+        templates.put(key, template);
+        return template;
+    }
+
+    /**
+     * A locale entry split into its lines, each parsed once.
+     * Lines without arguments are formatted (and prefixed) right away.
+     */
+    private static class Template {
+
+        private final MessageFormat[] formats;
+        private final String[] constants;
+        private final boolean[] prefixed;
+        private final String prefix;
+
+        Template(String pattern, String prefix) {
+            String[] lines = pattern.split("\n", -1);
+            this.formats = new MessageFormat[lines.length];
+            this.constants = new String[lines.length];
+            this.prefixed = new boolean[lines.length];
+            this.prefix = prefix;
+            for (int i = 0; i < lines.length; i++) {
+                MessageFormat format = new MessageFormat(lines[i]);
+                if (format.getFormatsByArgumentIndex().length == 0) {
+                    constants[i] = format.format(new Object[0]).replace("%prefix%", prefix);
+                } else {
+                    formats[i] = format;
+                    prefixed[i] = lines[i].contains("%prefix%");
+                }
+            }
+        }
+
+        int getLineCount() {
+            return formats.length;
+        }
+
+        String formatLine(int line, Object... args) {
+            if (constants[line] != null)
+                return constants[line];
+            String text;
+            // MessageFormat is not thread safe
+            synchronized (formats[line]) {
+                text = formats[line].format(args);
+            }
+            return prefixed[line] ? text.replace("%prefix%", prefix) : text;
+        }
+
+        String format(Object... args) {
+            if (formats.length == 1)
+                return formatLine(0, args);
+            StringBuilder text = new StringBuilder();
+            for (int i = 0; i < formats.length; i++) {
+                if (i > 0)
+                    text.append('\n');
+                text.append(formatLine(i, args));
+            }
+            return text.toString();
         }
     }
 }
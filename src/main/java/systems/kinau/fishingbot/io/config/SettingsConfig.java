@@ -35,6 +35,9 @@ public class SettingsConfig implements Config {
 
     @Property(key = "auto.auto-reconnect", description = "config-auto-auto-reconnect") private boolean autoReconnect = true;
     @Property(key = "auto.auto-reconnect-time", description = "config-auto-auto-reconnect-time") private int autoReconnectTime = 5;
+    @Property(key = "auto.auto-reconnect-max-time", description = "config-auto-auto-reconnect-max-time") private int autoReconnectMaxTime = 300;
+    @Property(key = "auto.max-concurrent-logins", description = "config-auto-max-concurrent-logins") private int maxConcurrentLogins = 0;
+    @Property(key = "auto.max-ping-latency", description = "config-auto-max-ping-latency") private int maxPingLatency = 0;
     @Property(key = "auto.auto-disconnect", description = "config-auto-auto-disconnect") private boolean autoDisconnect = false;
     @Property(key = "auto.auto-sneak", description = "config-auto-auto-sneak") private boolean autoSneak = false;
     @Property(key = "auto.auto-disconnect-players-threshold", description = "config-auto-auto-disconnect-players-threshold") private int autoDisconnectPlayersThreshold = 5;
@@ -62,6 +65,10 @@ public class SettingsConfig implements Config {
 
     @Property(key = "logs.log-count", description = "config-logs-log-count") private int logCount = 15;
     @Property(key = "logs.log-packets", description = "config-logs-log-packets") private boolean logPackets = false;
+    @Property(key = "logs.capture-packets", description = "config-logs-capture-packets") private boolean capturePackets = false;
+
+    @Property(key = "http.connect-timeout", description = "config-http-connect-timeout") private int httpConnectTimeout = 10000;
+    @Property(key = "http.read-timeout", description = "config-http-read-timeout") private int httpReadTimeout = 20000;
 
     @Property(key = "announces.discord.enabled", description = "config-announces-discord") private boolean webHookEnabled = false;
     @Property(key = "announces.discord.web-hook", description = "config-announces-discord-web-hook") private String webHook = "YOURWEBHOOK";
@@ -69,6 +76,8 @@ public class SettingsConfig implements Config {
     @Property(key = "announces.discord.alert-on-attack", description = "config-announces-discord-alert-on-attack") private boolean alertOnAttack = true;
     @Property(key = "announces.discord.alert-on-respawn", description = "config-announces-discord-alert-on-respawn") private boolean alertOnRespawn = true;
     @Property(key = "announces.discord.alert-on-level-update", description = "config-announces-discord-alert-on-level-update") private boolean alertOnLevelUpdate = true;
+    @Property(key = "announces.discord.rate-summary-interval", description = "config-announces-discord-rate-summary-interval") private int rateSummaryInterval = 0;
+    @Property(key = "announces.discord.catch-digest-interval", description = "config-announces-discord-catch-digest-interval") private int catchDigestInterval = 0;
     @Property(key = "announces.discord.ping-on-enchantment.enabled", description = "config-announces-discord-ping-on-enchantment") private boolean pingOnEnchantmentEnabled = false;
     @Property(key = "announces.discord.ping-on-enchantment.mention", description = "config-announces-discord-ping-on-enchantment-mention") private String pingOnEnchantmentMention = "<@USER_ID>";
     @Property(key = "announces.discord.ping-on-enchantment.items", description = "config-announces-discord-ping-on-enchantment-items") private List<String> pingOnEnchantmentItems = Collections.singletonList("enchanted_book");
@@ -88,6 +97,9 @@ public class SettingsConfig implements Config {
     @Property(key = "misc.gui-console-max-lines", description = "config-misc-gui-console-max-lines") private int guiConsoleMaxLines = 1000;
     @Property(key = "misc.language", description = "config-misc-language") private Language language = Language.getByLocale(Locale.getDefault());
     @Property(key = "misc.look-speed", description = "config-misc-look-speed") private int lookSpeed = 32;
+    @Property(key = "misc.chat.burst", description = "config-misc-chat-burst") private int chatBurst = 4;
+    @Property(key = "misc.chat.refill-interval", description = "config-misc-chat-refill-interval") private int chatRefillInterval = 1000;
+    @Property(key = "misc.chat.max-queued", description = "config-misc-chat-max-queued") private int chatMaxQueued = 50;
     @Property(key = "misc.wiki", description = "") private String readme = "https://github.com/MrKinau/FishingBot/wiki/config";
 
     @Getter private final String path;
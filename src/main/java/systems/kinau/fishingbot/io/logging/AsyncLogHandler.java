@@ -0,0 +1,227 @@
+package systems.kinau.fishingbot.io.logging;
+
+import lombok.Getter;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+
+/**
+ * Hands log records over to a single background thread through a preallocated ring buffer.
+ * The background thread publishes them in batches to the attached handlers and flushes those once per batch.
+ * If the buffer is full, records below INFO are dropped and everything else waits for free space.
+ */
+public class AsyncLogHandler extends Handler {
+
+    private static final int BATCH_SIZE = 256;
+    private static final long CLOSE_TIMEOUT = 5000;
+    private static final long DROP_REPORT_INTERVAL = 10000;
+
+    private final List<Handler> handlers = new CopyOnWriteArrayList<>();
+    private final LogRecord[] ring;
+    private final LogRecord[] batch = new LogRecord[BATCH_SIZE];
+    private final int mask;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition notEmpty = lock.newCondition();
+    private final Condition notFull = lock.newCondition();
+    private final Thread consumer;
+    private long head;
+    private long tail;
+    private volatile boolean closed;
+
+    @Getter private volatile long published;
+    @Getter private volatile long dropped;
+    @Getter private volatile long blocked;
+    @Getter private volatile long blockedNanos;
+    @Getter private volatile int maxDepth;
+
+    // only accessed by the consumer thread
+    private long reportedDropped;
+    private long lastDropReport;
+
+    /**
+     * @param capacity size of the ring buffer, rounded up to the next power of two
+     */
+    public AsyncLogHandler(int capacity) {
+        int size = Integer.highestOneBit(Math.max(capacity, 2) - 1) << 1;
+        this.ring = new LogRecord[size];
+        this.mask = size - 1;
+        this.consumer = new Thread(this::run, "log-writer");
+        consumer.setDaemon(true);
+        consumer.start();
+    }
+
+    public void addHandler(Handler handler) {
+        handlers.add(handler);
+    }
+
+    public void removeHandler(Handler handler) {
+        handlers.remove(handler);
+    }
+
+    public List<Handler> getHandlers() {
+        return handlers;
+    }
+
+    public int getDepth() {
+        lock.lock();
+        try {
+            return (int) (tail - head);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void publish(LogRecord record) {
+        if (record == null || !isLoggable(record))
+            return;
+        // handlers logging themselves or logging after close must not wait for the writer
+        if (closed || Thread.currentThread() == consumer) {
+            publishDirectly(record);
+            return;
+        }
+        lock.lock();
+        try {
+            if (tail - head == ring.length) {
+                if (record.getLevel().intValue() < Level.INFO.intValue()) {
+                    dropped++;
+                    return;
+                }
+                blocked++;
+                long start = System.nanoTime();
+                while (tail - head == ring.length && !closed)
+                    notFull.awaitUninterruptibly();
+                blockedNanos += System.nanoTime() - start;
+                if (closed) {
+                    publishDirectly(record);
+                    return;
+                }
+            }
+            ring[(int) (tail & mask)] = record;
+            tail++;
+            maxDepth = Math.max(maxDepth, (int) (tail - head));
+            notEmpty.signal();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void run() {
+        while (true) {
+            int size = 0;
+            lock.lock();
+            try {
+                while (head == tail) {
+                    if (closed)
+                        return;
+                    notEmpty.awaitUninterruptibly();
+                }
+                while (head != tail && size < batch.length) {
+                    int index = (int) (head & mask);
+                    batch[size++] = ring[index];
+                    ring[index] = null;
+                    head++;
+                }
+                notFull.signalAll();
+            } finally {
+                lock.unlock();
+            }
+
+            for (int i = 0; i < size; i++) {
+                publishDirectly(batch[i]);
+                batch[i] = null;
+            }
+            published += size;
+            reportDropped();
+            flushHandlers();
+        }
+    }
+
+    /**
+     * Logs how many records were dropped since the last report, at most every few seconds
+     */
+    private void reportDropped() {
+        long dropped = this.dropped;
+        if (dropped == reportedDropped || System.currentTimeMillis() - lastDropReport < DROP_REPORT_INTERVAL)
+            return;
+        publishDirectly(new LogRecord(Level.WARNING, "The log buffer is full, dropped " + (dropped - reportedDropped)
+                + " records below INFO (" + this + ")"));
+        this.reportedDropped = dropped;
+        this.lastDropReport = System.currentTimeMillis();
+    }
+
+    private void publishDirectly(LogRecord record) {
+        for (Handler handler : handlers) {
+            try {
+                handler.publish(record);
+            } catch (Exception ex) {
+                reportError(null, ex, 0);
+            }
+        }
+    }
+
+    private void flushHandlers() {
+        for (Handler handler : handlers) {
+            handler.flush();
+        }
+    }
+
+    /**
+     * Waits until everything queued so far has been written
+     */
+    @Override
+    public void flush() {
+        if (Thread.currentThread() == consumer)
+            return;
+        long target;
+        lock.lock();
+        try {
+            target = tail;
+        } finally {
+            lock.unlock();
+        }
+        long deadline = System.currentTimeMillis() + CLOSE_TIMEOUT;
+        while (published < target && consumer.isAlive() && System.currentTimeMillis() < deadline) {
+            try {
+                TimeUnit.MILLISECONDS.sleep(1);
+            } catch (InterruptedException ex) {
+                return;
+            }
+        }
+    }
+
+    @Override
+    public void close() throws SecurityException {
+        lock.lock();
+        try {
+            closed = true;
+            notEmpty.signalAll();
+            notFull.signalAll();
+        } finally {
+            lock.unlock();
+        }
+        try {
+            consumer.join(CLOSE_TIMEOUT);
+        } catch (InterruptedException ignore) { }
+        if (blocked > 0 || dropped > 0)
+            publishDirectly(new LogRecord(Level.WARNING, "The log buffer ran full: " + this));
+        for (Handler handler : handlers) {
+            handler.close();
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "published: " + published
+                + ", queued: " + getDepth() + "/" + ring.length
+                + ", max queued: " + maxDepth
+                + ", blocked: " + blocked + " (" + TimeUnit.NANOSECONDS.toMillis(blockedNanos) + "ms)"
+                + ", dropped: " + dropped;
+    }
+}
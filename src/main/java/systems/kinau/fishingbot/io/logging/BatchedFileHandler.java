@@ -0,0 +1,34 @@
+package systems.kinau.fishingbot.io.logging;
+
+import java.io.IOException;
+import java.util.logging.FileHandler;
+import java.util.logging.LogRecord;
+
+/**
+ * FileHandler which does not flush after every record.
+ * Used behind the {@link AsyncLogHandler}, which flushes once per written batch.
+ */
+public class BatchedFileHandler extends FileHandler {
+
+    private boolean publishing;
+
+    public BatchedFileHandler(String pattern, int limit, int count) throws IOException {
+        super(pattern, limit, count);
+    }
+
+    @Override
+    public synchronized void publish(LogRecord record) {
+        publishing = true;
+        try {
+            super.publish(record);
+        } finally {
+            publishing = false;
+        }
+    }
+
+    @Override
+    public synchronized void flush() {
+        if (!publishing)
+            super.flush();
+    }
+}
@@ -1,7 +1,10 @@
 package systems.kinau.fishingbot.io.logging;
 
 import java.io.PrintStream;
+import java.lang.reflect.Method;
+import java.util.function.Function;
 import java.util.logging.Logger;
+import java.util.stream.Stream;
 
 /**
  * src: https://stackoverflow.com/a/32411461
@@ -12,8 +15,33 @@ public class CustomPrintStream extends PrintStream {
     private static final PrintStream originalSystemErr = System.err;
     private static CustomPrintStream systemOutToLogger;
 
+    // StackWalker (java 9+) walks only as many frames as needed, it is looked up reflectively to keep running on java 8
+    private static final Object STACK_WALKER;
+    private static final Method WALK;
+    private static final Method GET_CLASS_NAME;
+
+    static {
+        Object stackWalker = null;
+        Method walk = null;
+        Method getClassName = null;
+        try {
+            Class<?> stackWalkerClass = Class.forName("java.lang.StackWalker");
+            stackWalker = stackWalkerClass.getMethod("getInstance").invoke(null);
+            walk = stackWalkerClass.getMethod("walk", Function.class);
+            getClassName = Class.forName("java.lang.StackWalker$StackFrame").getMethod("getClassName");
+        } catch (ReflectiveOperationException ignore) {
+            // java 8, fall back to the full stack trace
+        }
+        STACK_WALKER = stackWalker;
+        WALK = walk;
+        GET_CLASS_NAME = getClassName;
+    }
+
     private String packageOrClassToLog;
     private Logger logger;
+    private final Function<Stream<?>, Boolean> callerFinder = frames -> frames
+            .map(this::getClassName)
+            .anyMatch(this::isCallerToLog);
 
     /**
      * Enable forwarding System.out.println calls to the logger if the stacktrace contains the package parameter
@@ -43,9 +71,7 @@ public class CustomPrintStream extends PrintStream {
 
     @Override
     public void println(String line) {
-        StackTraceElement[] stack = Thread.currentThread().getStackTrace();
-        StackTraceElement caller = findCallerToLog(stack);
-        if (caller == null) {
+        if (!isCalledFromPackage()) {
             super.println(line);
             return;
         }
@@ -60,11 +86,32 @@ public class CustomPrintStream extends PrintStream {
 
     public StackTraceElement findCallerToLog(StackTraceElement[] stack) {
         for (StackTraceElement element : stack) {
-            if (element.getClassName().startsWith(packageOrClassToLog))
+            if (isCallerToLog(element.getClassName()))
                 return element;
         }
 
         return null;
     }
 
+    private boolean isCalledFromPackage() {
+        if (STACK_WALKER != null) {
+            try {
+                return (Boolean) WALK.invoke(STACK_WALKER, callerFinder);
+            } catch (ReflectiveOperationException ignore) { }
+        }
+        return findCallerToLog(new Throwable().getStackTrace()) != null;
+    }
+
+    private boolean isCallerToLog(String className) {
+        return className.startsWith(packageOrClassToLog);
+    }
+
+    private String getClassName(Object stackFrame) {
+        try {
+            return (String) GET_CLASS_NAME.invoke(stackFrame);
+        } catch (ReflectiveOperationException ex) {
+            return "";
+        }
+    }
+
 }
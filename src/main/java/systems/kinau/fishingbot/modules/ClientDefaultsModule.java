@@ -7,6 +7,7 @@ package systems.kinau.fishingbot.modules;
 
 import lombok.Getter;
 import systems.kinau.fishingbot.FishingBot;
+import systems.kinau.fishingbot.Bot;
 import systems.kinau.fishingbot.auth.AuthData;
 import systems.kinau.fishingbot.bot.Player;
 import systems.kinau.fishingbot.event.EventHandler;
@@ -15,14 +16,16 @@ import systems.kinau.fishingbot.event.play.*;
 import systems.kinau.fishingbot.network.protocol.NetworkHandler;
 import systems.kinau.fishingbot.network.protocol.ProtocolConstants;
 import systems.kinau.fishingbot.network.protocol.play.*;
+import systems.kinau.fishingbot.tick.TickTask;
 
 import java.util.HashSet;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.TimeUnit;
 
 public class ClientDefaultsModule extends Module implements Listener {
 
-    @Getter private Thread positionThread;
+    @Getter private TickTask positionTask;
     @Getter private boolean joined;
     @Getter private Set<UUID> onlinePlayers = new HashSet<>();
 
@@ -33,8 +36,8 @@ public class ClientDefaultsModule extends Module implements Listener {
 
     @Override
     public void onDisable() {
-        if (getPositionThread() != null)
-            getPositionThread().interrupt();
+        if (getPositionTask() != null)
+            getPositionTask().cancel();
         FishingBot.getInstance().getCurrentBot().getEventManager().unregisterListener(this);
     }
 
@@ -52,10 +55,9 @@ public class ClientDefaultsModule extends Module implements Listener {
         if (isJoined())
             return;
         this.joined = true;
-        new Thread(() -> {
-            try {
-                Thread.sleep(1500);
-            } catch (InterruptedException ignore) { }
+        FishingBot.getTickEngine().schedule("start-texts", () -> {
+            if (!isEnabled())
+                return;
 
             //Send start texts
             if (FishingBot.getInstance().getCurrentBot().getConfig().isStartTextEnabled()) {
@@ -66,7 +68,7 @@ public class ClientDefaultsModule extends Module implements Listener {
 
             //Start position updates
             startPositionUpdate(FishingBot.getInstance().getCurrentBot().getNet());
-        }).start();
+        }, 1500, TimeUnit.MILLISECONDS);
     }
 
     @EventHandler
@@ -122,16 +124,14 @@ public class ClientDefaultsModule extends Module implements Listener {
     }
 
     private void startPositionUpdate(NetworkHandler networkHandler) {
-        if (positionThread != null)
-            positionThread.interrupt();
-        positionThread = new Thread(() -> {
-            while (!Thread.currentThread().isInterrupted()) {
-                Player player = FishingBot.getInstance().getCurrentBot().getPlayer();
-                networkHandler.sendPacket(new PacketOutPosLook(player.getX(), player.getY(), player.getZ(), player.getYaw(), player.getPitch(), true));
-                try { Thread.sleep(1000); } catch (InterruptedException e) { break; }
-            }
-        });
-        positionThread.setName("positionThread");
-        positionThread.start();
+        if (positionTask != null)
+            positionTask.cancel();
+        positionTask = FishingBot.getTickEngine().scheduleRepeating("position-update", () -> {
+            Bot bot = FishingBot.getInstance().getCurrentBot();
+            if (bot == null || bot.getPlayer() == null)
+                return;
+            Player player = bot.getPlayer();
+            networkHandler.sendPacket(new PacketOutPosLook(player.getX(), player.getY(), player.getZ(), player.getYaw(), player.getPitch(), true));
+        }, 0, 1, TimeUnit.SECONDS);
     }
 }
@@ -93,6 +93,8 @@ public class LoginModule extends Module implements Listener {
         FishingBot.getI18n().info("module-login-successful", event.getUserName(), event.getUuid().toString());
         FishingBot.getInstance().getCurrentBot().getNet().setState(State.PLAY);
         FishingBot.getInstance().getCurrentBot().getPlayer().setUuid(event.getUuid());
+        FishingBot.getInstance().getCurrentBot().releaseLoginSlot();
+        FishingBot.getInstance().getCurrentBot().getReconnectScheduler().connected();
     }
 
     private String sendSessionRequest(String user, String session, String serverid) {
@@ -0,0 +1,87 @@
+package systems.kinau.fishingbot.modules;
+
+import systems.kinau.fishingbot.Bot;
+import systems.kinau.fishingbot.FishingBot;
+import systems.kinau.fishingbot.auth.AuthData;
+import systems.kinau.fishingbot.auth.MicrosoftAuthenticator;
+import systems.kinau.fishingbot.auth.TokenVault;
+import systems.kinau.fishingbot.network.http.SharedHttpClient;
+import systems.kinau.fishingbot.network.mojangapi.MojangAPI;
+import systems.kinau.fishingbot.network.protocol.ProtocolConstants;
+import systems.kinau.fishingbot.network.protocol.State;
+import systems.kinau.fishingbot.network.protocol.play.PacketOutChatSessionUpdate;
+import systems.kinau.fishingbot.tick.TickTask;
+
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Renews the access token and the profile keys in the background before they expire,
+ * so a reconnect always finds valid credentials in the token vault.
+ */
+public class TokenRefreshModule extends Module {
+
+    private static final long CHECK_INTERVAL = 5;
+    private static final long REFRESH_MARGIN = TimeUnit.MINUTES.toMillis(30);
+
+    private final AtomicBoolean refreshing = new AtomicBoolean();
+    private TickTask refreshTask;
+
+    @Override
+    public void onEnable() {
+        this.refreshTask = FishingBot.getTickEngine().scheduleRepeating("token-refresh", this::check, CHECK_INTERVAL, CHECK_INTERVAL, TimeUnit.MINUTES);
+    }
+
+    @Override
+    public void onDisable() {
+        if (refreshTask != null)
+            refreshTask.cancel();
+    }
+
+    private void check() {
+        if (!isEnabled() || !refreshing.compareAndSet(false, true))
+            return;
+        SharedHttpClient.getInstance().runAsync(() -> {
+            Bot bot = FishingBot.getInstance().getCurrentBot();
+            AuthData.ProfileKeys oldKeys = bot == null || bot.getAuthData() == null ? null : bot.getAuthData().getProfileKeys();
+            refreshTokens(REFRESH_MARGIN);
+            if (bot != null && bot.getAuthData() != null && bot.getAuthData().getProfileKeys() != oldKeys)
+                sendChatSession(bot);
+        }).whenComplete((ignored, ex) -> refreshing.set(false));
+    }
+
+    /**
+     * Renews the access token and profile keys of the current bot expiring within the given millis.
+     * Only one refresh runs at a time, a caller waiting for another one finds the renewed tokens and skips its own.
+     */
+    public static synchronized void refreshTokens(long margin) {
+        Bot bot = FishingBot.getInstance().getCurrentBot();
+        if (bot == null || bot.getAuthData() == null || bot.getMojangAPI() == null)
+            return;
+
+        String account = TokenVault.getCurrentAccount();
+        Optional<TokenVault.Account> entry = TokenVault.getInstance().get(account);
+        if (entry.isPresent() && !entry.get().hasAccessToken(margin)) {
+            Optional<AuthData> authData = new MicrosoftAuthenticator().refresh(account);
+            if (authData.isPresent()) {
+                authData.get().setProfileKeys(bot.getAuthData().getProfileKeys());
+                bot.setAuthData(authData.get());
+                bot.setMojangAPI(new MojangAPI(authData.get(), bot.getServerProtocol()));
+            }
+        }
+
+        AuthData.ProfileKeys keys = bot.getAuthData().getProfileKeys();
+        if (keys == null || keys.expiresWithin(margin))
+            bot.getMojangAPI().obtainCertificates(margin);
+    }
+
+    private static void sendChatSession(Bot bot) {
+        if (bot.getServerProtocol() <= ProtocolConstants.MINECRAFT_1_19_1 || bot.getNet() == null || bot.getNet().getState() != State.PLAY)
+            return;
+        try {
+            bot.getNet().sendPacket(new PacketOutChatSessionUpdate(bot.getAuthData().getProfileKeys(), UUID.fromString(bot.getAuthData().getUuid())));
+        } catch (Exception ignore) { }
+    }
+}
@@ -0,0 +1,39 @@
+package systems.kinau.fishingbot.modules.command;
+
+import lombok.Getter;
+
+import java.util.Arrays;
+import java.util.Locale;
+
+/**
+ * A command line split into label and arguments once, so lookup and dispatch do not have to parse it again
+ */
+public class CommandInput {
+
+    @Getter private final String label;
+    @Getter private final String[] args;
+
+    private CommandInput(String label, String[] args) {
+        this.label = label;
+        this.args = args;
+    }
+
+    /**
+     * @return the parsed command line or null if it is no command
+     */
+    public static CommandInput parse(String cmdStr) {
+        if (cmdStr.contains(" - "))
+            return null;
+        String command = cmdStr.trim();
+        if (command.startsWith("/"))
+            command = command.substring(1);
+        String[] tokens = command.split(" ");
+        if (tokens.length == 0)
+            return null;
+        return new CommandInput(tokens[0], Arrays.copyOfRange(tokens, 1, tokens.length));
+    }
+
+    public String getLookupKey() {
+        return label.toLowerCase(Locale.ROOT);
+    }
+}
@@ -2,54 +2,61 @@ package systems.kinau.fishingbot.modules.command;
 
 import lombok.Getter;
 
-import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.List;
-import java.util.Optional;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 public class CommandRegistry {
 
-    @Getter private final List<Command> registeredCommands = new ArrayList<>();
+    @Getter private final List<Command> registeredCommands = new CopyOnWriteArrayList<>();
+    private final Map<String, Command> labels = new ConcurrentHashMap<>();
+    private final Map<String, Command> aliases = new ConcurrentHashMap<>();
 
-    public void registerCommand(Command command) {
-        Command existingCommand = getCommand("/" + command.getLabel());
-        if (existingCommand != null)
+    public synchronized void registerCommand(Command command) {
+        String label = command.getLabel().toLowerCase(Locale.ROOT);
+        if (labels.containsKey(label) || aliases.containsKey(label))
             return;
         registeredCommands.add(command);
+        labels.put(label, command);
+        for (String alias : command.getAliases()) {
+            aliases.putIfAbsent(alias.toLowerCase(Locale.ROOT), command);
+        }
     }
 
-    public void unregisterCommand(Command command) {
-        registeredCommands.remove(command);
+    public synchronized void unregisterCommand(Command command) {
+        if (!registeredCommands.remove(command))
+            return;
+        labels.values().removeIf(registered -> registered == command);
+        aliases.values().removeIf(registered -> registered == command);
+        // aliases shadowed by the removed command become available again
+        for (Command registered : registeredCommands) {
+            for (String alias : registered.getAliases()) {
+                aliases.putIfAbsent(alias.toLowerCase(Locale.ROOT), registered);
+            }
+        }
     }
 
     public boolean dispatchCommand(String cmdStr, CommandExecutor commandExecutor) {
-        Command cmd = getCommand(cmdStr);
+        CommandInput input = CommandInput.parse(cmdStr);
+        if (input == null)
+            return false;
+        Command cmd = getCommand(input);
         if (cmd == null)
             return false;
-        String command = cmdStr.trim();
-        if (command.startsWith("/"))
-            command = command.substring(1);
-        String[] args = command.split(" ");
-        String label = args[0];
-        args = Arrays.copyOfRange(args, 1, args.length);
-        cmd.onCommand(label, args, commandExecutor);
+        cmd.onCommand(input.getLabel(), input.getArgs(), commandExecutor);
         return true;
     }
 
     public Command getCommand(String cmd) {
-        if (cmd.contains(" - "))
-            return null;
-        if (cmd.startsWith("/"))
-            cmd = cmd.substring(1);
-        String[] args = cmd.split(" ");
-        Optional<Command> optCommand = registeredCommands.stream()
-                .filter(command -> command.getLabel().equalsIgnoreCase(args[0]))
-                .findAny();
-        if (!optCommand.isPresent())
-            optCommand = registeredCommands.stream()
-                    .filter(command -> command.getAliases().contains(args[0].toLowerCase()))
-                    .findAny();
-
-        return optCommand.orElse(null);
+        CommandInput input = CommandInput.parse(cmd);
+        return input == null ? null : getCommand(input);
+    }
+
+    public Command getCommand(CommandInput input) {
+        String key = input.getLookupKey();
+        Command command = labels.get(key);
+        return command != null ? command : aliases.get(key);
     }
 }
@@ -0,0 +1,57 @@
+package systems.kinau.fishingbot.modules.command.brigardier;
+
+import com.mojang.brigadier.CommandDispatcher;
+import lombok.Getter;
+import systems.kinau.fishingbot.modules.command.CommandExecutor;
+import systems.kinau.fishingbot.network.protocol.play.PacketInCommands;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The raw command graph sent by a server. The brigadier nodes are only built when the dispatcher is needed.
+ * The last tree of every server is kept, so identical graphs (sent on every respawn and reconnect)
+ * reuse the same tree and dispatcher instead of being decoded again.
+ */
+public class LazyCommandTree {
+
+    private static final Map<String, LazyCommandTree> LAST_TREES = new ConcurrentHashMap<>();
+
+    @Getter private final int protocolId;
+    private final byte[] data;
+    private final int hash;
+    private volatile CommandDispatcher<CommandExecutor> dispatcher;
+
+    private LazyCommandTree(int protocolId, byte[] data, int hash) {
+        this.protocolId = protocolId;
+        this.data = data;
+        this.hash = hash;
+    }
+
+    public static LazyCommandTree of(String server, int protocolId, byte[] data) {
+        int hash = Arrays.hashCode(data);
+        String key = server + "@" + protocolId;
+        LazyCommandTree last = LAST_TREES.get(key);
+        if (last != null && last.hash == hash && Arrays.equals(last.data, data))
+            return last;
+        LazyCommandTree tree = new LazyCommandTree(protocolId, data, hash);
+        LAST_TREES.put(key, tree);
+        return tree;
+    }
+
+    public boolean isBuilt() {
+        return dispatcher != null;
+    }
+
+    public CommandDispatcher<CommandExecutor> getDispatcher() {
+        CommandDispatcher<CommandExecutor> dispatcher = this.dispatcher;
+        if (dispatcher != null)
+            return dispatcher;
+        synchronized (this) {
+            if (this.dispatcher == null)
+                this.dispatcher = PacketInCommands.decode(data, protocolId);
+            return this.dispatcher;
+        }
+    }
+}
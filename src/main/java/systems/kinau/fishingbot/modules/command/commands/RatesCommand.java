@@ -0,0 +1,40 @@
+package systems.kinau.fishingbot.modules.command.commands;
+
+import systems.kinau.fishingbot.FishingBot;
+import systems.kinau.fishingbot.modules.command.Command;
+import systems.kinau.fishingbot.modules.command.CommandExecutor;
+import systems.kinau.fishingbot.modules.statistics.StatisticsModule;
+
+import java.util.List;
+
+public class RatesCommand extends Command {
+
+    public RatesCommand() {
+        super("rates", FishingBot.getI18n().t("command-rates-desc"), "rate", "catchrate");
+    }
+
+    @Override
+    public void onCommand(String label, String[] args, CommandExecutor executor) {
+        if (FishingBot.getInstance().getCurrentBot() == null)
+            return;
+        StatisticsModule statisticsModule = FishingBot.getInstance().getCurrentBot().getStatisticsModule();
+        if (statisticsModule == null)
+            return;
+        if (args.length > 1) {
+            sendMessage("/rates [item|enchantment]", executor);
+            return;
+        }
+        if (statisticsModule.getStatistics().isEmpty()) {
+            sendMessage(executor, "command-summary-empty");
+            return;
+        }
+        String key = args.length == 1 ? args[0] : null;
+        List<String> lines = statisticsModule.formatRates(key);
+        if (lines.isEmpty()) {
+            sendMessage(executor, "command-rates-unknown", key);
+            return;
+        }
+        sendMessage(executor, "command-rates-header", key == null ? FishingBot.getI18n().t("statistics-all-catches") : key);
+        lines.forEach(line -> sendMessage(line, executor));
+    }
+}
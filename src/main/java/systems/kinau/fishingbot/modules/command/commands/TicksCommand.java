@@ -0,0 +1,29 @@
+package systems.kinau.fishingbot.modules.command.commands;
+
+import systems.kinau.fishingbot.FishingBot;
+import systems.kinau.fishingbot.modules.command.Command;
+import systems.kinau.fishingbot.modules.command.CommandExecutor;
+import systems.kinau.fishingbot.tick.TickEngine;
+import systems.kinau.fishingbot.tick.TickTask;
+
+import java.util.Comparator;
+
+public class TicksCommand extends Command {
+
+    public TicksCommand() {
+        super("ticks", FishingBot.getI18n().t("command-ticks-desc"), "tasks");
+    }
+
+    @Override
+    public void onCommand(String label, String[] args, CommandExecutor executor) {
+        TickEngine tickEngine = FishingBot.getTickEngine();
+        if (tickEngine.getTasks().isEmpty()) {
+            sendMessage(executor, "command-ticks-empty");
+            return;
+        }
+        sendMessage(executor, "command-ticks-header", tickEngine.getCurrentTick());
+        tickEngine.getTasks().stream()
+                .sorted(Comparator.comparing(TickTask::getName))
+                .forEach(task -> sendMessage(task.toString(), executor));
+    }
+}
@@ -6,66 +6,44 @@
 
 package systems.kinau.fishingbot.modules.discord;
 
-
-import club.minnced.discord.webhook.WebhookClient;
-import club.minnced.discord.webhook.send.WebhookEmbed;
-import club.minnced.discord.webhook.send.WebhookEmbedBuilder;
-import club.minnced.discord.webhook.send.WebhookMessageBuilder;
-import okhttp3.OkHttpClient;
-import systems.kinau.fishingbot.utils.ReflectionUtils;
-
-import java.lang.reflect.Field;
-import java.util.concurrent.ScheduledExecutorService;
+import lombok.Getter;
+import org.json.simple.JSONObject;
 
 public class DiscordMessageDispatcher {
 
-    private WebhookClient webHook;
+    private static final int QUEUE_CAPACITY = 100;
+
+    @Getter private final DiscordWebhookQueue queue;
 
     public DiscordMessageDispatcher(String webHook) {
-        this.webHook = WebhookClient.withUrl(webHook);
+        this.queue = new DiscordWebhookQueue(webHook, QUEUE_CAPACITY);
     }
 
     public void dispatchMessage(String content, DiscordDetails details) {
-        WebhookMessageBuilder builder = new WebhookMessageBuilder()
-                .setUsername(details.getUserName())
-                .setContent(content);
-        if (details.getAvatar() != null && !details.getAvatar().isEmpty())
-            builder.setAvatarUrl(details.getAvatar());
-
-        webHook.send(builder.build());
+        queue.enqueue(details, content, null);
     }
 
+    @SuppressWarnings("unchecked")
     public void dispatchEmbed(String title, int color, String imageUrl, String content, String footer, DiscordDetails details) {
-        WebhookMessageBuilder builder = new WebhookMessageBuilder()
-                .setUsername(details.getUserName())
-                .addEmbeds(new WebhookEmbedBuilder()
-                        .setTitle(new WebhookEmbed.EmbedTitle(title, null))
-                        .setColor(color)
-                        .setThumbnailUrl(imageUrl)
-                        .setDescription(content)
-                        .setFooter(new WebhookEmbed.EmbedFooter(footer, null))
-                        .build()
-                );
-        if (details.getAvatar() != null && !details.getAvatar().isEmpty())
-            builder.setAvatarUrl(details.getAvatar());
-
-        webHook.send(builder.build());
+        JSONObject embed = new JSONObject();
+        embed.put("title", title);
+        embed.put("color", color);
+        if (imageUrl != null) {
+            JSONObject thumbnail = new JSONObject();
+            thumbnail.put("url", imageUrl);
+            embed.put("thumbnail", thumbnail);
+        }
+        if (content != null)
+            embed.put("description", content);
+        if (footer != null) {
+            JSONObject footerObj = new JSONObject();
+            footerObj.put("text", footer);
+            embed.put("footer", footerObj);
+        }
+        queue.enqueue(details, null, embed);
     }
 
-    // hacky method to close all webhook connections
     public void shutdown() {
-        try {
-            Field poolField = webHook.getClass().getDeclaredField("pool");
-            ScheduledExecutorService service = (ScheduledExecutorService) ReflectionUtils.getField(poolField, webHook);
-            if (service != null)
-                service.shutdownNow();
-
-            Field clientField = webHook.getClass().getDeclaredField("client");
-            OkHttpClient client = (OkHttpClient) ReflectionUtils.getField(clientField, webHook);
-            if (client != null)
-                client.connectionPool().evictAll();
-        } catch (Throwable e) {
-            e.printStackTrace();
-        }
+        queue.shutdown();
     }
 }
@@ -17,12 +17,18 @@ import systems.kinau.fishingbot.event.play.UpdateHealthEvent;
 import systems.kinau.fishingbot.modules.Module;
 import systems.kinau.fishingbot.modules.fishing.FishingModule;
 import systems.kinau.fishingbot.modules.fishing.RegistryHandler;
+import systems.kinau.fishingbot.modules.statistics.Resolution;
+import systems.kinau.fishingbot.modules.statistics.StatisticsModule;
+import systems.kinau.fishingbot.tick.TickTask;
 import systems.kinau.fishingbot.utils.StringUtils;
 
 import java.text.NumberFormat;
 import java.util.Comparator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
 
 public class DiscordModule extends Module implements Listener {
 
@@ -33,6 +39,10 @@ public class DiscordModule extends Module implements Listener {
     @Getter @Setter private float health = -1;
     @Getter @Setter private int level = -1;
 
+    private TickTask rateSummaryTask;
+    private TickTask digestTask;
+    private final Map<String, Integer> digest = new LinkedHashMap<>();
+
     @Override
     public void onEnable() {
         FishingBot.getInstance().getCurrentBot().getEventManager().registerListener(this);
@@ -40,11 +50,23 @@ public class DiscordModule extends Module implements Listener {
         if(FishingBot.getInstance().getCurrentBot().getConfig().isWebHookEnabled() && !FishingBot.getInstance().getCurrentBot().getConfig().getWebHook().equalsIgnoreCase("false")
                 && !FishingBot.getInstance().getCurrentBot().getConfig().getWebHook().equals("YOURWEBHOOK"))
             this.discord = new DiscordMessageDispatcher(FishingBot.getInstance().getCurrentBot().getConfig().getWebHook());
+        int rateSummaryInterval = FishingBot.getInstance().getCurrentBot().getConfig().getRateSummaryInterval();
+        if (getDiscord() != null && rateSummaryInterval > 0)
+            this.rateSummaryTask = FishingBot.getTickEngine().scheduleRepeating("discord-rate-summary", this::sendRateSummary, rateSummaryInterval, rateSummaryInterval, TimeUnit.MINUTES);
+        int digestInterval = FishingBot.getInstance().getCurrentBot().getConfig().getCatchDigestInterval();
+        if (getDiscord() != null && digestInterval > 0)
+            this.digestTask = FishingBot.getTickEngine().scheduleRepeating("discord-catch-digest", this::sendDigest, digestInterval, digestInterval, TimeUnit.MINUTES);
     }
 
     @Override
     public void onDisable() {
         FishingBot.getInstance().getCurrentBot().getEventManager().unregisterListener(this);
+        if (this.rateSummaryTask != null)
+            this.rateSummaryTask.cancel();
+        if (this.digestTask != null) {
+            this.digestTask.cancel();
+            sendDigest();
+        }
         if (this.discord != null)
             this.discord.shutdown();
         this.discord = null;
@@ -62,6 +84,44 @@ public class DiscordModule extends Module implements Listener {
                 getFooter(), DISCORD_DETAILS);
     }
 
+    public void sendRateSummary() {
+        if (getDiscord() == null || FishingBot.getInstance().getCurrentBot() == null)
+            return;
+        StatisticsModule statisticsModule = FishingBot.getInstance().getCurrentBot().getStatisticsModule();
+        if (statisticsModule == null || statisticsModule.getStatistics().isEmpty())
+            return;
+        StringBuilder content = new StringBuilder();
+        statisticsModule.formatRates(null).forEach(line -> content.append(line).append("\n"));
+        content.append("\n");
+        statisticsModule.getItemCounts(Resolution.HOUR).entrySet().stream()
+                .sorted(Map.Entry.<String, Integer>comparingByValue().reversed())
+                .forEach(entry -> content.append(entry.getValue()).append("x ").append(entry.getKey()).append("\n"));
+        getDiscord().dispatchEmbed(FishingBot.getI18n().t("discord-webhook-rates"), 0x3ac8e7,
+                "https://raw.githubusercontent.com/MrKinau/FishingBot/master/src/main/resources/img/items/fishing_rod.png",
+                content.toString(),
+                getFooter(), DISCORD_DETAILS);
+    }
+
+    public void sendDigest() {
+        if (getDiscord() == null)
+            return;
+        Map<String, Integer> items;
+        synchronized (digest) {
+            if (digest.isEmpty())
+                return;
+            items = new LinkedHashMap<>(digest);
+            digest.clear();
+        }
+        StringBuilder content = new StringBuilder();
+        items.entrySet().stream()
+                .sorted(Map.Entry.<String, Integer>comparingByValue().reversed())
+                .forEach(entry -> content.append(entry.getValue()).append("x ").append(entry.getKey()).append("\n"));
+        getDiscord().dispatchEmbed(FishingBot.getI18n().t("discord-webhook-digest", items.values().stream().mapToInt(Integer::intValue).sum()), 0x3ac8e7,
+                "https://raw.githubusercontent.com/MrKinau/FishingBot/master/src/main/resources/img/items/fishing_rod.png",
+                content.toString(),
+                getFooter(), DISCORD_DETAILS);
+    }
+
     private String formatEnchantment(List<Enchantment> enchantments) {
         if (enchantments == null || enchantments.isEmpty())
             return null;
@@ -114,38 +174,46 @@ public class DiscordModule extends Module implements Listener {
             FishingModule fishingModule = FishingBot.getInstance().getCurrentBot().getFishingModule();
             if (fishingModule == null)
                 return;
-            new Thread(() -> {
-                String mention = "";
-                if (FishingBot.getInstance().getCurrentBot().getConfig().isPingOnEnchantmentEnabled()) {
-                    boolean itemMatches = FishingBot.getInstance().getCurrentBot().getConfig().getPingOnEnchantmentItems().isEmpty()
-                            || FishingBot.getInstance().getCurrentBot().getConfig().getPingOnEnchantmentItems().contains(event.getItem().getName());
-                    List<String> enchantmentFilter = FishingBot.getInstance().getCurrentBot().getConfig().getPingOnEnchantmentEnchantments();
-                    boolean enchantmentMatches = FishingBot.getInstance().getCurrentBot().getConfig().getPingOnEnchantmentEnchantments().isEmpty()
-                            || event.getItem().getEnchantments().stream()
-                                    .anyMatch(enchantment -> enchantmentFilter.contains(enchantment.getEnchantmentType().getName().toUpperCase()));
-                    if (itemMatches && enchantmentMatches) {
-                        mention = FishingBot.getInstance().getCurrentBot().getConfig().getPingOnEnchantmentMention() + " ";
-                    }
+            String mention = "";
+            if (FishingBot.getInstance().getCurrentBot().getConfig().isPingOnEnchantmentEnabled()) {
+                boolean itemMatches = FishingBot.getInstance().getCurrentBot().getConfig().getPingOnEnchantmentItems().isEmpty()
+                        || FishingBot.getInstance().getCurrentBot().getConfig().getPingOnEnchantmentItems().contains(event.getItem().getName());
+                List<String> enchantmentFilter = FishingBot.getInstance().getCurrentBot().getConfig().getPingOnEnchantmentEnchantments();
+                boolean enchantmentMatches = FishingBot.getInstance().getCurrentBot().getConfig().getPingOnEnchantmentEnchantments().isEmpty()
+                        || event.getItem().getEnchantments().stream()
+                                .anyMatch(enchantment -> enchantmentFilter.contains(enchantment.getEnchantmentType().getName().toUpperCase()));
+                if (itemMatches && enchantmentMatches) {
+                    mention = FishingBot.getInstance().getCurrentBot().getConfig().getPingOnEnchantmentMention() + " ";
                 }
-                if (!mention.isEmpty())
-                    getDiscord().dispatchMessage(mention, DISCORD_DETAILS);
-
-                String itemName = event.getItem().getName().replace("_", " ").toLowerCase();
-                StringBuilder sb = new StringBuilder();
-                for (String s : itemName.split(" ")) {
-                    s = s.substring(0, 1).toUpperCase() + s.substring(1);
-                    sb.append(s).append(" ");
-                }
-                String finalItemName = sb.toString().trim();
-
-                fishingModule.logItem(
-                        event.getItem(),
-                        FishingBot.getInstance().getCurrentBot().getConfig().getAnnounceTypeDiscord(),
-                        s -> getDiscord().dispatchEmbed("**" + finalItemName + "**", getColor(event.getItem()),
-                                RegistryHandler.getImageUrl(event.getItem()), formatEnchantment(event.getItem().getEnchantments()),
-                                getFooter(), DISCORD_DETAILS),
-                        s -> { });
-            }).start();
+            }
+            if (!mention.isEmpty())
+                getDiscord().dispatchMessage(mention, DISCORD_DETAILS);
+
+            String itemName = event.getItem().getName().replace("_", " ").toLowerCase();
+            StringBuilder sb = new StringBuilder();
+            for (String s : itemName.split(" ")) {
+                s = s.substring(0, 1).toUpperCase() + s.substring(1);
+                sb.append(s).append(" ");
+            }
+            String finalItemName = sb.toString().trim();
+
+            // plain catches are collected into the next digest instead of sending one message each
+            boolean digestItem = digestTask != null && mention.isEmpty() && event.getItem().getEnchantments().isEmpty();
+            fishingModule.logItem(
+                    event.getItem(),
+                    FishingBot.getInstance().getCurrentBot().getConfig().getAnnounceTypeDiscord(),
+                    s -> {
+                        if (digestItem) {
+                            synchronized (digest) {
+                                digest.merge(finalItemName, 1, Integer::sum);
+                            }
+                        } else {
+                            getDiscord().dispatchEmbed("**" + finalItemName + "**", getColor(event.getItem()),
+                                    RegistryHandler.getImageUrl(event.getItem()), formatEnchantment(event.getItem().getEnchantments()),
+                                    getFooter(), DISCORD_DETAILS);
+                        }
+                    },
+                    s -> { });
         }
     }
 
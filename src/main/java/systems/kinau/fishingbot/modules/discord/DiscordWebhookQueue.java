@@ -0,0 +1,275 @@
+package systems.kinau.fishingbot.modules.discord;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.apache.http.Header;
+import org.apache.http.HttpResponse;
+import org.apache.http.client.methods.HttpUriRequest;
+import org.apache.http.client.methods.RequestBuilder;
+import org.apache.http.entity.ContentType;
+import org.apache.http.entity.StringEntity;
+import org.apache.http.util.EntityUtils;
+import org.json.simple.JSONArray;
+import org.json.simple.JSONObject;
+import org.json.simple.parser.JSONParser;
+import systems.kinau.fishingbot.FishingBot;
+import systems.kinau.fishingbot.network.http.SharedHttpClient;
+import systems.kinau.fishingbot.tick.TickTask;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingDeque;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Bounded send queue of one webhook. Queued messages are merged into as few requests as possible
+ * (up to 10 embeds each) and sending pauses whenever Discord reports a rate limit.
+ * Requests run on the HTTP executor, the tick engine only decides when to send.
+ */
+public class DiscordWebhookQueue {
+
+    public static final int MAX_EMBEDS_PER_MESSAGE = 10;
+    private static final int MAX_CONTENT_LENGTH = 2000;
+    private static final int MAX_ATTEMPTS = 3;
+    private static final long RETRY_DELAY = 5000;
+    private static final long SHUTDOWN_TIMEOUT = 5000;
+
+    @Getter private final String url;
+    @Getter private final int capacity;
+    private final BlockingDeque<QueuedMessage> queue;
+    private final TickTask dispatchTask;
+    private volatile long blockedUntil;
+    private final AtomicBoolean sending = new AtomicBoolean();
+    private volatile HttpUriRequest inFlight;
+
+    private final AtomicLong sentRequests = new AtomicLong();
+    private final AtomicLong sentMessages = new AtomicLong();
+    private final AtomicLong droppedMessages = new AtomicLong();
+    private final AtomicLong rateLimits = new AtomicLong();
+    @Getter private volatile int maxQueueDepth;
+
+    public DiscordWebhookQueue(String url, int capacity) {
+        this.url = url;
+        this.capacity = capacity;
+        this.queue = new LinkedBlockingDeque<>(capacity);
+        this.dispatchTask = FishingBot.getTickEngine().scheduleRepeating("discord-dispatch", this::dispatchAsync, 0, 10);
+    }
+
+    public boolean enqueue(DiscordDetails details, String content, JSONObject embed) {
+        if (!queue.offerLast(new QueuedMessage(details, content, embed, 0))) {
+            if (droppedMessages.getAndIncrement() == 0)
+                FishingBot.getI18n().warning("discord-webhook-queue-full", capacity);
+            return false;
+        }
+        maxQueueDepth = Math.max(maxQueueDepth, queue.size());
+        return true;
+    }
+
+    public int getQueueDepth() {
+        return queue.size();
+    }
+
+    public long getSentRequests() {
+        return sentRequests.get();
+    }
+
+    public long getSentMessages() {
+        return sentMessages.get();
+    }
+
+    public long getDroppedMessages() {
+        return droppedMessages.get();
+    }
+
+    public long getRateLimits() {
+        return rateLimits.get();
+    }
+
+    public boolean isRateLimited() {
+        return System.currentTimeMillis() < blockedUntil;
+    }
+
+    public void shutdown() {
+        dispatchTask.cancel();
+        long deadline = System.currentTimeMillis() + SHUTDOWN_TIMEOUT;
+        while (!queue.isEmpty()) {
+            long waitTime = blockedUntil - System.currentTimeMillis();
+            if (System.currentTimeMillis() + Math.max(waitTime, 0) >= deadline)
+                break;
+            try {
+                if (waitTime > 0)
+                    Thread.sleep(waitTime);
+                SharedHttpClient.getInstance().runAsync(this::dispatch)
+                        .get(Math.max(1, deadline - System.currentTimeMillis()), TimeUnit.MILLISECONDS);
+            } catch (TimeoutException ex) {
+                // a hanging webhook must not hold up the bot, the message is given up
+                HttpUriRequest request = inFlight;
+                if (request != null)
+                    request.abort();
+                break;
+            } catch (InterruptedException | ExecutionException ex) {
+                break;
+            }
+        }
+    }
+
+    private void dispatchAsync() {
+        if (isRateLimited() || queue.isEmpty() || !sending.compareAndSet(false, true))
+            return;
+        SharedHttpClient.getInstance().runAsync(this::dispatch).whenComplete((ignored, ex) -> sending.set(false));
+    }
+
+    synchronized void dispatch() {
+        if (isRateLimited())
+            return;
+        List<QueuedMessage> batch = pollBatch();
+        if (batch.isEmpty())
+            return;
+
+        HttpUriRequest request = RequestBuilder.post()
+                .setUri(url)
+                .setEntity(new StringEntity(toJson(batch).toJSONString(), ContentType.APPLICATION_JSON))
+                .build();
+        inFlight = request;
+        try {
+            HttpResponse answer = SharedHttpClient.getInstance().execute(request);
+            String body = answer.getEntity() == null ? "" : EntityUtils.toString(answer.getEntity(), StandardCharsets.UTF_8);
+            int status = answer.getStatusLine().getStatusCode();
+            sentRequests.incrementAndGet();
+
+            if (status == 429) {
+                rateLimits.incrementAndGet();
+                blockedUntil = System.currentTimeMillis() + getRetryAfter(answer, body);
+                requeue(batch, false);
+                return;
+            }
+
+            // pause before the bucket runs empty instead of running into a 429
+            Header remaining = answer.getFirstHeader("X-RateLimit-Remaining");
+            Header resetAfter = answer.getFirstHeader("X-RateLimit-Reset-After");
+            if (remaining != null && resetAfter != null && "0".equals(remaining.getValue()))
+                blockedUntil = System.currentTimeMillis() + parseSeconds(resetAfter.getValue(), 0);
+
+            if (status >= 200 && status < 300) {
+                sentMessages.addAndGet(batch.size());
+            } else if (status >= 500) {
+                blockedUntil = Math.max(blockedUntil, System.currentTimeMillis() + RETRY_DELAY);
+                requeue(batch, true);
+            } else {
+                droppedMessages.addAndGet(batch.size());
+                FishingBot.getI18n().warning("discord-webhook-failed", answer.getStatusLine().toString());
+            }
+        } catch (IOException ex) {
+            blockedUntil = Math.max(blockedUntil, System.currentTimeMillis() + RETRY_DELAY);
+            requeue(batch, true);
+        } finally {
+            inFlight = null;
+        }
+    }
+
+    private List<QueuedMessage> pollBatch() {
+        List<QueuedMessage> batch = new ArrayList<>();
+        int embeds = 0;
+        int contentLength = 0;
+        QueuedMessage next;
+        while ((next = queue.peekFirst()) != null) {
+            if (!batch.isEmpty() && !batch.get(0).getDetails().equals(next.getDetails()))
+                break;
+            if (next.getEmbed() != null && embeds >= MAX_EMBEDS_PER_MESSAGE)
+                break;
+            // the content is shown above all embeds, so it has to start a new message after embeds
+            if (next.getContent() != null && (embeds > 0 || contentLength + next.getContent().length() + 1 > MAX_CONTENT_LENGTH))
+                break;
+            queue.pollFirst();
+            batch.add(next);
+            if (next.getEmbed() != null)
+                embeds++;
+            if (next.getContent() != null)
+                contentLength += next.getContent().length() + 1;
+        }
+        return batch;
+    }
+
+    private void requeue(List<QueuedMessage> batch, boolean failed) {
+        for (int i = batch.size() - 1; i >= 0; i--) {
+            QueuedMessage message = batch.get(i);
+            if (failed && ++message.attempts >= MAX_ATTEMPTS) {
+                droppedMessages.incrementAndGet();
+                continue;
+            }
+            if (!queue.offerFirst(message))
+                droppedMessages.incrementAndGet();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private JSONObject toJson(List<QueuedMessage> batch) {
+        DiscordDetails details = batch.get(0).getDetails();
+        JSONObject root = new JSONObject();
+        root.put("username", details.getUserName());
+        if (details.getAvatar() != null && !details.getAvatar().isEmpty())
+            root.put("avatar_url", details.getAvatar());
+
+        StringBuilder content = new StringBuilder();
+        JSONArray embeds = new JSONArray();
+        for (QueuedMessage message : batch) {
+            if (message.getContent() != null) {
+                if (content.length() > 0)
+                    content.append("\n");
+                content.append(message.getContent());
+            }
+            if (message.getEmbed() != null)
+                embeds.add(message.getEmbed());
+        }
+        if (content.length() > 0)
+            root.put("content", content.toString());
+        if (!embeds.isEmpty())
+            root.put("embeds", embeds);
+        return root;
+    }
+
+    private long getRetryAfter(HttpResponse answer, String body) {
+        Header retryAfter = answer.getFirstHeader("Retry-After");
+        if (retryAfter != null)
+            return parseSeconds(retryAfter.getValue(), 1000);
+        try {
+            JSONObject json = (JSONObject) new JSONParser().parse(body);
+            if (json != null && json.get("retry_after") instanceof Number)
+                return (long) Math.ceil(((Number) json.get("retry_after")).doubleValue() * 1000);
+        } catch (Exception ignore) { }
+        return 1000;
+    }
+
+    private long parseSeconds(String value, long fallback) {
+        try {
+            return (long) Math.ceil(Double.parseDouble(value) * 1000);
+        } catch (NumberFormatException ex) {
+            return fallback;
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "queued: " + getQueueDepth() + "/" + capacity
+                + ", max queued: " + maxQueueDepth
+                + ", sent: " + getSentMessages() + " in " + getSentRequests() + " requests"
+                + ", dropped: " + getDroppedMessages()
+                + ", rate limits: " + getRateLimits();
+    }
+
+    @Getter
+    @AllArgsConstructor
+    static class QueuedMessage {
+        private final DiscordDetails details;
+        private final String content;
+        private final JSONObject embed;
+        private int attempts;
+    }
+}
@@ -0,0 +1,33 @@
+package systems.kinau.fishingbot.modules.ejection;
+
+import lombok.Getter;
+import lombok.Setter;
+import systems.kinau.fishingbot.tick.TickTask;
+import systems.kinau.fishingbot.utils.LocationUtils;
+
+import java.util.List;
+
+/**
+ * One dump into an adjacent chest: open it, shift-click all queued slots in one burst and close it again
+ * once the server confirmed the last click.
+ */
+@Getter
+public class ChestEjectTransaction {
+
+    private final LocationUtils.Direction direction;
+    @Setter private List<ChestEjectFunction> functions;
+    @Setter private State state = State.OPENING;
+    @Setter private int windowId = -1;
+    @Setter private short lastAction = -1;
+    @Setter private TickTask timeoutTask;
+
+    public ChestEjectTransaction(LocationUtils.Direction direction) {
+        this.direction = direction;
+    }
+
+    public enum State {
+        OPENING,
+        AWAITING_CONFIRMATION,
+        FINISHED
+    }
+}
@@ -0,0 +1,95 @@
+package systems.kinau.fishingbot.modules.ejection;
+
+import lombok.Getter;
+import systems.kinau.fishingbot.bot.Slot;
+import systems.kinau.fishingbot.enums.MaterialMc18;
+import systems.kinau.fishingbot.modules.fishing.RegistryHandler;
+import systems.kinau.fishingbot.network.protocol.ProtocolConstants;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Ejection rules resolved against the item registry of one protocol.
+ * Every item id (and for pre 1.13 every relevant damage value) is mapped to the first rule
+ * allowing it, so evaluating a slot is a single array read instead of a name lookup per rule.
+ */
+public class CompiledEjectionRules {
+
+    // pre 1.13 items are named by id and damage, damage 0-3 distinguishes the fish types and everything else names like 4
+    private static final int LEGACY_VARIANTS = 5;
+
+    @Getter private final List<EjectionRule> source;
+    @Getter private final int protocol;
+    private final EjectionRule[] rules;
+    private final int variants;
+    private final int[] firstRule;
+
+    private CompiledEjectionRules(List<EjectionRule> source, int protocol) {
+        this.source = source;
+        this.protocol = protocol;
+        this.rules = source.toArray(new EjectionRule[0]);
+        this.variants = protocol < ProtocolConstants.MINECRAFT_1_13 ? LEGACY_VARIANTS : 1;
+
+        Map<Integer, String> itemsMap = RegistryHandler.getItemsMap(protocol);
+        int maxId = itemsMap.keySet().stream().mapToInt(Integer::intValue).max().orElse(-1);
+        this.firstRule = new int[(maxId + 1) * variants];
+        Arrays.fill(firstRule, -1);
+
+        for (int ruleIndex = 0; ruleIndex < rules.length; ruleIndex++) {
+            Set<String> allowList = rules[ruleIndex].getAllowList() == null ? new HashSet<>() : new HashSet<>(rules[ruleIndex].getAllowList());
+            for (Integer itemId : itemsMap.keySet()) {
+                if (itemId < 0)
+                    continue;
+                for (int variant = 0; variant < variants; variant++) {
+                    if (!allowList.contains(getName(itemId, variant, itemsMap)))
+                        continue;
+                    int index = itemId * variants + variant;
+                    if (firstRule[index] == -1)
+                        firstRule[index] = ruleIndex;
+                }
+            }
+        }
+    }
+
+    public static CompiledEjectionRules compile(List<EjectionRule> rules, int protocol) {
+        return new CompiledEjectionRules(rules, protocol);
+    }
+
+    public boolean isCompiledFrom(List<EjectionRule> rules, int protocol) {
+        return this.source == rules && this.protocol == protocol;
+    }
+
+    /**
+     * @return the first rule allowing the item in the given slot or null if there is none
+     */
+    public EjectionRule getRule(Slot slot) {
+        int index = getIndex(slot);
+        if (index < 0)
+            return null;
+        int ruleIndex = firstRule[index];
+        return ruleIndex < 0 ? null : rules[ruleIndex];
+    }
+
+    private int getIndex(Slot slot) {
+        if (slot == null || !slot.isPresent())
+            return -1;
+        int itemId = slot.getItemId();
+        if (itemId < 0 || itemId * variants >= firstRule.length)
+            return -1;
+        if (variants == 1)
+            return itemId;
+        short damage = slot.getItemDamage();
+        int variant = damage >= 0 && damage < LEGACY_VARIANTS - 1 ? damage : LEGACY_VARIANTS - 1;
+        return itemId * variants + variant;
+    }
+
+    private String getName(int itemId, int variant, Map<Integer, String> itemsMap) {
+        if (variants > 1)
+            return MaterialMc18.getMaterialName(itemId, (short) variant);
+        return itemsMap.get(itemId).replace("minecraft:", "");
+    }
+}
@@ -1,75 +1,97 @@
 package systems.kinau.fishingbot.modules.ejection;
 
 import systems.kinau.fishingbot.FishingBot;
-import systems.kinau.fishingbot.bot.Inventory;
 import systems.kinau.fishingbot.bot.Player;
 import systems.kinau.fishingbot.bot.Slot;
+import systems.kinau.fishingbot.event.EventHandler;
+import systems.kinau.fishingbot.event.Listener;
+import systems.kinau.fishingbot.event.play.ConfirmTransactionEvent;
+import systems.kinau.fishingbot.event.play.OpenWindowEvent;
+import systems.kinau.fishingbot.event.play.UpdateWindowItemsEvent;
 import systems.kinau.fishingbot.modules.Module;
-import systems.kinau.fishingbot.utils.ItemUtils;
+import systems.kinau.fishingbot.network.protocol.ProtocolConstants;
 import systems.kinau.fishingbot.utils.LocationUtils;
 
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
-public class EjectionModule extends Module {
+public class EjectionModule extends Module implements Listener {
+
+    private static final long CHEST_TRANSACTION_TIMEOUT = 5000;
 
     private List<LookEjectFunction> lookEjectFunctions = new ArrayList<>();
     private List<ChestEjectFunction> chestEjectFunctions = new ArrayList<>();
 
-    private Thread chestFillingThread;
+    private ChestEjectTransaction chestTransaction;
+    private CompiledEjectionRules compiledRules;
 
     @Override
     public void onEnable() {
         this.lookEjectFunctions = new ArrayList<>();
         this.chestEjectFunctions = new ArrayList<>();
+        FishingBot.getInstance().getCurrentBot().getEventManager().registerListener(this);
     }
 
     @Override
     public void onDisable() {
         this.lookEjectFunctions = null;
         this.chestEjectFunctions = null;
-        if (this.chestFillingThread != null)
-            this.chestFillingThread.interrupt();
-        this.chestFillingThread = null;
+        FishingBot.getInstance().getCurrentBot().getEventManager().unregisterListener(this);
+        synchronized (this) {
+            if (chestTransaction != null && chestTransaction.getTimeoutTask() != null)
+                chestTransaction.getTimeoutTask().cancel();
+            this.chestTransaction = null;
+        }
+        this.compiledRules = null;
+    }
+
+    private CompiledEjectionRules getCompiledRules(List<EjectionRule> ejectionRules) {
+        int protocol = FishingBot.getInstance().getCurrentBot().getServerProtocol();
+        CompiledEjectionRules compiledRules = this.compiledRules;
+        if (compiledRules == null || !compiledRules.isCompiledFrom(ejectionRules, protocol)) {
+            compiledRules = CompiledEjectionRules.compile(ejectionRules, protocol);
+            this.compiledRules = compiledRules;
+        }
+        return compiledRules;
     }
 
     public void executeEjectionRules(List<EjectionRule> ejectionRules, Slot updatedItem, short slotId) {
         if (!updatedItem.isPresent())
             return;
+        EjectionRule ejectionRule = getCompiledRules(ejectionRules).getRule(updatedItem);
+        if (ejectionRule == null)
+            return;
         Player player = FishingBot.getInstance().getCurrentBot().getPlayer();
-        String itemName = ItemUtils.getItemName(updatedItem);
-        for (EjectionRule ejectionRule : ejectionRules) {
-            if (ejectionRule.getAllowList().contains(itemName)) {
-                switch (ejectionRule.getEjectionType()) {
-                    case FILL_CHEST: {
-                        for (ChestEjectFunction chestEjectFunction : chestEjectFunctions) {
-                            if (chestEjectFunction.getSlot() == slotId)
-                                return;
-                        }
-
-                        ChestEjectFunction chestEjectFunction = new ChestEjectFunction(ejectionRule.getDirection(), slotId);
-                        chestEjectFunctions.add(chestEjectFunction);
-                        fillAdjacentChest(chestEjectFunction);
+        switch (ejectionRule.getEjectionType()) {
+            case FILL_CHEST: {
+                for (ChestEjectFunction chestEjectFunction : chestEjectFunctions) {
+                    if (chestEjectFunction.getSlot() == slotId)
                         return;
-                    }
-                    case DROP:
-                    default: {
-                        for (LookEjectFunction lookEjectFunction : lookEjectFunctions) {
-                            if (lookEjectFunction.getSlot() == slotId)
-                                return;
-                        }
-                        LocationUtils.Direction direction = ejectionRule.getDirection();
-                        float yaw = direction.getYaw() == Float.MIN_VALUE ? player.getYaw() : direction.getYaw();
-                        float pitch = direction.getPitch() == Float.MIN_VALUE ? player.getPitch() : direction.getPitch();
-                        LookEjectFunction lookEjectFunction = new LookEjectFunction(yaw, pitch, FishingBot.getInstance().getCurrentBot().getConfig().getLookSpeed(), slotId);
-                        lookEjectFunctions.add(lookEjectFunction);
-                        lookAndDrop(lookEjectFunction);
+                }
+
+                ChestEjectFunction chestEjectFunction = new ChestEjectFunction(ejectionRule.getDirection(), slotId);
+                chestEjectFunctions.add(chestEjectFunction);
+                fillAdjacentChest(chestEjectFunction);
+                return;
+            }
+            case DROP:
+            default: {
+                for (LookEjectFunction lookEjectFunction : lookEjectFunctions) {
+                    if (lookEjectFunction.getSlot() == slotId)
                         return;
-                    }
                 }
+                LocationUtils.Direction direction = ejectionRule.getDirection();
+                float yaw = direction.getYaw() == Float.MIN_VALUE ? player.getYaw() : direction.getYaw();
+                float pitch = direction.getPitch() == Float.MIN_VALUE ? player.getPitch() : direction.getPitch();
+                LookEjectFunction lookEjectFunction = new LookEjectFunction(yaw, pitch, FishingBot.getInstance().getCurrentBot().getConfig().getLookSpeed(), slotId);
+                lookEjectFunctions.add(lookEjectFunction);
+                lookAndDrop(lookEjectFunction);
             }
         }
     }
@@ -93,59 +115,110 @@ public class EjectionModule extends Module {
 
     private void lookAndDrop(LookEjectFunction lookEjectFunction) {
         Player player = FishingBot.getInstance().getCurrentBot().getPlayer();
-        player.look(lookEjectFunction.getYaw(), lookEjectFunction.getPitch(), lookEjectFunction.getSpeed(), finished -> {
-            List<LookEjectFunction> fittingFunctions = getLookEjectFunctions(lookEjectFunction.getYaw(), lookEjectFunction.getPitch());
-            fittingFunctions.forEach(fittingFunction -> {
-                player.dropStack(fittingFunction.getSlot(), (short) (fittingFunction.getSlot() - 8));
-            });
-
-            player.look(player.getOriginYaw(), player.getOriginPitch(), lookEjectFunction.getSpeed(), finished2 -> {
-                FishingBot.getInstance().getCurrentBot().getFishingModule().finishedLooking();
-                lookEjectFunctions.removeAll(fittingFunctions);
-                if (!lookEjectFunctions.isEmpty())
-                    lookAndDrop(lookEjectFunctions.get(0));
-            });
-
-        });
+        List<LookEjectFunction> fittingFunctions = new ArrayList<>();
+        player.look(lookEjectFunction.getYaw(), lookEjectFunction.getPitch(), lookEjectFunction.getSpeed())
+                .thenCompose(finished -> {
+                    if (!finished)
+                        return CompletableFuture.completedFuture(false);
+                    fittingFunctions.addAll(getLookEjectFunctions(lookEjectFunction.getYaw(), lookEjectFunction.getPitch()));
+                    fittingFunctions.forEach(fittingFunction -> {
+                        player.dropStack(fittingFunction.getSlot(), (short) (fittingFunction.getSlot() - 8));
+                    });
+                    return player.look(player.getOriginYaw(), player.getOriginPitch(), lookEjectFunction.getSpeed());
+                })
+                .thenAccept(finished -> {
+                    if (!finished || lookEjectFunctions == null)
+                        return;
+                    FishingBot.getInstance().getCurrentBot().getFishingModule().finishedLooking();
+                    lookEjectFunctions.removeAll(fittingFunctions);
+                    if (!lookEjectFunctions.isEmpty())
+                        lookAndDrop(lookEjectFunctions.get(0));
+                })
+                .exceptionally(throwable -> {
+                    throwable.printStackTrace();
+                    return null;
+                });
     }
 
-    private void fillAdjacentChest(ChestEjectFunction chestEjectFunction) {
-        if (chestFillingThread != null && chestFillingThread.isAlive()) {
+    private synchronized void fillAdjacentChest(ChestEjectFunction chestEjectFunction) {
+        if (chestTransaction != null)
             return;
-        }
 
-        this.chestFillingThread = new Thread(() -> {
-            internalFillAdjacentChest(chestEjectFunction);
-        });
-        chestFillingThread.start();
+        ChestEjectTransaction transaction = new ChestEjectTransaction(chestEjectFunction.getDirection());
+        this.chestTransaction = transaction;
+        transaction.setTimeoutTask(FishingBot.getTickEngine().schedule("chest-eject-timeout",
+                () -> finishChestTransaction(transaction), CHEST_TRANSACTION_TIMEOUT, TimeUnit.MILLISECONDS));
+        FishingBot.getInstance().getCurrentBot().getPlayer().openAdjacentChest(transaction.getDirection());
     }
 
-    private void internalFillAdjacentChest(ChestEjectFunction chestEjectFunction) {
+    @EventHandler
+    public synchronized void onOpenWindow(OpenWindowEvent event) {
+        if (chestTransaction == null || chestTransaction.getState() != ChestEjectTransaction.State.OPENING)
+            return;
+        chestTransaction.setWindowId(event.getWindowId());
+    }
+
+    @EventHandler
+    public synchronized void onUpdateWindowItems(UpdateWindowItemsEvent event) {
+        ChestEjectTransaction transaction = this.chestTransaction;
+        if (transaction == null || transaction.getState() != ChestEjectTransaction.State.OPENING || event.getWindowId() <= 0)
+            return;
+        if (transaction.getWindowId() != -1 && transaction.getWindowId() != event.getWindowId())
+            return;
+
         Player player = FishingBot.getInstance().getCurrentBot().getPlayer();
+        transaction.setWindowId(event.getWindowId());
+        transaction.setFunctions(getChestEjectFunctions(transaction.getDirection()));
+
+        // all clicks are sent back to back, the server handles them in order
+        short action = 1;
+        for (ChestEjectFunction function : transaction.getFunctions()) {
+            player.shiftToWindow(function.getSlot(), event.getWindowId(), event.getSlots().size(), action);
+            transaction.setLastAction(action++);
+        }
 
-        player.openAdjacentChest(chestEjectFunction.getDirection());
-        try {
-            Thread.sleep(50 + player.getLastPing());
-        } catch (InterruptedException ignore) { }
-        List<ChestEjectFunction> fittingFunctions = getChestEjectFunctions(chestEjectFunction.getDirection());
-        fittingFunctions.forEach(fittingFunction -> {
-            for (Inventory inventory : player.getOpenedInventories().values()) {
-                player.shiftToInventory(fittingFunction.getSlot(), inventory);
-                inventory.setActionCounter((short) (inventory.getActionCounter() + 1));
-            }
-            try {
-                Thread.sleep(50);
-            } catch (InterruptedException ignore) { }
-        });
-        for (Integer window : new HashSet<>(player.getOpenedInventories().keySet())) {
+        transaction.setState(ChestEjectTransaction.State.AWAITING_CONFIRMATION);
+
+        // servers since 1.17 do not confirm clicks anymore, closing is safe as it is handled after the clicks.
+        // Close on the next tick, so the window is tracked by the player when it gets closed
+        if (transaction.getFunctions().isEmpty() || FishingBot.getInstance().getCurrentBot().getServerProtocol() >= ProtocolConstants.MINECRAFT_1_17)
+            FishingBot.getTickEngine().schedule("chest-eject-close", () -> finishChestTransaction(transaction), 1);
+    }
+
+    @EventHandler
+    public synchronized void onConfirmTransaction(ConfirmTransactionEvent event) {
+        ChestEjectTransaction transaction = this.chestTransaction;
+        if (transaction == null || transaction.getState() != ChestEjectTransaction.State.AWAITING_CONFIRMATION)
+            return;
+        if (event.getWindowId() != (byte) transaction.getWindowId() || event.getAction() != transaction.getLastAction())
+            return;
+        finishChestTransaction(transaction);
+    }
+
+    private synchronized void finishChestTransaction(ChestEjectTransaction transaction) {
+        if (chestTransaction != transaction)
+            return;
+        if (transaction.getTimeoutTask() != null)
+            transaction.getTimeoutTask().cancel();
+        transaction.setState(ChestEjectTransaction.State.FINISHED);
+        this.chestTransaction = null;
+
+        Player player = FishingBot.getInstance().getCurrentBot().getPlayer();
+        Set<Integer> windows = new HashSet<>(player.getOpenedInventories().keySet());
+        if (transaction.getWindowId() > 0)
+            windows.add(transaction.getWindowId());
+        for (Integer window : windows) {
             player.closeInventory(window);
         }
 
         if (chestEjectFunctions == null)
             return;
 
-        chestEjectFunctions.removeAll(fittingFunctions);
+        // the chest did not open in time, give up on these slots like a full chest
+        if (transaction.getFunctions() == null)
+            transaction.setFunctions(getChestEjectFunctions(transaction.getDirection()));
+        chestEjectFunctions.removeAll(transaction.getFunctions());
         if (!chestEjectFunctions.isEmpty())
-            internalFillAdjacentChest(chestEjectFunctions.get(0));
+            fillAdjacentChest(chestEjectFunctions.get(0));
     }
 }
@@ -8,6 +8,7 @@ package systems.kinau.fishingbot.modules.fishing;
 import lombok.Getter;
 import lombok.Setter;
 import systems.kinau.fishingbot.FishingBot;
+import systems.kinau.fishingbot.bot.ChatPriority;
 import systems.kinau.fishingbot.bot.Enchantment;
 import systems.kinau.fishingbot.bot.Item;
 import systems.kinau.fishingbot.bot.Slot;
@@ -19,16 +20,17 @@ import systems.kinau.fishingbot.event.custom.FishCaughtEvent;
 import systems.kinau.fishingbot.event.play.*;
 import systems.kinau.fishingbot.modules.Module;
 import systems.kinau.fishingbot.network.protocol.ProtocolConstants;
-import systems.kinau.fishingbot.network.protocol.play.PacketOutChatMessage;
 import systems.kinau.fishingbot.network.protocol.play.PacketOutUseItem;
+import systems.kinau.fishingbot.tick.TickTask;
 import systems.kinau.fishingbot.utils.ItemUtils;
 import systems.kinau.fishingbot.utils.StringUtils;
 
 import java.util.List;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
 
-public class FishingModule extends Module implements Runnable, Listener {
+public class FishingModule extends Module implements Listener {
 
     private static int BOBBER_ENTITY_TYPE;
 
@@ -45,7 +47,7 @@ public class FishingModule extends Module implements Runnable, Listener {
 
     @Getter @Setter private int currentFishingRodValue;
 
-    @Getter private Thread stuckingFix;
+    @Getter private TickTask stuckingFix;
     @Getter private boolean joined;
     @Getter @Setter private LootHistory lootHistory;
 
@@ -59,7 +61,7 @@ public class FishingModule extends Module implements Runnable, Listener {
                 BOBBER_ENTITY_TYPE = 101;
         } else
             BOBBER_ENTITY_TYPE = RegistryHandler.getEntityType("minecraft:fishing_bobber", FishingBot.getInstance().getCurrentBot().getServerProtocol());
-        if (BOBBER_ENTITY_TYPE == 0)
+        if (BOBBER_ENTITY_TYPE <= 0)
             BOBBER_ENTITY_TYPE = 90;
     }
 
@@ -71,16 +73,14 @@ public class FishingModule extends Module implements Runnable, Listener {
     public void onEnable() {
         FishingBot.getInstance().getCurrentBot().getEventManager().registerListener(this);
         if (FishingBot.getInstance().getCurrentBot().getConfig().isStuckingFixEnabled()) {
-            stuckingFix = new Thread(this);
-            stuckingFix.setName("stuckingFixThread");
-            stuckingFix.start();
+            stuckingFix = FishingBot.getTickEngine().scheduleRepeating("stucking-fix", this::checkStucking, 5, 5, TimeUnit.SECONDS);
         }
     }
 
     @Override
     public void onDisable() {
         if (stuckingFix != null)
-            stuckingFix.interrupt();
+            stuckingFix.cancel();
         FishingBot.getInstance().getCurrentBot().getEventManager().unregisterListener(this);
     }
 
@@ -184,14 +184,8 @@ public class FishingModule extends Module implements Runnable, Listener {
         //Print in mc chat (based on announcetype)
         logItem(currentMax,
                 FishingBot.getInstance().getCurrentBot().getConfig().getAnnounceTypeChat(),
-                (String str) -> FishingBot.getInstance().getCurrentBot().getNet().sendPacket(new PacketOutChatMessage(FishingBot.PREFIX + str)),
-                (String str) -> {
-                    // Delay the enchant messages to arrive after the item announcement
-                    try {
-                        Thread.sleep(200);
-                    } catch (InterruptedException ignore) { }
-                    FishingBot.getInstance().getCurrentBot().getNet().sendPacket(new PacketOutChatMessage(str));
-                });
+                (String str) -> FishingBot.getInstance().getCurrentBot().getPlayer().sendMessage(FishingBot.PREFIX + str, ChatPriority.LOW),
+                (String str) -> FishingBot.getInstance().getCurrentBot().getPlayer().sendMessage(str, ChatPriority.LOW));
 
         LootItem lootItem = getLootHistory().registerItem(currentMax.getName(), currentMax.getEnchantments());
 
@@ -294,6 +288,11 @@ public class FishingModule extends Module implements Runnable, Listener {
                 noRod();
             else {
                 FishingBot.getI18n().info("module-fishing-start-fishing");
+                long disconnectedAt = FishingBot.getInstance().getCurrentBot().getDisconnectedAt();
+                if (disconnectedAt > 0) {
+                    FishingBot.getI18n().info("bot-reconnect-time-to-fishing", System.currentTimeMillis() - disconnectedAt);
+                    FishingBot.getInstance().getCurrentBot().setDisconnectedAt(0);
+                }
                 if (FishingBot.getInstance().getCurrentBot().getPlayer().isCurrentlyLooking()) {
                     this.waitForLookFinish = true;
                     return;
@@ -421,36 +420,28 @@ public class FishingModule extends Module implements Runnable, Listener {
             stuck();
     }
 
-    @Override
-    public void run() {
-        while (!Thread.currentThread().isInterrupted()) {
-            if (System.currentTimeMillis() - getLastFish() > 60000) {
-                setLastFish(System.currentTimeMillis());
-                if (isNoRodAvailable())
-                    continue;
-                if (isPaused())
-                    continue;
-                Slot curr = FishingBot.getInstance().getCurrentBot().getPlayer().getHeldItem();
-                if (ItemUtils.isFishingRod(curr) && ItemUtils.getDamage(curr) >= 63) {
-                    noRod();
-                    continue;
-                }
-                setCurrentBobber(-1);
-                setTrackingNextEntityMeta(false);
-                FishingBot.getI18n().warning("module-fishing-bot-is-slow");
+    private void checkStucking() {
+        if (System.currentTimeMillis() - getLastFish() <= 60000)
+            return;
+        setLastFish(System.currentTimeMillis());
+        if (isNoRodAvailable())
+            return;
+        if (isPaused())
+            return;
+        Slot curr = FishingBot.getInstance().getCurrentBot().getPlayer().getHeldItem();
+        if (ItemUtils.isFishingRod(curr) && ItemUtils.getDamage(curr) >= 63) {
+            noRod();
+            return;
+        }
+        setCurrentBobber(-1);
+        setTrackingNextEntityMeta(false);
+        FishingBot.getI18n().warning("module-fishing-bot-is-slow");
 
-                if (FishingBot.getInstance().getCurrentBot().getPlayer().isCurrentlyLooking()) {
-                    this.waitForLookFinish = true;
-                    return;
-                }
-                setTrackingNextBobberId(true);
-                FishingBot.getInstance().getCurrentBot().getNet().sendPacket(new PacketOutUseItem());
-            }
-            try {
-                Thread.sleep(5000);
-            } catch (InterruptedException e) {
-                break;
-            }
+        if (FishingBot.getInstance().getCurrentBot().getPlayer().isCurrentlyLooking()) {
+            this.waitForLookFinish = true;
+            return;
         }
+        setTrackingNextBobberId(true);
+        FishingBot.getInstance().getCurrentBot().getNet().sendPacket(new PacketOutUseItem());
     }
 }
@@ -0,0 +1,333 @@
+package systems.kinau.fishingbot.modules.fishing;
+
+import org.json.simple.JSONObject;
+import org.json.simple.parser.JSONParser;
+import org.json.simple.parser.ParseException;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.function.IntFunction;
+
+/**
+ * Item and entity registry of one registries_*.json file.
+ * Ids are mapped to names by dense arrays and names to ids by a minimal perfect hash.
+ * The build converts the json files to the binary form written by {@link #write(DataOutputStream)}
+ * (see {@link RegistrySnapshotGenerator}), the json is only parsed if no snapshot is available.
+ */
+public class RegistrySnapshot {
+
+    public static final int MAGIC = 0x46425247;
+    public static final int VERSION = 1;
+
+    private final Registry items;
+    private final Registry entities;
+
+    private RegistrySnapshot(Registry items, Registry entities) {
+        this.items = items;
+        this.entities = entities;
+    }
+
+    public String getItemName(int id) {
+        return items.getName(id);
+    }
+
+    public int getItemId(String name) {
+        return items.getId(name);
+    }
+
+    public String getEntityName(int id) {
+        return entities.getName(id);
+    }
+
+    public int getEntityId(String name) {
+        return entities.getId(name);
+    }
+
+    /**
+     * @return read only view of all item ids and names
+     */
+    public Map<Integer, String> getItemsMap() {
+        return items.asMap();
+    }
+
+    /**
+     * @return read only view of all entity names and ids
+     */
+    public Map<String, Integer> getEntitiesMap() {
+        return entities.asInverseMap();
+    }
+
+    public static RegistrySnapshot empty() {
+        return new RegistrySnapshot(Registry.build(new String[0]), Registry.build(new String[0]));
+    }
+
+    public static RegistrySnapshot read(InputStream input) throws IOException {
+        DataInputStream in = new DataInputStream(input);
+        if (in.readInt() != MAGIC)
+            throw new IOException("No registry snapshot");
+        int version = in.readUnsignedByte();
+        if (version != VERSION)
+            throw new IOException("Unsupported registry snapshot version " + version);
+        return new RegistrySnapshot(Registry.read(in), Registry.read(in));
+    }
+
+    public void write(DataOutputStream out) throws IOException {
+        out.writeInt(MAGIC);
+        out.writeByte(VERSION);
+        items.write(out);
+        entities.write(out);
+    }
+
+    public static RegistrySnapshot fromJson(InputStream input) throws IOException {
+        JSONObject root;
+        try {
+            root = (JSONObject) new JSONParser().parse(new InputStreamReader(input, StandardCharsets.UTF_8));
+        } catch (ParseException ex) {
+            throw new IOException(ex);
+        }
+        // pre 1.14 files only contain the items
+        if (!root.containsKey("minecraft:item"))
+            return new RegistrySnapshot(Registry.fromJson(root), Registry.build(new String[0]));
+        JSONObject items = (JSONObject) ((JSONObject) root.get("minecraft:item")).get("entries");
+        JSONObject entities = (JSONObject) ((JSONObject) root.get("minecraft:entity_type")).get("entries");
+        return new RegistrySnapshot(Registry.fromJson(items), Registry.fromJson(entities));
+    }
+
+    static int hash(String key, int seed) {
+        int hash = 0x811C9DC5 ^ (seed * 0x9E3779B9);
+        for (int i = 0; i < key.length(); i++) {
+            hash ^= key.charAt(i);
+            hash *= 0x01000193;
+        }
+        hash ^= hash >>> 16;
+        hash *= 0x85EBCA6B;
+        hash ^= hash >>> 13;
+        return hash & 0x7FFFFFFF;
+    }
+
+    private static class Registry {
+
+        private final String[] names;
+        private final int[] displacements;
+        private final int[] slots;
+
+        private Registry(String[] names, int[] displacements, int[] slots) {
+            this.names = names;
+            this.displacements = displacements;
+            this.slots = slots;
+        }
+
+        String getName(int id) {
+            return id < 0 || id >= names.length ? null : names[id];
+        }
+
+        int getId(String name) {
+            if (name == null || slots.length == 0)
+                return -1;
+            int displacement = displacements[hash(name, 0) % displacements.length];
+            int id = slots[hash(name, displacement) % slots.length];
+            return id >= 0 && name.equals(names[id]) ? id : -1;
+        }
+
+        @SuppressWarnings("unchecked")
+        static Registry fromJson(JSONObject entries) {
+            int maxId = -1;
+            for (Object value : entries.values()) {
+                maxId = Math.max(maxId, ((Long) ((JSONObject) value).get("protocol_id")).intValue());
+            }
+            String[] names = new String[maxId + 1];
+            entries.forEach((key, value) -> names[((Long) ((JSONObject) value).get("protocol_id")).intValue()] = (String) key);
+            return build(names);
+        }
+
+        /**
+         * Builds the name index with hash and displace: the keys are grouped into buckets by one hash,
+         * then for every bucket (biggest first) a seed is searched which puts all its keys into free slots.
+         */
+        static Registry build(String[] names) {
+            List<Integer> ids = new ArrayList<>();
+            for (int id = 0; id < names.length; id++) {
+                if (names[id] != null)
+                    ids.add(id);
+            }
+            int[] slots = new int[ids.size()];
+            int[] displacements = new int[Math.max(1, ids.size() / 2)];
+            if (ids.isEmpty())
+                return new Registry(names, displacements, slots);
+
+            List<List<Integer>> buckets = new ArrayList<>();
+            for (int i = 0; i < displacements.length; i++) {
+                buckets.add(new ArrayList<>());
+            }
+            for (int id : ids) {
+                buckets.get(hash(names[id], 0) % displacements.length).add(id);
+            }
+            Integer[] order = new Integer[displacements.length];
+            for (int i = 0; i < order.length; i++) {
+                order[i] = i;
+            }
+            Arrays.sort(order, (a, b) -> Integer.compare(buckets.get(b).size(), buckets.get(a).size()));
+
+            Arrays.fill(slots, -1);
+            int[] bucketSlots = new int[0];
+            for (int bucketIndex : order) {
+                List<Integer> bucket = buckets.get(bucketIndex);
+                if (bucket.isEmpty())
+                    break;
+                if (bucketSlots.length < bucket.size())
+                    bucketSlots = new int[bucket.size()];
+                for (int displacement = 1; ; displacement++) {
+                    if (tryPlace(names, bucket, displacement, slots, bucketSlots)) {
+                        displacements[bucketIndex] = displacement;
+                        break;
+                    }
+                }
+            }
+            return new Registry(names, displacements, slots);
+        }
+
+        private static boolean tryPlace(String[] names, List<Integer> bucket, int displacement, int[] slots, int[] bucketSlots) {
+            for (int i = 0; i < bucket.size(); i++) {
+                int slot = hash(names[bucket.get(i)], displacement) % slots.length;
+                if (slots[slot] != -1)
+                    return false;
+                for (int j = 0; j < i; j++) {
+                    if (bucketSlots[j] == slot)
+                        return false;
+                }
+                bucketSlots[i] = slot;
+            }
+            for (int i = 0; i < bucket.size(); i++) {
+                slots[bucketSlots[i]] = bucket.get(i);
+            }
+            return true;
+        }
+
+        static Registry read(DataInputStream in) throws IOException {
+            String[] names = new String[in.readInt()];
+            for (int id = 0; id < names.length; id++) {
+                if (in.readBoolean())
+                    names[id] = in.readUTF();
+            }
+            int[] displacements = new int[in.readInt()];
+            for (int i = 0; i < displacements.length; i++) {
+                displacements[i] = in.readInt();
+            }
+            int[] slots = new int[in.readInt()];
+            for (int i = 0; i < slots.length; i++) {
+                slots[i] = in.readInt();
+            }
+            return new Registry(names, displacements, slots);
+        }
+
+        void write(DataOutputStream out) throws IOException {
+            out.writeInt(names.length);
+            for (String name : names) {
+                out.writeBoolean(name != null);
+                if (name != null)
+                    out.writeUTF(name);
+            }
+            out.writeInt(displacements.length);
+            for (int displacement : displacements) {
+                out.writeInt(displacement);
+            }
+            out.writeInt(slots.length);
+            for (int slot : slots) {
+                out.writeInt(slot);
+            }
+        }
+
+        Map<Integer, String> asMap() {
+            return new AbstractMap<Integer, String>() {
+                @Override
+                public String get(Object key) {
+                    return key instanceof Integer ? getName((Integer) key) : null;
+                }
+
+                @Override
+                public boolean containsKey(Object key) {
+                    return get(key) != null;
+                }
+
+                @Override
+                public Set<Entry<Integer, String>> entrySet() {
+                    return new EntrySet<>(entry -> new SimpleImmutableEntry<>(entry, names[entry]));
+                }
+            };
+        }
+
+        Map<String, Integer> asInverseMap() {
+            return new AbstractMap<String, Integer>() {
+                @Override
+                public Integer get(Object key) {
+                    int id = key instanceof String ? getId((String) key) : -1;
+                    return id < 0 ? null : id;
+                }
+
+                @Override
+                public boolean containsKey(Object key) {
+                    return get(key) != null;
+                }
+
+                @Override
+                public Set<Entry<String, Integer>> entrySet() {
+                    return new EntrySet<>(entry -> new SimpleImmutableEntry<>(names[entry], entry));
+                }
+            };
+        }
+
+        private class EntrySet<K, V> extends AbstractSet<Map.Entry<K, V>> {
+
+            private final IntFunction<Map.Entry<K, V>> entryFactory;
+
+            EntrySet(IntFunction<Map.Entry<K, V>> entryFactory) {
+                this.entryFactory = entryFactory;
+            }
+
+            @Override
+            public Iterator<Map.Entry<K, V>> iterator() {
+                return new Iterator<Map.Entry<K, V>>() {
+                    private int next = advance(0);
+
+                    private int advance(int from) {
+                        while (from < names.length && names[from] == null)
+                            from++;
+                        return from;
+                    }
+
+                    @Override
+                    public boolean hasNext() {
+                        return next < names.length;
+                    }
+
+                    @Override
+                    public Map.Entry<K, V> next() {
+                        if (!hasNext())
+                            throw new NoSuchElementException();
+                        Map.Entry<K, V> entry = entryFactory.apply(next);
+                        next = advance(next + 1);
+                        return entry;
+                    }
+                };
+            }
+
+            @Override
+            public int size() {
+                return slots.length;
+            }
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package systems.kinau.fishingbot.modules.fishing;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Build step converting all registries_*.json files into registry snapshots, run by the exec-maven-plugin.
+ * Arguments: the directory containing the json files and the output directory.
+ */
+public class RegistrySnapshotGenerator {
+
+    public static void main(String[] args) throws IOException {
+        if (args.length != 2)
+            throw new IllegalArgumentException("Usage: RegistrySnapshotGenerator <json directory> <output directory>");
+        File source = new File(args[0]);
+        File target = new File(args[1]);
+        if (!target.isDirectory() && !target.mkdirs())
+            throw new IOException("Could not create " + target.getAbsolutePath());
+
+        File[] files = source.listFiles((dir, name) -> name.startsWith("registries_") && name.endsWith(".json"));
+        if (files == null || files.length == 0)
+            throw new IOException("No registries found in " + source.getAbsolutePath());
+        for (File file : files) {
+            RegistrySnapshot snapshot;
+            try (InputStream in = new FileInputStream(file)) {
+                snapshot = RegistrySnapshot.fromJson(in);
+            }
+            File output = new File(target, file.getName().replace(".json", RegistryHandler.SNAPSHOT_EXTENSION));
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(output)))) {
+                snapshot.write(out);
+            }
+            System.out.println("Wrote " + output.getName() + " (" + output.length() + " bytes)");
+        }
+    }
+}
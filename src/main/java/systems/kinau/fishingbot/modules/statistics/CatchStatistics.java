@@ -0,0 +1,78 @@
+package systems.kinau.fishingbot.modules.statistics;
+
+import lombok.Getter;
+import systems.kinau.fishingbot.bot.Enchantment;
+import systems.kinau.fishingbot.bot.Item;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Rolling catch rates in total, per item and per enchantment for every {@link Resolution}.
+ * Survives reconnects the same way the {@link systems.kinau.fishingbot.bot.loot.LootHistory} does.
+ */
+public class CatchStatistics {
+
+    @Getter private final long trackingSince = System.currentTimeMillis();
+    private final RollingCounter[] total = createCounters();
+    private final Map<String, RollingCounter[]> items = new ConcurrentHashMap<>();
+    private final Map<String, RollingCounter[]> enchantments = new ConcurrentHashMap<>();
+
+    public void registerCatch(Item item, long now) {
+        increment(total, now);
+        increment(items.computeIfAbsent(item.getName().toLowerCase(), s -> createCounters()), now);
+        if (item.getEnchantments() == null)
+            return;
+        for (Enchantment enchantment : item.getEnchantments())
+            increment(enchantments.computeIfAbsent(enchantment.getEnchantmentType().getName().toUpperCase(), s -> createCounters()), now);
+    }
+
+    public int getCount(Resolution resolution, long now) {
+        return total[resolution.ordinal()].sum(now);
+    }
+
+    /**
+     * @param key item name (e.g. enchanted_book) or enchantment name (e.g. MENDING)
+     * @return the number of catches matching key, or -1 if nothing matching key was ever caught
+     */
+    public int getCount(String key, Resolution resolution, long now) {
+        RollingCounter[] counters = items.get(key.toLowerCase());
+        if (counters == null)
+            counters = enchantments.get(key.toUpperCase());
+        if (counters == null)
+            return -1;
+        return counters[resolution.ordinal()].sum(now);
+    }
+
+    public double getRatePerHour(int count, Resolution resolution, long now) {
+        long window = Math.min(resolution.getWindowMillis(), Math.max(now - trackingSince, TimeUnit.MINUTES.toMillis(1)));
+        return count * (double) TimeUnit.HOURS.toMillis(1) / window;
+    }
+
+    public Map<String, Integer> getItemCounts(Resolution resolution, long now) {
+        Map<String, Integer> counts = new HashMap<>();
+        items.forEach((name, counters) -> {
+            int count = counters[resolution.ordinal()].sum(now);
+            if (count > 0)
+                counts.put(name, count);
+        });
+        return counts;
+    }
+
+    public boolean isEmpty() {
+        return items.isEmpty();
+    }
+
+    private static RollingCounter[] createCounters() {
+        RollingCounter[] counters = new RollingCounter[Resolution.values().length];
+        for (Resolution resolution : Resolution.values())
+            counters[resolution.ordinal()] = new RollingCounter(resolution);
+        return counters;
+    }
+
+    private static void increment(RollingCounter[] counters, long now) {
+        for (RollingCounter counter : counters)
+            counter.increment(now);
+    }
+}
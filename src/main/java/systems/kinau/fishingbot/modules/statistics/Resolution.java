@@ -0,0 +1,26 @@
+package systems.kinau.fishingbot.modules.statistics;
+
+import lombok.Getter;
+
+import java.util.concurrent.TimeUnit;
+
+public enum Resolution {
+
+    TEN_MINUTES("statistics-resolution-ten-minutes", TimeUnit.SECONDS.toMillis(10), 60),
+    HOUR("statistics-resolution-hour", TimeUnit.MINUTES.toMillis(1), 60),
+    DAY("statistics-resolution-day", TimeUnit.MINUTES.toMillis(15), 96);
+
+    @Getter private final String translationKey;
+    @Getter private final long bucketMillis;
+    @Getter private final int buckets;
+
+    Resolution(String translationKey, long bucketMillis, int buckets) {
+        this.translationKey = translationKey;
+        this.bucketMillis = bucketMillis;
+        this.buckets = buckets;
+    }
+
+    public long getWindowMillis() {
+        return bucketMillis * buckets;
+    }
+}
@@ -0,0 +1,40 @@
+package systems.kinau.fishingbot.modules.statistics;
+
+/**
+ * Ring buffer of time buckets counting events of the last {@link Resolution#getWindowMillis()}.
+ * Stale buckets are reset lazily when they are reused, so memory stays constant.
+ */
+public class RollingCounter {
+
+    private final long bucketMillis;
+    private final int[] counts;
+    private final long[] epochs;
+
+    public RollingCounter(Resolution resolution) {
+        this.bucketMillis = resolution.getBucketMillis();
+        this.counts = new int[resolution.getBuckets()];
+        this.epochs = new long[resolution.getBuckets()];
+        for (int i = 0; i < epochs.length; i++)
+            epochs[i] = -1;
+    }
+
+    public synchronized void increment(long now) {
+        long epoch = now / bucketMillis;
+        int index = (int) (epoch % counts.length);
+        if (epochs[index] != epoch) {
+            epochs[index] = epoch;
+            counts[index] = 0;
+        }
+        counts[index]++;
+    }
+
+    public synchronized int sum(long now) {
+        long oldestEpoch = now / bucketMillis - counts.length;
+        int sum = 0;
+        for (int i = 0; i < counts.length; i++) {
+            if (epochs[i] > oldestEpoch)
+                sum += counts[i];
+        }
+        return sum;
+    }
+}
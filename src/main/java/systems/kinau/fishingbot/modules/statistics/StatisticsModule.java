@@ -0,0 +1,63 @@
+package systems.kinau.fishingbot.modules.statistics;
+
+import lombok.Getter;
+import systems.kinau.fishingbot.FishingBot;
+import systems.kinau.fishingbot.event.EventHandler;
+import systems.kinau.fishingbot.event.Listener;
+import systems.kinau.fishingbot.event.custom.FishCaughtEvent;
+import systems.kinau.fishingbot.modules.Module;
+
+import java.text.NumberFormat;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+public class StatisticsModule extends Module implements Listener {
+
+    @Getter private final CatchStatistics statistics;
+
+    public StatisticsModule(CatchStatistics savedStatistics) {
+        this.statistics = savedStatistics;
+    }
+
+    @Override
+    public void onEnable() {
+        FishingBot.getInstance().getCurrentBot().getEventManager().registerListener(this);
+    }
+
+    @Override
+    public void onDisable() {
+        FishingBot.getInstance().getCurrentBot().getEventManager().unregisterListener(this);
+    }
+
+    @EventHandler
+    public void onCaught(FishCaughtEvent event) {
+        getStatistics().registerCatch(event.getItem(), System.currentTimeMillis());
+    }
+
+    /**
+     * Creates one line per {@link Resolution} with the catch count and catches per hour
+     *
+     * @param key item or enchantment name to filter by, null for all catches
+     * @return the formatted lines or an empty list if key has never been caught
+     */
+    public List<String> formatRates(String key) {
+        NumberFormat numberFormat = NumberFormat.getNumberInstance(Locale.ROOT);
+        numberFormat.setMaximumFractionDigits(1);
+        long now = System.currentTimeMillis();
+        List<String> lines = new ArrayList<>();
+        for (Resolution resolution : Resolution.values()) {
+            int count = key == null ? getStatistics().getCount(resolution, now) : getStatistics().getCount(key, resolution, now);
+            if (count < 0)
+                return lines;
+            lines.add(FishingBot.getI18n().t("statistics-rate", FishingBot.getI18n().t(resolution.getTranslationKey()),
+                    String.valueOf(count), numberFormat.format(getStatistics().getRatePerHour(count, resolution, now))));
+        }
+        return lines;
+    }
+
+    public Map<String, Integer> getItemCounts(Resolution resolution) {
+        return getStatistics().getItemCounts(resolution, System.currentTimeMillis());
+    }
+}
@@ -0,0 +1,116 @@
+package systems.kinau.fishingbot.modules.timer;
+
+import lombok.Getter;
+
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.BitSet;
+
+/**
+ * Minimal cron expression with the five classic fields: minute hour day-of-month month day-of-week.
+ * Every field supports *, single values, ranges (a-b), lists (a,b) and steps (* /n, a-b/n).
+ * Day of week 0 and 7 are both sunday.
+ */
+public class CronExpression {
+
+    private static final int MAX_YEARS_AHEAD = 5;
+
+    @Getter private final String expression;
+    private final BitSet minutes;
+    private final BitSet hours;
+    private final BitSet daysOfMonth;
+    private final BitSet months;
+    private final BitSet daysOfWeek;
+    private final boolean daysOfMonthRestricted;
+    private final boolean daysOfWeekRestricted;
+
+    public CronExpression(String expression) {
+        this.expression = expression.trim();
+        String[] fields = this.expression.split("\\s+");
+        if (fields.length != 5)
+            throw new IllegalArgumentException("Cron expression needs 5 fields: " + expression);
+        this.minutes = parseField(fields[0], 0, 59);
+        this.hours = parseField(fields[1], 0, 23);
+        this.daysOfMonth = parseField(fields[2], 1, 31);
+        this.months = parseField(fields[3], 1, 12);
+        this.daysOfWeek = parseField(fields[4], 0, 7);
+        if (daysOfWeek.get(7))
+            daysOfWeek.set(0);
+        this.daysOfMonthRestricted = !fields[2].equals("*");
+        this.daysOfWeekRestricted = !fields[4].equals("*");
+    }
+
+    /**
+     * @return the next fire time in epoch millis strictly after the given time or -1 if there is none
+     */
+    public long next(long afterMillis, ZoneId zone) {
+        ZonedDateTime time = Instant.ofEpochMilli(afterMillis).atZone(zone).truncatedTo(ChronoUnit.MINUTES).plusMinutes(1);
+        ZonedDateTime limit = time.plusYears(MAX_YEARS_AHEAD);
+        while (time.isBefore(limit)) {
+            if (!months.get(time.getMonthValue())) {
+                time = time.withDayOfMonth(1).truncatedTo(ChronoUnit.DAYS).plusMonths(1);
+                continue;
+            }
+            if (!matchesDay(time)) {
+                time = time.truncatedTo(ChronoUnit.DAYS).plusDays(1);
+                continue;
+            }
+            if (!hours.get(time.getHour())) {
+                time = time.truncatedTo(ChronoUnit.HOURS).plusHours(1);
+                continue;
+            }
+            if (!minutes.get(time.getMinute())) {
+                time = time.plusMinutes(1);
+                continue;
+            }
+            return time.toInstant().toEpochMilli();
+        }
+        return -1;
+    }
+
+    private boolean matchesDay(ZonedDateTime time) {
+        boolean dayOfMonth = daysOfMonth.get(time.getDayOfMonth());
+        boolean dayOfWeek = daysOfWeek.get(time.getDayOfWeek().getValue() % 7);
+        // like classic cron, a restricted day of month and day of week match if either does
+        if (daysOfMonthRestricted && daysOfWeekRestricted)
+            return dayOfMonth || dayOfWeek;
+        return dayOfMonth && dayOfWeek;
+    }
+
+    private static BitSet parseField(String field, int min, int max) {
+        BitSet values = new BitSet(max + 1);
+        for (String part : field.split(",")) {
+            int step = 1;
+            int stepIndex = part.indexOf('/');
+            if (stepIndex >= 0) {
+                step = Integer.parseInt(part.substring(stepIndex + 1));
+                part = part.substring(0, stepIndex);
+            }
+            int from;
+            int to;
+            if (part.equals("*")) {
+                from = min;
+                to = max;
+            } else if (part.contains("-")) {
+                from = Integer.parseInt(part.substring(0, part.indexOf('-')));
+                to = Integer.parseInt(part.substring(part.indexOf('-') + 1));
+            } else {
+                from = Integer.parseInt(part);
+                to = stepIndex >= 0 ? max : from;
+            }
+            if (from < min || to > max || from > to || step < 1)
+                throw new IllegalArgumentException("Invalid cron field " + field + " (allowed " + min + "-" + max + ")");
+            for (int i = from; i <= to; i += step) {
+                values.set(i);
+            }
+        }
+        return values;
+    }
+
+    @Override
+    public String toString() {
+        return expression;
+    }
+}
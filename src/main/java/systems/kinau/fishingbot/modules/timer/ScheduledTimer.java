@@ -0,0 +1,116 @@
+package systems.kinau.fishingbot.modules.timer;
+
+import lombok.Getter;
+import systems.kinau.fishingbot.Bot;
+import systems.kinau.fishingbot.FishingBot;
+import systems.kinau.fishingbot.tick.TickEngine;
+import systems.kinau.fishingbot.tick.TickTask;
+
+import java.time.ZoneId;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Runs a timer on the tick engine. Every run is scheduled for its intended time, its commands are sent
+ * as a chain of one-tick continuations and the difference between intended and actual fire time is recorded.
+ */
+public class ScheduledTimer {
+
+    private static final long DRIFT_WARNING_THRESHOLD = 1000;
+
+    @Getter private final Timer timer;
+    private final CronExpression cron;
+    private final long period;
+    private final long jitter;
+
+    @Getter private long nextFireTime;
+    private long intendedFireTime;
+    private TickTask task;
+    private volatile boolean cancelled;
+
+    @Getter private long runs;
+    @Getter private long lastDrift;
+    @Getter private long maxDrift;
+    private long totalDrift;
+
+    public ScheduledTimer(Timer timer) {
+        this.timer = timer;
+        this.cron = timer.getCron() == null || timer.getCron().trim().isEmpty() ? null : new CronExpression(timer.getCron());
+        this.period = Math.max(TickEngine.TICK_MILLIS, timer.getTimeUnit().toMillis(timer.getUnits()));
+        this.jitter = TimeUnit.SECONDS.toMillis(Math.max(0, timer.getJitter()));
+    }
+
+    public synchronized void start() {
+        this.intendedFireTime = System.currentTimeMillis();
+        scheduleNext();
+    }
+
+    public synchronized void cancel() {
+        this.cancelled = true;
+        if (task != null)
+            task.cancel();
+    }
+
+    public double getAverageDrift() {
+        return runs == 0 ? 0 : (double) totalDrift / runs;
+    }
+
+    private synchronized void scheduleNext() {
+        if (cancelled)
+            return;
+        // intended times are derived from the previous intended time, so drift does not add up
+        if (cron != null)
+            this.intendedFireTime = cron.next(intendedFireTime, ZoneId.systemDefault());
+        else
+            this.intendedFireTime += period;
+        if (intendedFireTime < 0)
+            return;
+        this.nextFireTime = intendedFireTime + (jitter > 0 ? ThreadLocalRandom.current().nextLong(jitter + 1) : 0);
+        long delay = Math.max(0, nextFireTime - System.currentTimeMillis());
+        this.task = FishingBot.getTickEngine().schedule("timer-" + timer.getName(), this::fire, delay, TimeUnit.MILLISECONDS);
+    }
+
+    private void fire() {
+        long drift = System.currentTimeMillis() - nextFireTime;
+        synchronized (this) {
+            if (cancelled)
+                return;
+            this.runs++;
+            this.lastDrift = drift;
+            this.maxDrift = Math.max(maxDrift, drift);
+            this.totalDrift += drift;
+            // runs missed by more than a period are skipped instead of being caught up,
+            // the next run is the first slot after now (cron slots are searched from now, minus the jitter of this run)
+            long now = System.currentTimeMillis();
+            if (cron != null)
+                this.intendedFireTime = Math.max(intendedFireTime, now - jitter);
+            else if (now - intendedFireTime >= period)
+                this.intendedFireTime += ((now - intendedFireTime) / period) * period;
+            scheduleNext();
+        }
+        if (drift > DRIFT_WARNING_THRESHOLD)
+            FishingBot.getI18n().warning("module-timer-drift", timer.getName(), drift);
+
+        runStep(timer.getCommands(), 0);
+    }
+
+    private void runStep(List<String> commands, int index) {
+        if (cancelled || index >= commands.size())
+            return;
+        Bot bot = FishingBot.getInstance().getCurrentBot();
+        if (bot == null)
+            return;
+        bot.runCommand(commands.get(index), true);
+        if (index + 1 < commands.size())
+            FishingBot.getTickEngine().schedule("timer-" + timer.getName() + "-step", () -> runStep(commands, index + 1), 1);
+    }
+
+    @Override
+    public String toString() {
+        return timer.getName() + " (runs: " + runs
+                + ", drift avg: " + String.format("%.1f", getAverageDrift()) + "ms"
+                + ", last: " + lastDrift + "ms"
+                + ", max: " + maxDrift + "ms)";
+    }
+}
@@ -14,5 +14,13 @@ public class Timer {
     private int units;
     private TimeUnit timeUnit;
     private List<String> commands;
+    // optional cron expression (minute hour day-of-month month day-of-week), replaces units and timeUnit
+    private String cron;
+    // random delay up to this amount of seconds added to every run
+    private int jitter;
+
+    public Timer(String name, int units, TimeUnit timeUnit, List<String> commands) {
+        this(name, units, timeUnit, commands, null, 0);
+    }
 
 }
@@ -1,17 +1,16 @@
 package systems.kinau.fishingbot.modules.timer;
 
-import systems.kinau.fishingbot.Bot;
+import lombok.Getter;
 import systems.kinau.fishingbot.FishingBot;
 import systems.kinau.fishingbot.modules.Module;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.concurrent.ScheduledFuture;
 
 public class TimerModule extends Module {
 
     private List<Timer> enabledTimers;
-    private List<ScheduledFuture<?>> runningTimers;
+    @Getter private List<ScheduledTimer> runningTimers;
 
     @Override
     public void onEnable() {
@@ -22,24 +21,18 @@ public class TimerModule extends Module {
 
     @Override
     public void onDisable() {
-        runningTimers.forEach(scheduledFuture -> scheduledFuture.cancel(true));
+        runningTimers.forEach(ScheduledTimer::cancel);
     }
 
     private void startTimers() {
         enabledTimers.forEach(timer -> {
-            runningTimers.add(FishingBot.getScheduler().scheduleAtFixedRate(() -> {
-                for (String command : timer.getCommands()) {
-                    try {
-                        Thread.sleep(50);
-                    } catch (InterruptedException e) {
-                        e.printStackTrace();
-                    }
-                    Bot bot = FishingBot.getInstance().getCurrentBot();
-                    if (bot == null)
-                        continue;
-                    bot.runCommand(command, true);
-                }
-            }, timer.getUnits(), timer.getUnits(), timer.getTimeUnit()));
+            try {
+                ScheduledTimer scheduledTimer = new ScheduledTimer(timer);
+                scheduledTimer.start();
+                runningTimers.add(scheduledTimer);
+            } catch (IllegalArgumentException ex) {
+                FishingBot.getI18n().severe("module-timer-invalid-cron", timer.getName(), ex.getMessage());
+            }
         });
     }
 }
@@ -0,0 +1,20 @@
+package systems.kinau.fishingbot.network.capture;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import systems.kinau.fishingbot.network.protocol.State;
+
+/**
+ * One frame read from a packet capture, data is the payload without the packet id
+ */
+@Getter
+@AllArgsConstructor
+public class CapturedPacket {
+
+    private final boolean inbound;
+    private final State state;
+    private final long timestamp;
+    private final int packetId;
+    private final byte[] data;
+
+}
@@ -0,0 +1,84 @@
+package systems.kinau.fishingbot.network.capture;
+
+import lombok.Getter;
+import systems.kinau.fishingbot.network.protocol.State;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.text.SimpleDateFormat;
+import java.util.Date;
+
+/**
+ * Writes the decompressed packets of one connection to a capture file.
+ * <p>
+ * Format: magic "FBCP", format version, protocol id and start time (epoch millis), followed by one record per packet:
+ * a flag byte (bit 7 set for inbound packets, lower bits the state), the milliseconds since the previous record,
+ * the packet id and the payload length (all var ints) and the payload.
+ */
+public class PacketCapture implements Closeable {
+
+    public static final int MAGIC = 0x46424350;
+    public static final int VERSION = 1;
+    public static final String FILE_EXTENSION = ".fbcap";
+
+    @Getter private final File file;
+    @Getter private final int protocol;
+    @Getter private long packets;
+    private final DataOutputStream out;
+    private long lastTimestamp;
+    private boolean failed;
+
+    private PacketCapture(File file, int protocol) throws IOException {
+        this.file = file;
+        this.protocol = protocol;
+        this.out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(file), 64 * 1024));
+        this.lastTimestamp = System.currentTimeMillis();
+        out.writeInt(MAGIC);
+        out.writeByte(VERSION);
+        writeVarLong(protocol);
+        out.writeLong(lastTimestamp);
+    }
+
+    public static PacketCapture open(File folder, int protocol) throws IOException {
+        if (!folder.exists() && !folder.mkdirs())
+            throw new IOException("Could not create " + folder.getAbsolutePath());
+        String name = "capture-" + new SimpleDateFormat("yyyy-MM-dd_HH-mm-ss").format(new Date()) + FILE_EXTENSION;
+        return new PacketCapture(new File(folder, name), protocol);
+    }
+
+    public synchronized void write(boolean inbound, State state, int packetId, byte[] data, int offset, int length) {
+        if (failed)
+            return;
+        try {
+            long now = System.currentTimeMillis();
+            out.writeByte((inbound ? 0x80 : 0) | state.ordinal());
+            writeVarLong(Math.max(0, now - lastTimestamp));
+            writeVarLong(packetId);
+            writeVarLong(length);
+            out.write(data, offset, length);
+            lastTimestamp = now;
+            packets++;
+        } catch (IOException ex) {
+            // a broken capture must not break the connection
+            failed = true;
+            ex.printStackTrace();
+        }
+    }
+
+    private void writeVarLong(long value) throws IOException {
+        while ((value & ~0x7FL) != 0) {
+            out.writeByte((int) (value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.writeByte((int) value);
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        out.close();
+    }
+}
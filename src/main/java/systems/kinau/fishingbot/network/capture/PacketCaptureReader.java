@@ -0,0 +1,77 @@
+package systems.kinau.fishingbot.network.capture;
+
+import lombok.Getter;
+import systems.kinau.fishingbot.network.protocol.State;
+
+import java.io.BufferedInputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+
+/**
+ * Reads capture files written by {@link PacketCapture}
+ */
+public class PacketCaptureReader implements Closeable {
+
+    private static final State[] STATES = State.values();
+
+    private final DataInputStream in;
+    @Getter private final int protocol;
+    @Getter private final long startTime;
+    private long timestamp;
+
+    public PacketCaptureReader(File file) throws IOException {
+        this.in = new DataInputStream(new BufferedInputStream(new FileInputStream(file), 64 * 1024));
+        try {
+            if (in.readInt() != PacketCapture.MAGIC)
+                throw new IOException(file.getName() + " is no packet capture");
+            int version = in.readUnsignedByte();
+            if (version != PacketCapture.VERSION)
+                throw new IOException("Unsupported capture version " + version);
+            this.protocol = (int) readVarLong();
+            this.startTime = in.readLong();
+            this.timestamp = startTime;
+        } catch (IOException ex) {
+            in.close();
+            throw ex;
+        }
+    }
+
+    /**
+     * @return the next packet or null if the end of the capture is reached
+     */
+    public CapturedPacket next() throws IOException {
+        int flags = in.read();
+        if (flags < 0)
+            return null;
+        int state = flags & 0x7F;
+        if (state >= STATES.length)
+            throw new IOException("Invalid state " + state);
+        timestamp += readVarLong();
+        int packetId = (int) readVarLong();
+        byte[] data = new byte[(int) readVarLong()];
+        in.readFully(data);
+        return new CapturedPacket((flags & 0x80) != 0, STATES[state], timestamp, packetId, data);
+    }
+
+    private long readVarLong() throws IOException {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            int b = in.read();
+            if (b < 0)
+                throw new EOFException();
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0)
+                return value;
+        }
+        throw new IOException("VarLong too big");
+    }
+
+    @Override
+    public void close() throws IOException {
+        in.close();
+    }
+}
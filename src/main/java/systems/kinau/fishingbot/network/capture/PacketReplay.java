@@ -0,0 +1,78 @@
+package systems.kinau.fishingbot.network.capture;
+
+import lombok.Getter;
+import systems.kinau.fishingbot.FishingBot;
+import systems.kinau.fishingbot.network.protocol.NetworkHandler;
+import systems.kinau.fishingbot.network.protocol.Packet;
+import systems.kinau.fishingbot.network.protocol.State;
+import systems.kinau.fishingbot.network.protocol.login.PacketInEncryptionRequest;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Feeds the inbound packets of a capture through the packet decoding and the event system as fast as possible.
+ * Outgoing packets of the capture are only counted, packets sent by modules during the replay go nowhere.
+ */
+public class PacketReplay {
+
+    private static final int SHOWN_PACKET_TYPES = 10;
+
+    @Getter private final File file;
+    @Getter private long replayedPackets;
+    @Getter private long skippedPackets;
+    private final Map<Class<? extends Packet>, long[]> packetStats = new HashMap<>();
+
+    public PacketReplay(File file) {
+        this.file = file;
+    }
+
+    /**
+     * @return the protocol id the capture was recorded with
+     */
+    public int readProtocol() throws IOException {
+        try (PacketCaptureReader reader = new PacketCaptureReader(file)) {
+            return reader.getProtocol();
+        }
+    }
+
+    public void run(NetworkHandler networkHandler) throws IOException {
+        FishingBot.getI18n().info("replay-started", file.getName());
+        long start = System.nanoTime();
+        try (PacketCaptureReader reader = new PacketCaptureReader(file)) {
+            CapturedPacket packet;
+            while ((packet = reader.next()) != null && FishingBot.getInstance().getCurrentBot().isRunning()) {
+                if (!packet.isInbound() || isSkipped(networkHandler, packet)) {
+                    skippedPackets++;
+                    continue;
+                }
+                long packetStart = System.nanoTime();
+                Class<? extends Packet> packetClass = networkHandler.replayPacket(packet);
+                if (packetClass == null) {
+                    skippedPackets++;
+                    continue;
+                }
+                long[] stats = packetStats.computeIfAbsent(packetClass, clazz -> new long[2]);
+                stats[0]++;
+                stats[1] += System.nanoTime() - packetStart;
+                replayedPackets++;
+            }
+        }
+        long millis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        FishingBot.getI18n().info("replay-finished", replayedPackets, skippedPackets, millis, millis == 0 ? replayedPackets : replayedPackets * 1000 / millis);
+        packetStats.entrySet().stream()
+                .sorted((a, b) -> Long.compare(b.getValue()[1], a.getValue()[1]))
+                .limit(SHOWN_PACKET_TYPES)
+                .forEach(entry -> FishingBot.getI18n().info("replay-packet-stats", entry.getKey().getSimpleName(),
+                        entry.getValue()[0], TimeUnit.NANOSECONDS.toMicros(entry.getValue()[1]) / entry.getValue()[0]));
+    }
+
+    private boolean isSkipped(NetworkHandler networkHandler, CapturedPacket packet) {
+        // the encryption handshake would contact the session servers and encrypt a connection which does not exist
+        return packet.getState() == State.LOGIN
+                && networkHandler.getLoginRegistryIn().getPacket(packet.getPacketId()) == PacketInEncryptionRequest.class;
+    }
+}
@@ -0,0 +1,99 @@
+package systems.kinau.fishingbot.network.http;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import lombok.Getter;
+import org.apache.http.HttpResponse;
+import org.apache.http.client.config.RequestConfig;
+import org.apache.http.client.methods.HttpUriRequest;
+import org.apache.http.client.protocol.HttpClientContext;
+import org.apache.http.impl.client.BasicCookieStore;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.client.HttpClientBuilder;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.apache.http.protocol.HttpContext;
+import systems.kinau.fishingbot.FishingBot;
+import systems.kinau.fishingbot.io.config.SettingsConfig;
+
+import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * One pooled HTTP client for all calls to Mojang, Realms, Microsoft and Discord.
+ * Connections are kept alive between requests, so only the first call to a host pays for the TLS handshake.
+ * Every response entity has to be consumed, otherwise its connection does not go back to the pool.
+ */
+public class SharedHttpClient {
+
+    private static final int MAX_CONNECTIONS = 32;
+    private static final int MAX_CONNECTIONS_PER_ROUTE = 8;
+    private static final long IDLE_TIMEOUT = 30;
+    private static final int DEFAULT_CONNECT_TIMEOUT = 10000;
+    private static final int DEFAULT_READ_TIMEOUT = 20000;
+
+    private static volatile SharedHttpClient instance;
+
+    @Getter private final CloseableHttpClient client;
+    private final ExecutorService executor;
+
+    private SharedHttpClient(int connectTimeout, int readTimeout) {
+        PoolingHttpClientConnectionManager connectionManager = new PoolingHttpClientConnectionManager();
+        connectionManager.setMaxTotal(MAX_CONNECTIONS);
+        connectionManager.setDefaultMaxPerRoute(MAX_CONNECTIONS_PER_ROUTE);
+        this.client = HttpClientBuilder.create()
+                .setConnectionManager(connectionManager)
+                .setDefaultRequestConfig(RequestConfig.custom()
+                        .setConnectTimeout(connectTimeout)
+                        .setConnectionRequestTimeout(connectTimeout)
+                        .setSocketTimeout(readTimeout)
+                        .build())
+                .evictExpiredConnections()
+                .evictIdleConnections(IDLE_TIMEOUT, TimeUnit.SECONDS)
+                .build();
+        this.executor = Executors.newCachedThreadPool(new ThreadFactoryBuilder()
+                .setNameFormat("http-%d")
+                .setDaemon(true)
+                .build());
+    }
+
+    /**
+     * @return the client, created with the timeouts of the loaded config on first use
+     */
+    public static SharedHttpClient getInstance() {
+        SharedHttpClient httpClient = instance;
+        if (httpClient == null) {
+            synchronized (SharedHttpClient.class) {
+                httpClient = instance;
+                if (httpClient == null) {
+                    SettingsConfig config = FishingBot.getInstance() == null ? null : FishingBot.getInstance().getConfig();
+                    instance = httpClient = config == null
+                            ? new SharedHttpClient(DEFAULT_CONNECT_TIMEOUT, DEFAULT_READ_TIMEOUT)
+                            : new SharedHttpClient(config.getHttpConnectTimeout(), config.getHttpReadTimeout());
+                }
+            }
+        }
+        return httpClient;
+    }
+
+    /**
+     * Executes the request with its own cookies, so nothing is shared between accounts
+     */
+    public HttpResponse execute(HttpUriRequest request) throws IOException {
+        HttpClientContext context = HttpClientContext.create();
+        context.setCookieStore(new BasicCookieStore());
+        return execute(request, context);
+    }
+
+    public HttpResponse execute(HttpUriRequest request, HttpContext context) throws IOException {
+        return client.execute(request, context);
+    }
+
+    /**
+     * Runs blocking HTTP work in the background, e.g. while the bot waits for its next connection attempt
+     */
+    public CompletableFuture<Void> runAsync(Runnable task) {
+        return CompletableFuture.runAsync(task, executor);
+    }
+}
@@ -7,7 +7,7 @@ package systems.kinau.fishingbot.network.ping;
 
 import com.google.common.io.ByteArrayDataOutput;
 import com.google.common.io.ByteStreams;
-import lombok.AllArgsConstructor;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import org.json.simple.JSONObject;
 import org.json.simple.parser.JSONParser;
 import systems.kinau.fishingbot.FishingBot;
@@ -21,17 +21,61 @@ import javax.naming.directory.InitialDirContext;
 import java.io.DataInputStream;
 import java.io.DataOutputStream;
 import java.io.IOException;
+import java.net.ConnectException;
+import java.net.InetSocketAddress;
+import java.net.NoRouteToHostException;
 import java.net.Socket;
 import java.net.UnknownHostException;
 import java.util.Hashtable;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 
-@AllArgsConstructor
+/**
+ * Pings servers in the background. SRV records and status answers are cached and shared by all bots of this JVM,
+ * so bots (re)connecting to the same server at the same time cause a single lookup and ping.
+ */
 public class ServerPinger {
 
+    private static final long SRV_CACHE_TIME = TimeUnit.MINUTES.toMillis(10);
+    private static final long STATUS_CACHE_TIME = TimeUnit.SECONDS.toMillis(10);
+    private static final int TIMEOUT = 5000;
+
+    private static final Map<String, Cached<String[]>> SRV_CACHE = new ConcurrentHashMap<>();
+    private static final Map<String, Cached<CompletableFuture<ServerStatus>>> STATUS_CACHE = new ConcurrentHashMap<>();
+    private static final ExecutorService EXECUTOR = Executors.newCachedThreadPool(new ThreadFactoryBuilder()
+            .setNameFormat("server-ping-%d")
+            .setDaemon(true)
+            .build());
+
     private String serverName;
     private int serverPort;
+    private final int fallbackProtocol;
+
+    public ServerPinger(String serverName, int serverPort) {
+        this(serverName, serverPort, ProtocolConstants.getLatest());
+    }
 
+    /**
+     * @param fallbackProtocol protocol used if it is set to automatic and the server can not be pinged
+     */
+    public ServerPinger(String serverName, int serverPort, int fallbackProtocol) {
+        this.serverName = serverName;
+        this.serverPort = serverPort;
+        this.fallbackProtocol = fallbackProtocol;
+    }
+
+    /**
+     * Pings the server and applies the answer to the current bot.
+     * The bot won't connect if the server is full, answers slower than auto.max-ping-latency or is not reachable at all.
+     */
     public void ping() {
+        FishingBot.getInstance().getCurrentBot().setServerLatency(-1);
         FishingBot.getInstance().getCurrentBot().setServerProtocol(ProtocolConstants.getProtocolId(FishingBot.getInstance().getCurrentBot().getConfig().getDefaultProtocol()));
         if (serverName == null || serverName.trim().isEmpty()) {
             FishingBot.getI18n().severe("network-invalid-server-address");
@@ -40,36 +84,111 @@ public class ServerPinger {
             return;
         }
 
-        updateWithSRV();
-
         if (FishingBot.getInstance().getConfig().getRealmId() >= 0) {
+            updateWithSRV();
             FishingBot.getI18n().severe("network-could-not-ping", serverName);
             if (FishingBot.getInstance().getCurrentBot().getServerProtocol() == ProtocolConstants.AUTOMATIC)
-                FishingBot.getInstance().getCurrentBot().setServerProtocol(ProtocolConstants.getLatest());
+                FishingBot.getInstance().getCurrentBot().setServerProtocol(fallbackProtocol);
             return;
         }
 
+        ServerStatus status;
         try {
+            status = pingAsync().join();
+        } catch (CompletionException ex) {
+            updateWithSRV();
+            if (ex.getCause() instanceof UnknownHostException) {
+                FishingBot.getI18n().severe("network-unknown-host", serverName);
+            } else {
+                FishingBot.getI18n().severe("network-could-not-ping", serverName);
+                if (FishingBot.getInstance().getCurrentBot().getServerProtocol() == ProtocolConstants.AUTOMATIC)
+                    FishingBot.getInstance().getCurrentBot().setServerProtocol(fallbackProtocol);
+                ex.getCause().printStackTrace();
+            }
+            // a server which can not even be connected to is retried with backoff instead of logging in
+            if (isUnreachable(ex))
+                FishingBot.getInstance().getCurrentBot().setWontConnect(true);
+            return;
+        }
+
+        updateWithSRV();
+        FishingBot.getInstance().getCurrentBot().setServerLatency(status.getLatency());
+
+        int protocolId = status.getProtocol();
+        if (FishingBot.getInstance().getCurrentBot().getServerProtocol() == ProtocolConstants.AUTOMATIC)
+            FishingBot.getInstance().getCurrentBot().setServerProtocol(protocolId);
+        else if (protocolId != FishingBot.getInstance().getCurrentBot().getServerProtocol()) {
+            FishingBot.getI18n().warning("network-ping-differs-protocol",
+                    "\"" + ProtocolConstants.getVersionString(protocolId) + "\" (" + protocolId + ")",
+                    "\"" + ProtocolConstants.getVersionString(FishingBot.getInstance().getCurrentBot().getServerProtocol()) + "\" (" + FishingBot.getInstance().getCurrentBot().getServerProtocol() + ")");
+        }
+
+        FishingBot.getI18n().info("network-received-pong", status.getDescription(), ProtocolConstants.getVersionString(protocolId), String.valueOf(protocolId), String.valueOf(status.getPlayersOnline()), String.valueOf(status.getLatency()));
+        if (status.getPlayersOnline() >= FishingBot.getInstance().getCurrentBot().getConfig().getAutoDisconnectPlayersThreshold() && FishingBot.getInstance().getCurrentBot().getConfig().isAutoDisconnect()) {
+            FishingBot.getI18n().warning("network-server-is-full");
+            FishingBot.getInstance().getCurrentBot().setWontConnect(true);
+        }
+        int maxLatency = FishingBot.getInstance().getCurrentBot().getConfig().getMaxPingLatency();
+        long latency = FishingBot.getInstance().getCurrentBot().getServerLatency();
+        if (maxLatency > 0 && latency > maxLatency) {
+            FishingBot.getI18n().warning("network-latency-too-high", String.valueOf(latency), String.valueOf(maxLatency));
+            FishingBot.getInstance().getCurrentBot().setWontConnect(true);
+        }
+    }
+
+    /**
+     * Resolves the SRV record and pings the server without touching the current bot.
+     * Answers (and failures) younger than a few seconds are shared with other pings of the same server.
+     */
+    public CompletableFuture<ServerStatus> pingAsync() {
+        int pingProtocol = ProtocolConstants.getProtocolId(FishingBot.getInstance().getCurrentBot().getConfig().getDefaultProtocol());
+        if (pingProtocol == ProtocolConstants.AUTOMATIC)
+            pingProtocol = ProtocolConstants.getLatest();
+        int protocol = pingProtocol;
+        String host = serverName;
+        int port = serverPort;
+
+        String key = (host + ":" + port + ":" + protocol).toLowerCase(Locale.ROOT);
+        long now = System.currentTimeMillis();
+        Cached<CompletableFuture<ServerStatus>> cached = STATUS_CACHE.compute(key, (k, old) -> old != null && !old.isExpired(now) ? old
+                : new Cached<>(CompletableFuture.supplyAsync(() -> {
+                    String[] address = resolve(host, port);
+                    try {
+                        return fetchStatus(address[0], Integer.parseInt(address[1]), protocol);
+                    } catch (Exception ex) {
+                        throw new CompletionException(ex);
+                    }
+                }, EXECUTOR), now + STATUS_CACHE_TIME));
+        return cached.getValue();
+    }
+
+    /**
+     * @return whether the ping failed because nothing is listening at the address, not because of its answer
+     */
+    public static boolean isUnreachable(Throwable ex) {
+        Throwable cause = ex instanceof CompletionException && ex.getCause() != null ? ex.getCause() : ex;
+        return cause instanceof UnknownHostException || cause instanceof ConnectException || cause instanceof NoRouteToHostException;
+    }
 
-            Socket socket = new Socket(serverName, serverPort);
+    private static ServerStatus fetchStatus(String host, int port, int pingProtocol) throws Exception {
+        try (Socket socket = new Socket()) {
+            socket.connect(new InetSocketAddress(host, port), TIMEOUT);
+            socket.setSoTimeout(TIMEOUT);
             DataOutputStream out = new DataOutputStream(socket.getOutputStream());
             DataInputStream in = new DataInputStream(socket.getInputStream());
 
             //send Handshake 0x00 - PING
 
-            int pingProtocol = (ProtocolConstants.getProtocolId(FishingBot.getInstance().getCurrentBot().getConfig().getDefaultProtocol()));
-            if (pingProtocol == ProtocolConstants.AUTOMATIC)
-                pingProtocol = ProtocolConstants.getLatest();
-
             ByteArrayDataOutput buf = ByteStreams.newDataOutput();
             Packet.writeVarInt(0, buf);
             Packet.writeVarInt(pingProtocol, buf);
-            Packet.writeString(serverName, buf);
-            buf.writeShort(serverPort);
+            Packet.writeString(host, buf);
+            buf.writeShort(port);
             Packet.writeVarInt(1, buf);
 
             send(buf, out);
 
+            long sentAt = System.nanoTime();
             buf = ByteStreams.newDataOutput();
             Packet.writeVarInt(0, buf);
             send(buf, out);
@@ -78,22 +197,14 @@ public class ServerPinger {
 
             //TODO: Sometimes it's an int sometimes a varint? investigate how to fix the auto-version detection (e.g. based on getAvailable())
             Packet.readVarInt(in); //ignore
-//            in.readInt(); //ignore
+            long latency = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - sentAt);
             Packet.readVarInt(in); //id
 
-//            if (id != 2) {
             String pong = Packet.readString(in);
             JSONObject root = (JSONObject) new JSONParser().parse(pong);
             long protocolId = (long) ((JSONObject)root.get("version")).get("protocol");
             long currPlayers = (long) ((JSONObject)root.get("players")).get("online");
 
-            if (FishingBot.getInstance().getCurrentBot().getServerProtocol() == ProtocolConstants.AUTOMATIC)
-                FishingBot.getInstance().getCurrentBot().setServerProtocol(Long.valueOf(protocolId).intValue());
-            else if (protocolId != FishingBot.getInstance().getCurrentBot().getServerProtocol()) {
-                FishingBot.getI18n().warning("network-ping-differs-protocol",
-                        "\"" + ProtocolConstants.getVersionString(Long.valueOf(protocolId).intValue()) + "\" (" + protocolId + ")",
-                        "\"" + ProtocolConstants.getVersionString(FishingBot.getInstance().getCurrentBot().getServerProtocol()) + "\" (" + FishingBot.getInstance().getCurrentBot().getServerProtocol() + ")");
-            }
             String description = "Unknown";
             try {
                 try {
@@ -106,35 +217,18 @@ public class ServerPinger {
                 }
             } catch (UnsupportedOperationException ignored) {
             } finally {
-                if (description.trim().isEmpty())
+                if (description == null || description.trim().isEmpty())
                     description = "Unknown";
             }
 
-            FishingBot.getI18n().info("network-received-pong", description, ProtocolConstants.getVersionString(Long.valueOf(protocolId).intValue()), String.valueOf(protocolId), String.valueOf(currPlayers));
-            if (currPlayers >= FishingBot.getInstance().getCurrentBot().getConfig().getAutoDisconnectPlayersThreshold() && FishingBot.getInstance().getCurrentBot().getConfig().isAutoDisconnect()) {
-                FishingBot.getI18n().warning("network-server-is-full");
-                FishingBot.getInstance().getCurrentBot().setWontConnect(true);
-            }
-//            }
-
-            out.close();
-            in.close();
-            socket.close();
-
-        } catch (UnknownHostException e) {
-            FishingBot.getI18n().severe("network-unknown-host", serverName);
-        } catch (Exception e) {
-            FishingBot.getI18n().severe("network-could-not-ping", serverName);
-            if (FishingBot.getInstance().getCurrentBot().getServerProtocol() == ProtocolConstants.AUTOMATIC)
-                FishingBot.getInstance().getCurrentBot().setServerProtocol(ProtocolConstants.getLatest());
-            e.printStackTrace();
+            return new ServerStatus(host, port, (int) protocolId, currPlayers, description, latency, System.currentTimeMillis());
         }
     }
 
     public void updateWithSRV() {
         //Getting SRV Record - changing data to correct ones
         if (serverPort == 25565 || serverPort < 1) {
-            String[] serverData = getServerAddress(serverName);
+            String[] serverData = resolve(serverName, serverPort);
             if (!serverData[0].equalsIgnoreCase(serverName))
                 FishingBot.getI18n().info("network-changed-address", serverData[0]);
             this.serverName = serverData[0];
@@ -147,6 +241,17 @@ public class ServerPinger {
         FishingBot.getInstance().getCurrentBot().setServerPort(serverPort);
     }
 
+    /**
+     * @return host and port to connect to, the SRV record is only looked up for the default port and cached for a while
+     */
+    private static String[] resolve(String host, int port) {
+        if (port != 25565 && port >= 1)
+            return new String[]{host, Integer.toString(port)};
+        long now = System.currentTimeMillis();
+        return SRV_CACHE.compute(host.toLowerCase(Locale.ROOT), (key, old) -> old != null && !old.isExpired(now) ? old
+                : new Cached<>(getServerAddress(host), now + SRV_CACHE_TIME)).getValue();
+    }
+
     /**
      * Returns a server's address and port for the specified hostname, looking up the SRV record if possible
      * Copied from Minecraft src
@@ -167,11 +272,30 @@ public class ServerPinger {
         }
     }
 
-    private void send(ByteArrayDataOutput buf, DataOutputStream out) throws IOException {
+    private static void send(ByteArrayDataOutput buf, DataOutputStream out) throws IOException {
         ByteArrayDataOutput sender = ByteStreams.newDataOutput();
         Packet.writeVarInt(buf.toByteArray().length, sender);
         sender.write(buf.toByteArray());
         out.write(sender.toByteArray());
         out.flush();
     }
+
+    private static class Cached<T> {
+
+        private final T value;
+        private final long expiresAt;
+
+        private Cached(T value, long expiresAt) {
+            this.value = value;
+            this.expiresAt = expiresAt;
+        }
+
+        private T getValue() {
+            return value;
+        }
+
+        private boolean isExpired(long now) {
+            return now >= expiresAt;
+        }
+    }
 }
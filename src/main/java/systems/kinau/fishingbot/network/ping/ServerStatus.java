@@ -0,0 +1,23 @@
+package systems.kinau.fishingbot.network.ping;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * Answer of a server list ping
+ */
+@AllArgsConstructor
+@Getter
+@ToString
+public class ServerStatus {
+
+    private final String host;
+    private final int port;
+    private final int protocol;
+    private final long playersOnline;
+    private final String description;
+    private final long latency;
+    private final long receivedAt;
+
+}
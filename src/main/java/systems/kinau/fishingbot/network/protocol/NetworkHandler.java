@@ -10,16 +10,18 @@ import com.google.common.io.ByteStreams;
 import lombok.Getter;
 import lombok.Setter;
 import systems.kinau.fishingbot.FishingBot;
-import systems.kinau.fishingbot.network.protocol.handshake.PacketOutHandshake;
-import systems.kinau.fishingbot.network.protocol.login.*;
-import systems.kinau.fishingbot.network.protocol.play.*;
+import systems.kinau.fishingbot.network.capture.CapturedPacket;
+import systems.kinau.fishingbot.network.capture.PacketCapture;
+import systems.kinau.fishingbot.network.protocol.codec.ProtocolCodecs;
+import systems.kinau.fishingbot.network.protocol.play.PacketOutChatCommand;
+import systems.kinau.fishingbot.network.protocol.play.PacketOutChatMessage;
 import systems.kinau.fishingbot.network.utils.ByteArrayDataInputWrapper;
 import systems.kinau.fishingbot.network.utils.CryptManager;
 
 import javax.crypto.SecretKey;
 import java.io.*;
 import java.security.PublicKey;
-import java.util.HashMap;
+import java.util.Locale;
 import java.util.zip.DataFormatException;
 import java.util.zip.Inflater;
 
@@ -32,701 +34,74 @@ public class NetworkHandler {
     @Getter private PacketRegistry handshakeRegistry;
     @Getter private PacketRegistry loginRegistryIn;
     @Getter private PacketRegistry loginRegistryOut;
-    //List of all PacketRegistries of all supported protocolIds
-    @Getter private HashMap<Integer, PacketRegistry> playRegistryIn;
-    @Getter private HashMap<Integer, PacketRegistry> playRegistryOut;
 
     @Getter @Setter private int threshold = -1;
     @Getter @Setter private PublicKey publicKey;
     @Getter @Setter private SecretKey secretKey;
     @Getter @Setter private boolean outputEncrypted;
     @Getter @Setter private boolean inputBeingDecrypted;
+    @Getter private PacketCapture capture;
+    @Getter private ProtocolCodecs codecs;
 
     public NetworkHandler() {
+        long setupStart = System.nanoTime();
         try {
             this.out = new DataOutputStream(FishingBot.getInstance().getCurrentBot().getSocket().getOutputStream());
             this.in = new DataInputStream(FishingBot.getInstance().getCurrentBot().getSocket().getInputStream());
 
             this.state = State.HANDSHAKE;
-            initPacketRegistries();
+            initPacketRegistries(setupStart);
         } catch (IOException e) {
             e.printStackTrace();
             FishingBot.getI18n().severe("bot-could-not-be-started", e.getMessage());
         }
+
+        if (FishingBot.getInstance().getCurrentBot().getConfig().isCapturePackets()) {
+            try {
+                this.capture = PacketCapture.open(new File(FishingBot.getInstance().getCurrentBot().getLogsFolder(), "captures"), FishingBot.getInstance().getCurrentBot().getServerProtocol());
+                FishingBot.getI18n().info("capture-started", capture.getFile().getPath());
+            } catch (IOException e) {
+                e.printStackTrace();
+            }
+        }
+    }
+
+    /**
+     * Creates a network handler without connection, used to replay captures
+     */
+    public NetworkHandler(DataInputStream in, DataOutputStream out) {
+        long setupStart = System.nanoTime();
+        this.in = in;
+        this.out = out;
+        this.state = State.HANDSHAKE;
+        initPacketRegistries(setupStart);
     }
 
-    private void initPacketRegistries() {
-        this.handshakeRegistry = new PacketRegistry();
-        this.loginRegistryIn = new PacketRegistry();
-        this.loginRegistryOut = new PacketRegistry();
-        this.playRegistryIn = new HashMap<>();
-        this.playRegistryOut = new HashMap<>();
-
-        ProtocolConstants.SUPPORTED_VERSION_IDS.forEach(protId -> {
-            playRegistryIn.put(protId, new PacketRegistry());
-            playRegistryOut.put(protId, new PacketRegistry());
-        });
-
-        //All versions
-
-        getHandshakeRegistry().registerPacket(0x00, PacketOutHandshake.class);
-
-        getLoginRegistryIn().registerPacket(0x00, PacketInLoginDisconnect.class);
-        getLoginRegistryIn().registerPacket(0x01, PacketInEncryptionRequest.class);
-        getLoginRegistryIn().registerPacket(0x02, PacketInLoginSuccess.class);
-        getLoginRegistryIn().registerPacket(0x03, PacketInSetCompression.class);
-        getLoginRegistryIn().registerPacket(0x04, PacketInLoginPluginRequest.class);
-
-        getLoginRegistryOut().registerPacket(0x00, PacketOutLoginStart.class);
-        getLoginRegistryOut().registerPacket(0x01, PacketOutEncryptionResponse.class);
-        getLoginRegistryOut().registerPacket(0x02, PacketOutLoginPluginResponse.class);
-
-        //Minecraft 1.8.X
-
-        getPlayRegistryIn().get(ProtocolConstants.MINECRAFT_1_8).registerPacket(0x00, PacketInKeepAlive.class);
-        getPlayRegistryIn().get(ProtocolConstants.MINECRAFT_1_8).registerPacket(0x01, PacketInJoinGame.class);
-        getPlayRegistryIn().get(ProtocolConstants.MINECRAFT_1_8).registerPacket(0x02, PacketInChatPlayer.class);
-        getPlayRegistryIn().get(ProtocolConstants.MINECRAFT_1_8).registerPacket(0x06, PacketInUpdateHealth.class);
-        getPlayRegistryIn().get(ProtocolConstants.MINECRAFT_1_8).registerPacket(0x08, PacketInPlayerPosLook.class);
-        getPlayRegistryIn().get(ProtocolConstants.MINECRAFT_1_8).registerPacket(0x09, PacketInHeldItemChange.class);
-        getPlayRegistryIn().get(ProtocolConstants.MINECRAFT_1_8).registerPacket(0x0E, PacketInSpawnEntity.class);
-        getPlayRegistryIn().get(ProtocolConstants.MINECRAFT_1_8).registerPacket(0x12, PacketInEntityVelocity.class);
-        getPlayRegistryIn().get(ProtocolConstants.MINECRAFT_1_8).registerPacket(0x13, PacketInDestroyEntities.class);
-        getPlayRegistryIn().get(ProtocolConstants.MINECRAFT_1_8).registerPacket(0x1C, PacketInEntityMetadata.class);
-        getPlayRegistryIn().get(ProtocolConstants.MINECRAFT_1_8).registerPacket(0x1F, PacketInSetExperience.class);
-        getPlayRegistryIn().get(ProtocolConstants.MINECRAFT_1_8).registerPacket(0x2D, PacketInOpenWindow.class);
-        getPlayRegistryIn().get(ProtocolConstants.MINECRAFT_1_8).registerPacket(0x2E, PacketInWindowClose.class);
-        getPlayRegistryIn().get(ProtocolConstants.MINECRAFT_1_8).registerPacket(0x2F, PacketInSetSlot.class);
-        getPlayRegistryIn().get(ProtocolConstants.MINECRAFT_1_8).registerPacket(0x30, PacketInWindowItems.class);
-        getPlayRegistryIn().get(ProtocolConstants.MINECRAFT_1_8).registerPacket(0x32, PacketInConfirmTransaction.class);
-        getPlayRegistryIn().get(ProtocolConstants.MINECRAFT_1_8).registerPacket(0x38, PacketInPlayerListItem.class);
-        getPlayRegistryIn().get(ProtocolConstants.MINECRAFT_1_8).registerPacket(0x40, PacketInDisconnect.class);
-        getPlayRegistryIn().get(ProtocolConstants.MINECRAFT_1_8).registerPacket(0x41, PacketInDifficultySet.class);
-        getPlayRegistryIn().get(ProtocolConstants.MINECRAFT_1_8).registerPacket(0x46, PacketInSetCompressionLegacy.class);
-
-        getPlayRegistryOut().get(ProtocolConstants.MINECRAFT_1_8).registerPacket(0x00, PacketOutKeepAlive.class);
-        getPlayRegistryOut().get(ProtocolConstants.MINECRAFT_1_8).registerPacket(0x01, PacketOutChatMessage.class);
-        getPlayRegistryOut().get(ProtocolConstants.MINECRAFT_1_8).registerPacket(0x04, PacketOutPosition.class);
-        getPlayRegistryOut().get(ProtocolConstants.MINECRAFT_1_8).registerPacket(0x06, PacketOutPosLook.class);
-        getPlayRegistryOut().get(ProtocolConstants.MINECRAFT_1_8).registerPacket(0x08, PacketOutUseItem.class);
-        getPlayRegistryOut().get(ProtocolConstants.MINECRAFT_1_8).registerPacket(0x09, PacketOutHeldItemChange.class);
-        getPlayRegistryOut().get(ProtocolConstants.MINECRAFT_1_8).registerPacket(0x0A, PacketOutArmAnimation.class);
-        getPlayRegistryOut().get(ProtocolConstants.MINECRAFT_1_8).registerPacket(0x0B, PacketOutEntityAction.class);
-        getPlayRegistryOut().get(ProtocolConstants.MINECRAFT_1_8).registerPacket(0x0D, PacketOutCloseInventory.class);
-        getPlayRegistryOut().get(ProtocolConstants.MINECRAFT_1_8).registerPacket(0x0E, PacketOutClickWindow.class);
-        getPlayRegistryOut().get(ProtocolConstants.MINECRAFT_1_8).registerPacket(0x0F, PacketOutConfirmTransaction.class);
-        getPlayRegistryOut().get(ProtocolConstants.MINECRAFT_1_8).registerPacket(0x15, PacketOutClientSettings.class);
-        getPlayRegistryOut().get(ProtocolConstants.MINECRAFT_1_8).registerPacket(0x16, PacketOutClientStatus.class);
-
-        //Minecraft 1.9.0
-
-        getPlayRegistryIn().get(ProtocolConstants.MINECRAFT_1_9).registerPacket(0x00, PacketInSpawnEntity.class);
-        getPlayRegistryIn().get(ProtocolConstants.MINECRAFT_1_9).registerPacket(0x0D, PacketInDifficultySet.class);
-        getPlayRegistryIn().get(ProtocolConstants.MINECRAFT_1_9).registerPacket(0x0F, PacketInChatPlayer.class);
-        getPlayRegistryIn().get(ProtocolConstants.MINECRAFT_1_9).registerPacket(0x11, PacketInConfirmTransaction.class);
-        getPlayRegistryIn().get(ProtocolConstants.MINECRAFT_1_9).registerPacket(0x12, PacketInWindowClose.class);
-        getPlayRegistryIn().get(ProtocolConstants.MINECRAFT_1_9).registerPacket(0x13, PacketInOpenWindow.class);
-        getPlayRegistryIn().get(ProtocolConstants.MINECRAFT_1_9).registerPacket(0x14, PacketInWindowItems.class);
-        getPlayRegistryIn().get(ProtocolConstants.MINECRAFT_1_9).registerPacket(0x16, PacketInSetSlot.class);
-        getPlayRegistryIn().get(ProtocolConstants.MINECRAFT_1_9).registerPacket(0x1A, PacketInDisconnect.class);
-        getPlayRegistryIn().get(ProtocolConstants.MINECRAFT_1_9).registerPacket(0x1F, PacketInKeepAlive.class);
-        getPlayRegistryIn().get(ProtocolConstants.MINECRAFT_1_9).registerPacket(0x23, PacketInJoinGame.class);
-        getPlayRegistryIn().get(ProtocolConstants.MINECRAFT_1_9).registerPacket(0x2D, PacketInPlayerListItem.class);
-        getPlayRegistryIn().get(ProtocolConstants.MINECRAFT_1_9).registerPacket(0x2E, PacketInPlayerPosLook.class);
-        getPlayRegistryIn().get(ProtocolConstants.MINECRAFT_1_9).registerPacket(0x30, PacketInDestroyEntities.class);
-        getPlayRegistryIn().get(ProtocolConstants.MINECRAFT_1_9).registerPacket(0x37, PacketInHeldItemChange.class);
-        getPlayRegistryIn().get(ProtocolConstants.MINECRAFT_1_9).registerPacket(0x39, PacketInEntityMetadata.class);
-        getPlayRegistryIn().get(ProtocolConstants.MINECRAFT_1_9).registerPacket(0x3B, PacketInEntityVelocity.class);
-        getPlayRegistryIn().get(ProtocolConstants.MINECRAFT_1_9).registerPacket(0x3D, PacketInSetExperience.class);
-        getPlayRegistryIn().get(ProtocolConstants.MINECRAFT_1_9).registerPacket(0x3E, PacketInUpdateHealth.class);
-
-        getPlayRegistryOut().get(ProtocolConstants.MINECRAFT_1_9).registerPacket(0x00, PacketOutTeleportConfirm.class);
-        getPlayRegistryOut().get(ProtocolConstants.MINECRAFT_1_9).registerPacket(0x02, PacketOutChatMessage.class);
-        getPlayRegistryOut().get(ProtocolConstants.MINECRAFT_1_9).registerPacket(0x03, PacketOutClientStatus.class);
-        getPlayRegistryOut().get(ProtocolConstants.MINECRAFT_1_9).registerPacket(0x04, PacketOutClientSettings.class);
-        getPlayRegistryOut().get(ProtocolConstants.MINECRAFT_1_9).registerPacket(0x05, PacketOutConfirmTransaction.class);
-        getPlayRegistryOut().get(ProtocolConstants.MINECRAFT_1_9).registerPacket(0x07, PacketOutClickWindow.class);
-        getPlayRegistryOut().get(ProtocolConstants.MINECRAFT_1_9).registerPacket(0x08, PacketOutCloseInventory.class);
-        getPlayRegistryOut().get(ProtocolConstants.MINECRAFT_1_9).registerPacket(0x0B, PacketOutKeepAlive.class);
-        getPlayRegistryOut().get(ProtocolConstants.MINECRAFT_1_9).registerPacket(0x0C, PacketOutPosition.class);
-        getPlayRegistryOut().get(ProtocolConstants.MINECRAFT_1_9).registerPacket(0x0D, PacketOutPosLook.class);
-        getPlayRegistryOut().get(ProtocolConstants.MINECRAFT_1_9).registerPacket(0x14, PacketOutEntityAction.class);
-        getPlayRegistryOut().get(ProtocolConstants.MINECRAFT_1_9).registerPacket(0x17, PacketOutHeldItemChange.class);
-        getPlayRegistryOut().get(ProtocolConstants.MINECRAFT_1_9).registerPacket(0x1C, PacketOutBlockPlace.class);
-        getPlayRegistryOut().get(ProtocolConstants.MINECRAFT_1_9).registerPacket(0x1D, PacketOutUseItem.class);
-
-        //Minecraft 1.9.1
-
-        getPlayRegistryIn().get(ProtocolConstants.MINECRAFT_1_9_1).copyOf(getPlayRegistryIn().get(ProtocolConstants.MINECRAFT_1_9));
-        getPlayRegistryOut().get(ProtocolConstants.MINECRAFT_1_9_1).copyOf(getPlayRegistryOut().get(ProtocolConstants.MINECRAFT_1_9));
-
-        //Minecraft 1.9.2
-
-        getPlayRegistryIn().get(ProtocolConstants.MINECRAFT_1_9_2).copyOf(getPlayRegistryIn().get(ProtocolConstants.MINECRAFT_1_9));
-        getPlayRegistryOut().get(ProtocolConstants.MINECRAFT_1_9_2).copyOf(getPlayRegistryOut().get(ProtocolConstants.MINECRAFT_1_9));
-
-        //Minecraft 1.9.4
-
-        getPlayRegistryIn().get(ProtocolConstants.MINECRAFT_1_9_4).copyOf(getPlayRegistryIn().get(ProtocolConstants.MINECRAFT_1_9));
-        getPlayRegistryOut().get(ProtocolConstants.MINECRAFT_1_9_4).copyOf(getPlayRegistryOut().get(ProtocolConstants.MINECRAFT_1_9));
-
-        //Minecraft 1.10.X
-
-        getPlayRegistryIn().get(ProtocolConstants.MINECRAFT_1_10).copyOf(getPlayRegistryIn().get(ProtocolConstants.MINECRAFT_1_9));
-        getPlayRegistryOut().get(ProtocolConstants.MINECRAFT_1_10).copyOf(getPlayRegistryOut().get(ProtocolConstants.MINECRAFT_1_9));
-
-        //Minecraft 1.11.0
-
-        getPlayRegistryIn().get(ProtocolConstants.MINECRAFT_1_11).copyOf(getPlayRegistryIn().get(ProtocolConstants.MINECRAFT_1_9));
-        getPlayRegistryOut().get(ProtocolConstants.MINECRAFT_1_11).copyOf(getPlayRegistryOut().get(ProtocolConstants.MINECRAFT_1_9));
-
-        //Minecraft 1.11.1
-
-        getPlayRegistryIn().get(ProtocolConstants.MINECRAFT_1_11_1).copyOf(getPlayRegistryIn().get(ProtocolConstants.MINECRAFT_1_9));
-        getPlayRegistryOut().get(ProtocolConstants.MINECRAFT_1_11_1).copyOf(getPlayRegistryOut().get(ProtocolConstants.MINECRAFT_1_9));
-
-        //Minecraft 1.12.0
-
-        getPlayRegistryIn().get(ProtocolConstants.MINECRAFT_1_12).registerPacket(0x00, PacketInSpawnEntity.class);
-        getPlayRegistryIn().get(ProtocolConstants.MINECRAFT_1_12).registerPacket(0x03, PacketInSpawnMob.class);
-        getPlayRegistryIn().get(ProtocolConstants.MINECRAFT_1_12).registerPacket(0x05, PacketInSpawnPlayer.class);
-        getPlayRegistryIn().get(ProtocolConstants.MINECRAFT_1_12).registerPacket(0x0D, PacketInDifficultySet.class);
-        getPlayRegistryIn().get(ProtocolConstants.MINECRAFT_1_12).registerPacket(0x0F, PacketInChatPlayer.class);
-        getPlayRegistryIn().get(ProtocolConstants.MINECRAFT_1_12).registerPacket(0x11, PacketInConfirmTransaction.class);
-        getPlayRegistryIn().get(ProtocolConstants.MINECRAFT_1_12).registerPacket(0x12, PacketInWindowClose.class);
-        getPlayRegistryIn().get(ProtocolConstants.MINECRAFT_1_12).registerPacket(0x13, PacketInOpenWindow.class);
-        getPlayRegistryIn().get(ProtocolConstants.MINECRAFT_1_12).registerPacket(0x14, PacketInWindowItems.class);
-        getPlayRegistryIn().get(ProtocolConstants.MINECRAFT_1_12).registerPacket(0x16, PacketInSetSlot.class);
-        getPlayRegistryIn().get(ProtocolConstants.MINECRAFT_1_12).registerPacket(0x1A, PacketInDisconnect.class);
-        getPlayRegistryIn().get(ProtocolConstants.MINECRAFT_1_12).registerPacket(0x1F, PacketInKeepAlive.class);
-        getPlayRegistryIn().get(ProtocolConstants.MINECRAFT_1_12).registerPacket(0x23, PacketInJoinGame.class);
-        getPlayRegistryIn().get(ProtocolConstants.MINECRAFT_1_12).registerPacket(0x2D, PacketInPlayerListItem.class);
-        getPlayRegistryIn().get(ProtocolConstants.MINECRAFT_1_12).registerPacket(0x2E, PacketInPlayerPosLook.class);
-        getPlayRegistryIn().get(ProtocolConstants.MINECRAFT_1_12).registerPacket(0x31, PacketInDestroyEntities.class);
-        getPlayRegistryIn().get(ProtocolConstants.MINECRAFT_1_12).registerPacket(0x39, PacketInHeldItemChange.class);
-        getPlayRegistryIn().get(ProtocolConstants.MINECRAFT_1_12).registerPacket(0x3B, PacketInEntityMetadata.class);
-        getPlayRegistryIn().get(ProtocolConstants.MINECRAFT_1_12).registerPacket(0x3D, PacketInEntityVelocity.class);
-        getPlayRegistryIn().get(ProtocolConstants.MINECRAFT_1_12).registerPacket(0x3F, PacketInSetExperience.class);
-        getPlayRegistryIn().get(ProtocolConstants.MINECRAFT_1_12).registerPacket(0x40, PacketInUpdateHealth.class);
-
-        getPlayRegistryOut().get(ProtocolConstants.MINECRAFT_1_12).registerPacket(0x00, PacketOutTeleportConfirm.class);
-        getPlayRegistryOut().get(ProtocolConstants.MINECRAFT_1_12).registerPacket(0x03, PacketOutChatMessage.class);
-        getPlayRegistryOut().get(ProtocolConstants.MINECRAFT_1_12).registerPacket(0x04, PacketOutClientStatus.class);
-        getPlayRegistryOut().get(ProtocolConstants.MINECRAFT_1_12).registerPacket(0x05, PacketOutClientSettings.class);
-        getPlayRegistryOut().get(ProtocolConstants.MINECRAFT_1_12).registerPacket(0x06, PacketOutConfirmTransaction.class);
-        getPlayRegistryOut().get(ProtocolConstants.MINECRAFT_1_12).registerPacket(0x08, PacketOutClickWindow.class);
-        getPlayRegistryOut().get(ProtocolConstants.MINECRAFT_1_12).registerPacket(0x09, PacketOutCloseInventory.class);
-        getPlayRegistryOut().get(ProtocolConstants.MINECRAFT_1_12).registerPacket(0x0B, PacketOutUseEntity.class);
-        getPlayRegistryOut().get(ProtocolConstants.MINECRAFT_1_12).registerPacket(0x0C, PacketOutKeepAlive.class);
-        getPlayRegistryOut().get(ProtocolConstants.MINECRAFT_1_12).registerPacket(0x0D, PacketOutPlayer.class);
-        getPlayRegistryOut().get(ProtocolConstants.MINECRAFT_1_12).registerPacket(0x0E, PacketOutPosition.class);
-        getPlayRegistryOut().get(ProtocolConstants.MINECRAFT_1_12).registerPacket(0x0F, PacketOutPosLook.class);
-        getPlayRegistryOut().get(ProtocolConstants.MINECRAFT_1_12).registerPacket(0x10, PacketOutLook.class);
-        getPlayRegistryOut().get(ProtocolConstants.MINECRAFT_1_12).registerPacket(0x15, PacketOutEntityAction.class);
-        getPlayRegistryOut().get(ProtocolConstants.MINECRAFT_1_12).registerPacket(0x1A, PacketOutHeldItemChange.class);
-        getPlayRegistryOut().get(ProtocolConstants.MINECRAFT_1_12).registerPacket(0x1F, PacketOutBlockPlace.class);
-        getPlayRegistryOut().get(ProtocolConstants.MINECRAFT_1_12).registerPacket(0x20, PacketOutUseItem.class);
-
-        //Minecraft 1.12.1
-
-        getPlayRegistryIn().get(ProtocolConstants.MINECRAFT_1_12_1).registerPacket(0x00, PacketInSpawnEntity.class);
-        getPlayRegistryIn().get(ProtocolConstants.MINECRAFT_1_12_1).registerPacket(0x03, PacketInSpawnMob.class);
-        getPlayRegistryIn().get(ProtocolConstants.MINECRAFT_1_12_1).registerPacket(0x05, PacketInSpawnPlayer.class);
-        getPlayRegistryIn().get(ProtocolConstants.MINECRAFT_1_12_1).registerPacket(0x0D, PacketInDifficultySet.class);
-        getPlayRegistryIn().get(ProtocolConstants.MINECRAFT_1_12_1).registerPacket(0x0F, PacketInChatPlayer.class);
-        getPlayRegistryIn().get(ProtocolConstants.MINECRAFT_1_12_1).registerPacket(0x11, PacketInConfirmTransaction.class);
-        getPlayRegistryIn().get(ProtocolConstants.MINECRAFT_1_12_1).registerPacket(0x12, PacketInWindowClose.class);
-        getPlayRegistryIn().get(ProtocolConstants.MINECRAFT_1_12_1).registerPacket(0x13, PacketInOpenWindow.class);
-        getPlayRegistryIn().get(ProtocolConstants.MINECRAFT_1_12_1).registerPacket(0x14, PacketInWindowItems.class);
-        getPlayRegistryIn().get(ProtocolConstants.MINECRAFT_1_12_1).registerPacket(0x16, PacketInSetSlot.class);
-        getPlayRegistryIn().get(ProtocolConstants.MINECRAFT_1_12_1).registerPacket(0x1A, PacketInDisconnect.class);
-        getPlayRegistryIn().get(ProtocolConstants.MINECRAFT_1_12_1).registerPacket(0x1F, PacketInKeepAlive.class);
-        getPlayRegistryIn().get(ProtocolConstants.MINECRAFT_1_12_1).registerPacket(0x23, PacketInJoinGame.class);
-        getPlayRegistryIn().get(ProtocolConstants.MINECRAFT_1_12_1).registerPacket(0x2E, PacketInPlayerListItem.class);
-        getPlayRegistryIn().get(ProtocolConstants.MINECRAFT_1_12_1).registerPacket(0x2F, PacketInPlayerPosLook.class);
-        getPlayRegistryIn().get(ProtocolConstants.MINECRAFT_1_12_1).registerPacket(0x32, PacketInDestroyEntities.class);
-        getPlayRegistryIn().get(ProtocolConstants.MINECRAFT_1_12_1).registerPacket(0x3A, PacketInHeldItemChange.class);
-        getPlayRegistryIn().get(ProtocolConstants.MINECRAFT_1_12_1).registerPacket(0x3C, PacketInEntityMetadata.class);
-        getPlayRegistryIn().get(ProtocolConstants.MINECRAFT_1_12_1).registerPacket(0x3E, PacketInEntityVelocity.class);
-        getPlayRegistryIn().get(ProtocolConstants.MINECRAFT_1_12_1).registerPacket(0x40, PacketInSetExperience.class);
-        getPlayRegistryIn().get(ProtocolConstants.MINECRAFT_1_12_1).registerPacket(0x41, PacketInUpdateHealth.class);
-
-        getPlayRegistryOut().get(ProtocolConstants.MINECRAFT_1_12_1).registerPacket(0x00, PacketOutTeleportConfirm.class);
-        getPlayRegistryOut().get(ProtocolConstants.MINECRAFT_1_12_1).registerPacket(0x02, PacketOutChatMessage.class);
-        getPlayRegistryOut().get(ProtocolConstants.MINECRAFT_1_12_1).registerPacket(0x03, PacketOutClientStatus.class);
-        getPlayRegistryOut().get(ProtocolConstants.MINECRAFT_1_12_1).registerPacket(0x04, PacketOutClientSettings.class);
-        getPlayRegistryOut().get(ProtocolConstants.MINECRAFT_1_12_1).registerPacket(0x05, PacketOutConfirmTransaction.class);
-        getPlayRegistryOut().get(ProtocolConstants.MINECRAFT_1_12_1).registerPacket(0x07, PacketOutClickWindow.class);
-        getPlayRegistryOut().get(ProtocolConstants.MINECRAFT_1_12_1).registerPacket(0x08, PacketOutCloseInventory.class);
-        getPlayRegistryOut().get(ProtocolConstants.MINECRAFT_1_12_1).registerPacket(0x0A, PacketOutUseEntity.class);
-        getPlayRegistryOut().get(ProtocolConstants.MINECRAFT_1_12_1).registerPacket(0x0B, PacketOutKeepAlive.class);
-        getPlayRegistryOut().get(ProtocolConstants.MINECRAFT_1_12_1).registerPacket(0x0C, PacketOutPlayer.class);
-        getPlayRegistryOut().get(ProtocolConstants.MINECRAFT_1_12_1).registerPacket(0x0D, PacketOutPosition.class);
-        getPlayRegistryOut().get(ProtocolConstants.MINECRAFT_1_12_1).registerPacket(0x0E, PacketOutPosLook.class);
-        getPlayRegistryOut().get(ProtocolConstants.MINECRAFT_1_12_1).registerPacket(0x0F, PacketOutLook.class);
-        getPlayRegistryOut().get(ProtocolConstants.MINECRAFT_1_12_1).registerPacket(0x15, PacketOutEntityAction.class);
-        getPlayRegistryOut().get(ProtocolConstants.MINECRAFT_1_12_1).registerPacket(0x1A, PacketOutHeldItemChange.class);
-        getPlayRegistryOut().get(ProtocolConstants.MINECRAFT_1_12_1).registerPacket(0x1F, PacketOutBlockPlace.class);
-        getPlayRegistryOut().get(ProtocolConstants.MINECRAFT_1_12_1).registerPacket(0x20, PacketOutUseItem.class);
-
-
-        //Minecraft 1.12.2
-
-        getPlayRegistryIn().get(ProtocolConstants.MINECRAFT_1_12_2).copyOf(getPlayRegistryIn().get(ProtocolConstants.MINECRAFT_1_12_1));
-        getPlayRegistryOut().get(ProtocolConstants.MINECRAFT_1_12_2).copyOf(getPlayRegistryOut().get(ProtocolConstants.MINECRAFT_1_12_1));
-
-        //Minecraft 1.13.0
-
-        getPlayRegistryIn().get(ProtocolConstants.MINECRAFT_1_13).registerPacket(0x00, PacketInSpawnEntity.class);
-        getPlayRegistryIn().get(ProtocolConstants.MINECRAFT_1_13).registerPacket(0x0D, PacketInDifficultySet.class);
-        getPlayRegistryIn().get(ProtocolConstants.MINECRAFT_1_13).registerPacket(0x0E, PacketInChatPlayer.class);
-        getPlayRegistryIn().get(ProtocolConstants.MINECRAFT_1_13).registerPacket(0x12, PacketInConfirmTransaction.class);
-        getPlayRegistryIn().get(ProtocolConstants.MINECRAFT_1_13).registerPacket(0x13, PacketInWindowClose.class);
-        getPlayRegistryIn().get(ProtocolConstants.MINECRAFT_1_13).registerPacket(0x14, PacketInOpenWindow.class);
-        getPlayRegistryIn().get(ProtocolConstants.MINECRAFT_1_13).registerPacket(0x15, PacketInWindowItems.class);
-        getPlayRegistryIn().get(ProtocolConstants.MINECRAFT_1_13).registerPacket(0x17, PacketInSetSlot.class);
-        getPlayRegistryIn().get(ProtocolConstants.MINECRAFT_1_13).registerPacket(0x1A, PacketInDisconnect.class);
-        getPlayRegistryIn().get(ProtocolConstants.MINECRAFT_1_13).registerPacket(0x21, PacketInKeepAlive.class);
-        getPlayRegistryIn().get(ProtocolConstants.MINECRAFT_1_13).registerPacket(0x25, PacketInJoinGame.class);
-        getPlayRegistryIn().get(ProtocolConstants.MINECRAFT_1_13).registerPacket(0x30, PacketInPlayerListItem.class);
-        getPlayRegistryIn().get(ProtocolConstants.MINECRAFT_1_13).registerPacket(0x32, PacketInPlayerPosLook.class);
-        getPlayRegistryIn().get(ProtocolConstants.MINECRAFT_1_13).registerPacket(0x35, PacketInDestroyEntities.class);
-        getPlayRegistryIn().get(ProtocolConstants.MINECRAFT_1_13).registerPacket(0x3D, PacketInHeldItemChange.class);
-        getPlayRegistryIn().get(ProtocolConstants.MINECRAFT_1_13).registerPacket(0x3F, PacketInEntityMetadata.class);
-        getPlayRegistryIn().get(ProtocolConstants.MINECRAFT_1_13).registerPacket(0x41, PacketInEntityVelocity.class);
-        getPlayRegistryIn().get(ProtocolConstants.MINECRAFT_1_13).registerPacket(0x43, PacketInSetExperience.class);
-        getPlayRegistryIn().get(ProtocolConstants.MINECRAFT_1_13).registerPacket(0x44, PacketInUpdateHealth.class);
-
-        getPlayRegistryOut().get(ProtocolConstants.MINECRAFT_1_13).registerPacket(0x00, PacketOutTeleportConfirm.class);
-        getPlayRegistryOut().get(ProtocolConstants.MINECRAFT_1_13).registerPacket(0x02, PacketOutChatMessage.class);
-        getPlayRegistryOut().get(ProtocolConstants.MINECRAFT_1_13).registerPacket(0x03, PacketOutClientStatus.class);
-        getPlayRegistryOut().get(ProtocolConstants.MINECRAFT_1_13).registerPacket(0x04, PacketOutClientSettings.class);
-        getPlayRegistryOut().get(ProtocolConstants.MINECRAFT_1_13).registerPacket(0x06, PacketOutConfirmTransaction.class);
-        getPlayRegistryOut().get(ProtocolConstants.MINECRAFT_1_13).registerPacket(0x08, PacketOutClickWindow.class);
-        getPlayRegistryOut().get(ProtocolConstants.MINECRAFT_1_13).registerPacket(0x09, PacketOutCloseInventory.class);
-        getPlayRegistryOut().get(ProtocolConstants.MINECRAFT_1_13).registerPacket(0x19, PacketOutEntityAction.class);
-        getPlayRegistryOut().get(ProtocolConstants.MINECRAFT_1_13).registerPacket(0x0E, PacketOutKeepAlive.class);
-        getPlayRegistryOut().get(ProtocolConstants.MINECRAFT_1_13).registerPacket(0x10, PacketOutPosition.class);
-        getPlayRegistryOut().get(ProtocolConstants.MINECRAFT_1_13).registerPacket(0x11, PacketOutPosLook.class);
-        getPlayRegistryOut().get(ProtocolConstants.MINECRAFT_1_13).registerPacket(0x21, PacketOutHeldItemChange.class);
-        getPlayRegistryOut().get(ProtocolConstants.MINECRAFT_1_13).registerPacket(0x29, PacketOutBlockPlace.class);
-        getPlayRegistryOut().get(ProtocolConstants.MINECRAFT_1_13).registerPacket(0x2A, PacketOutUseItem.class);
-
-        //Minecraft 1.13.1
-
-        getPlayRegistryIn().get(ProtocolConstants.MINECRAFT_1_13_1).registerPacket(0x00, PacketInSpawnEntity.class);
-        getPlayRegistryIn().get(ProtocolConstants.MINECRAFT_1_13_1).registerPacket(0x0D, PacketInDifficultySet.class);
-        getPlayRegistryIn().get(ProtocolConstants.MINECRAFT_1_13_1).registerPacket(0x0E, PacketInChatPlayer.class);
-        getPlayRegistryIn().get(ProtocolConstants.MINECRAFT_1_13_1).registerPacket(0x12, PacketInConfirmTransaction.class);
-        getPlayRegistryIn().get(ProtocolConstants.MINECRAFT_1_13_1).registerPacket(0x13, PacketInWindowClose.class);
-        getPlayRegistryIn().get(ProtocolConstants.MINECRAFT_1_13_1).registerPacket(0x14, PacketInOpenWindow.class);
-        getPlayRegistryIn().get(ProtocolConstants.MINECRAFT_1_13_1).registerPacket(0x15, PacketInWindowItems.class);
-        getPlayRegistryIn().get(ProtocolConstants.MINECRAFT_1_13_1).registerPacket(0x17, PacketInSetSlot.class);
-        getPlayRegistryIn().get(ProtocolConstants.MINECRAFT_1_13_1).registerPacket(0x1B, PacketInDisconnect.class);
-        getPlayRegistryIn().get(ProtocolConstants.MINECRAFT_1_13_1).registerPacket(0x21, PacketInKeepAlive.class);
-        getPlayRegistryIn().get(ProtocolConstants.MINECRAFT_1_13_1).registerPacket(0x25, PacketInJoinGame.class);
-        getPlayRegistryIn().get(ProtocolConstants.MINECRAFT_1_13_1).registerPacket(0x30, PacketInPlayerListItem.class);
-        getPlayRegistryIn().get(ProtocolConstants.MINECRAFT_1_13_1).registerPacket(0x35, PacketInDestroyEntities.class);
-        getPlayRegistryIn().get(ProtocolConstants.MINECRAFT_1_13_1).registerPacket(0x32, PacketInPlayerPosLook.class);
-        getPlayRegistryIn().get(ProtocolConstants.MINECRAFT_1_13_1).registerPacket(0x3D, PacketInHeldItemChange.class);
-        getPlayRegistryIn().get(ProtocolConstants.MINECRAFT_1_13_1).registerPacket(0x3F, PacketInEntityMetadata.class);
-        getPlayRegistryIn().get(ProtocolConstants.MINECRAFT_1_13_1).registerPacket(0x41, PacketInEntityVelocity.class);
-        getPlayRegistryIn().get(ProtocolConstants.MINECRAFT_1_13_1).registerPacket(0x43, PacketInSetExperience.class);
-        getPlayRegistryIn().get(ProtocolConstants.MINECRAFT_1_13_1).registerPacket(0x44, PacketInUpdateHealth.class);
-
-        getPlayRegistryOut().get(ProtocolConstants.MINECRAFT_1_13_1).copyOf(getPlayRegistryOut().get(ProtocolConstants.MINECRAFT_1_13));
-
-        //Minecraft 1.13.2
-
-        getPlayRegistryIn().get(ProtocolConstants.MINECRAFT_1_13_2).copyOf(getPlayRegistryIn().get(ProtocolConstants.MINECRAFT_1_13_1));
-        getPlayRegistryOut().get(ProtocolConstants.MINECRAFT_1_13_2).copyOf(getPlayRegistryOut().get(ProtocolConstants.MINECRAFT_1_13));
-
-        //Minecraft 1.14.0
-
-        getPlayRegistryIn().get(ProtocolConstants.MINECRAFT_1_14).registerPacket(0x00, PacketInSpawnEntity.class);
-        getPlayRegistryIn().get(ProtocolConstants.MINECRAFT_1_14).registerPacket(0x0D, PacketInDifficultySet.class);
-        getPlayRegistryIn().get(ProtocolConstants.MINECRAFT_1_14).registerPacket(0x0E, PacketInChatPlayer.class);
-        getPlayRegistryIn().get(ProtocolConstants.MINECRAFT_1_14).registerPacket(0x12, PacketInConfirmTransaction.class);
-        getPlayRegistryIn().get(ProtocolConstants.MINECRAFT_1_14).registerPacket(0x13, PacketInWindowClose.class);
-        getPlayRegistryIn().get(ProtocolConstants.MINECRAFT_1_14).registerPacket(0x14, PacketInWindowItems.class);
-        getPlayRegistryIn().get(ProtocolConstants.MINECRAFT_1_14).registerPacket(0x16, PacketInSetSlot.class);
-        getPlayRegistryIn().get(ProtocolConstants.MINECRAFT_1_14).registerPacket(0x1A, PacketInDisconnect.class);
-        getPlayRegistryIn().get(ProtocolConstants.MINECRAFT_1_14).registerPacket(0x20, PacketInKeepAlive.class);
-        getPlayRegistryIn().get(ProtocolConstants.MINECRAFT_1_14).registerPacket(0x25, PacketInJoinGame.class);
-        getPlayRegistryIn().get(ProtocolConstants.MINECRAFT_1_14).registerPacket(0x2E, PacketInOpenWindow.class);
-        getPlayRegistryIn().get(ProtocolConstants.MINECRAFT_1_14).registerPacket(0x33, PacketInPlayerListItem.class);
-        getPlayRegistryIn().get(ProtocolConstants.MINECRAFT_1_14).registerPacket(0x35, PacketInPlayerPosLook.class);
-        getPlayRegistryIn().get(ProtocolConstants.MINECRAFT_1_14).registerPacket(0x37, PacketInDestroyEntities.class);
-        getPlayRegistryIn().get(ProtocolConstants.MINECRAFT_1_14).registerPacket(0x3F, PacketInHeldItemChange.class);
-        getPlayRegistryIn().get(ProtocolConstants.MINECRAFT_1_14).registerPacket(0x43, PacketInEntityMetadata.class);
-        getPlayRegistryIn().get(ProtocolConstants.MINECRAFT_1_14).registerPacket(0x45, PacketInEntityVelocity.class);
-        getPlayRegistryIn().get(ProtocolConstants.MINECRAFT_1_14).registerPacket(0x47, PacketInSetExperience.class);
-        getPlayRegistryIn().get(ProtocolConstants.MINECRAFT_1_14).registerPacket(0x48, PacketInUpdateHealth.class);
-
-        getPlayRegistryOut().get(ProtocolConstants.MINECRAFT_1_14).registerPacket(0x00, PacketOutTeleportConfirm.class);
-        getPlayRegistryOut().get(ProtocolConstants.MINECRAFT_1_14).registerPacket(0x03, PacketOutChatMessage.class);
-        getPlayRegistryOut().get(ProtocolConstants.MINECRAFT_1_14).registerPacket(0x04, PacketOutClientStatus.class);
-        getPlayRegistryOut().get(ProtocolConstants.MINECRAFT_1_14).registerPacket(0x05, PacketOutClientSettings.class);
-        getPlayRegistryOut().get(ProtocolConstants.MINECRAFT_1_14).registerPacket(0x07, PacketOutConfirmTransaction.class);
-        getPlayRegistryOut().get(ProtocolConstants.MINECRAFT_1_14).registerPacket(0x09, PacketOutClickWindow.class);
-        getPlayRegistryOut().get(ProtocolConstants.MINECRAFT_1_14).registerPacket(0x0A, PacketOutCloseInventory.class);
-        getPlayRegistryOut().get(ProtocolConstants.MINECRAFT_1_14).registerPacket(0x0F, PacketOutKeepAlive.class);
-        getPlayRegistryOut().get(ProtocolConstants.MINECRAFT_1_14).registerPacket(0x11, PacketOutPosition.class);
-        getPlayRegistryOut().get(ProtocolConstants.MINECRAFT_1_14).registerPacket(0x12, PacketOutPosLook.class);
-        getPlayRegistryOut().get(ProtocolConstants.MINECRAFT_1_14).registerPacket(0x1B, PacketOutEntityAction.class);
-        getPlayRegistryOut().get(ProtocolConstants.MINECRAFT_1_14).registerPacket(0x23, PacketOutHeldItemChange.class);
-        getPlayRegistryOut().get(ProtocolConstants.MINECRAFT_1_14).registerPacket(0x2C, PacketOutBlockPlace.class);
-        getPlayRegistryOut().get(ProtocolConstants.MINECRAFT_1_14).registerPacket(0x2D, PacketOutUseItem.class);
-
-        //Minecraft 1.14.1
-
-        getPlayRegistryIn().get(ProtocolConstants.MINECRAFT_1_14_1).copyOf(getPlayRegistryIn().get(ProtocolConstants.MINECRAFT_1_14));
-        getPlayRegistryOut().get(ProtocolConstants.MINECRAFT_1_14_1).copyOf(getPlayRegistryOut().get(ProtocolConstants.MINECRAFT_1_14));
-
-        //Minecraft 1.14.2
-
-        getPlayRegistryIn().get(ProtocolConstants.MINECRAFT_1_14_2).copyOf(getPlayRegistryIn().get(ProtocolConstants.MINECRAFT_1_14));
-        getPlayRegistryOut().get(ProtocolConstants.MINECRAFT_1_14_2).copyOf(getPlayRegistryOut().get(ProtocolConstants.MINECRAFT_1_14));
-
-        //Minecraft 1.14.3
-
-        getPlayRegistryIn().get(ProtocolConstants.MINECRAFT_1_14_3).copyOf(getPlayRegistryIn().get(ProtocolConstants.MINECRAFT_1_14));
-        getPlayRegistryOut().get(ProtocolConstants.MINECRAFT_1_14_3).copyOf(getPlayRegistryOut().get(ProtocolConstants.MINECRAFT_1_14));
-
-        //Minecraft 1.14.4
-
-        getPlayRegistryIn().get(ProtocolConstants.MINECRAFT_1_14_4).copyOf(getPlayRegistryIn().get(ProtocolConstants.MINECRAFT_1_14));
-        getPlayRegistryOut().get(ProtocolConstants.MINECRAFT_1_14_4).copyOf(getPlayRegistryOut().get(ProtocolConstants.MINECRAFT_1_14));
-
-        //Minecraft 1.15
-        getPlayRegistryIn().get(ProtocolConstants.MINECRAFT_1_15).registerPacket(0x00, PacketInSpawnEntity.class);
-        getPlayRegistryIn().get(ProtocolConstants.MINECRAFT_1_15).registerPacket(0x0E, PacketInDifficultySet.class);
-        getPlayRegistryIn().get(ProtocolConstants.MINECRAFT_1_15).registerPacket(0x0F, PacketInChatPlayer.class);
-        getPlayRegistryIn().get(ProtocolConstants.MINECRAFT_1_15).registerPacket(0x13, PacketInConfirmTransaction.class);
-        getPlayRegistryIn().get(ProtocolConstants.MINECRAFT_1_15).registerPacket(0x14, PacketInWindowClose.class);
-        getPlayRegistryIn().get(ProtocolConstants.MINECRAFT_1_15).registerPacket(0x15, PacketInWindowItems.class);
-        getPlayRegistryIn().get(ProtocolConstants.MINECRAFT_1_15).registerPacket(0x17, PacketInSetSlot.class);
-        getPlayRegistryIn().get(ProtocolConstants.MINECRAFT_1_15).registerPacket(0x1B, PacketInDisconnect.class);
-        getPlayRegistryIn().get(ProtocolConstants.MINECRAFT_1_15).registerPacket(0x21, PacketInKeepAlive.class);
-        getPlayRegistryIn().get(ProtocolConstants.MINECRAFT_1_15).registerPacket(0x26, PacketInJoinGame.class);
-        getPlayRegistryIn().get(ProtocolConstants.MINECRAFT_1_15).registerPacket(0x2F, PacketInOpenWindow.class);
-        getPlayRegistryIn().get(ProtocolConstants.MINECRAFT_1_15).registerPacket(0x34, PacketInPlayerListItem.class);
-        getPlayRegistryIn().get(ProtocolConstants.MINECRAFT_1_15).registerPacket(0x36, PacketInPlayerPosLook.class);
-        getPlayRegistryIn().get(ProtocolConstants.MINECRAFT_1_15).registerPacket(0x38, PacketInDestroyEntities.class);
-        getPlayRegistryIn().get(ProtocolConstants.MINECRAFT_1_15).registerPacket(0x40, PacketInHeldItemChange.class);
-        getPlayRegistryIn().get(ProtocolConstants.MINECRAFT_1_15).registerPacket(0x44, PacketInEntityMetadata.class);
-        getPlayRegistryIn().get(ProtocolConstants.MINECRAFT_1_15).registerPacket(0x46, PacketInEntityVelocity.class);
-        getPlayRegistryIn().get(ProtocolConstants.MINECRAFT_1_15).registerPacket(0x48, PacketInSetExperience.class);
-        getPlayRegistryIn().get(ProtocolConstants.MINECRAFT_1_15).registerPacket(0x49, PacketInUpdateHealth.class);
-
-        getPlayRegistryOut().get(ProtocolConstants.MINECRAFT_1_15).copyOf(getPlayRegistryOut().get(ProtocolConstants.MINECRAFT_1_14));
-
-        //Minecraft 1.15.1
-        getPlayRegistryIn().get(ProtocolConstants.MINECRAFT_1_15_1).copyOf(getPlayRegistryIn().get(ProtocolConstants.MINECRAFT_1_15));
-        getPlayRegistryOut().get(ProtocolConstants.MINECRAFT_1_15_1).copyOf(getPlayRegistryOut().get(ProtocolConstants.MINECRAFT_1_14));
-
-        //Minecraft 1.15.2
-        getPlayRegistryIn().get(ProtocolConstants.MINECRAFT_1_15_2).copyOf(getPlayRegistryIn().get(ProtocolConstants.MINECRAFT_1_15));
-        getPlayRegistryOut().get(ProtocolConstants.MINECRAFT_1_15_2).copyOf(getPlayRegistryOut().get(ProtocolConstants.MINECRAFT_1_14));
-
-        //Minecraft 1.16
-        getPlayRegistryIn().get(ProtocolConstants.MINECRAFT_1_16).registerPacket(0x00, PacketInSpawnEntity.class);
-        getPlayRegistryIn().get(ProtocolConstants.MINECRAFT_1_16).registerPacket(0x0D, PacketInDifficultySet.class);
-        getPlayRegistryIn().get(ProtocolConstants.MINECRAFT_1_16).registerPacket(0x0E, PacketInChatPlayer.class);
-        getPlayRegistryIn().get(ProtocolConstants.MINECRAFT_1_16).registerPacket(0x12, PacketInConfirmTransaction.class);
-        getPlayRegistryIn().get(ProtocolConstants.MINECRAFT_1_16).registerPacket(0x13, PacketInWindowClose.class);
-        getPlayRegistryIn().get(ProtocolConstants.MINECRAFT_1_16).registerPacket(0x14, PacketInWindowItems.class);
-        getPlayRegistryIn().get(ProtocolConstants.MINECRAFT_1_16).registerPacket(0x16, PacketInSetSlot.class);
-        getPlayRegistryIn().get(ProtocolConstants.MINECRAFT_1_16).registerPacket(0x1A, PacketInDisconnect.class);
-        getPlayRegistryIn().get(ProtocolConstants.MINECRAFT_1_16).registerPacket(0x20, PacketInKeepAlive.class);
-        getPlayRegistryIn().get(ProtocolConstants.MINECRAFT_1_16).registerPacket(0x25, PacketInJoinGame.class);
-        getPlayRegistryIn().get(ProtocolConstants.MINECRAFT_1_16).registerPacket(0x2E, PacketInOpenWindow.class);
-        getPlayRegistryIn().get(ProtocolConstants.MINECRAFT_1_16).registerPacket(0x33, PacketInPlayerListItem.class);
-        getPlayRegistryIn().get(ProtocolConstants.MINECRAFT_1_16).registerPacket(0x35, PacketInPlayerPosLook.class);
-        getPlayRegistryIn().get(ProtocolConstants.MINECRAFT_1_16).registerPacket(0x37, PacketInDestroyEntities.class);
-        getPlayRegistryIn().get(ProtocolConstants.MINECRAFT_1_16).registerPacket(0x3F, PacketInHeldItemChange.class);
-        getPlayRegistryIn().get(ProtocolConstants.MINECRAFT_1_16).registerPacket(0x44, PacketInEntityMetadata.class);
-        getPlayRegistryIn().get(ProtocolConstants.MINECRAFT_1_16).registerPacket(0x46, PacketInEntityVelocity.class);
-        getPlayRegistryIn().get(ProtocolConstants.MINECRAFT_1_16).registerPacket(0x48, PacketInSetExperience.class);
-        getPlayRegistryIn().get(ProtocolConstants.MINECRAFT_1_16).registerPacket(0x49, PacketInUpdateHealth.class);
-
-        getPlayRegistryOut().get(ProtocolConstants.MINECRAFT_1_16).registerPacket(0x00, PacketOutTeleportConfirm.class);
-        getPlayRegistryOut().get(ProtocolConstants.MINECRAFT_1_16).registerPacket(0x03, PacketOutChatMessage.class);
-        getPlayRegistryOut().get(ProtocolConstants.MINECRAFT_1_16).registerPacket(0x04, PacketOutClientStatus.class);
-        getPlayRegistryOut().get(ProtocolConstants.MINECRAFT_1_16).registerPacket(0x05, PacketOutClientSettings.class);
-        getPlayRegistryOut().get(ProtocolConstants.MINECRAFT_1_16).registerPacket(0x07, PacketOutConfirmTransaction.class);
-        getPlayRegistryOut().get(ProtocolConstants.MINECRAFT_1_16).registerPacket(0x09, PacketOutClickWindow.class);
-        getPlayRegistryOut().get(ProtocolConstants.MINECRAFT_1_16).registerPacket(0x0A, PacketOutCloseInventory.class);
-        getPlayRegistryOut().get(ProtocolConstants.MINECRAFT_1_16).registerPacket(0x10, PacketOutKeepAlive.class);
-        getPlayRegistryOut().get(ProtocolConstants.MINECRAFT_1_16).registerPacket(0x12, PacketOutPosition.class);
-        getPlayRegistryOut().get(ProtocolConstants.MINECRAFT_1_16).registerPacket(0x13, PacketOutPosLook.class);
-        getPlayRegistryOut().get(ProtocolConstants.MINECRAFT_1_16).registerPacket(0x24, PacketOutHeldItemChange.class);
-        getPlayRegistryOut().get(ProtocolConstants.MINECRAFT_1_16).registerPacket(0x1C, PacketOutEntityAction.class);
-        getPlayRegistryOut().get(ProtocolConstants.MINECRAFT_1_16).registerPacket(0x2D, PacketOutBlockPlace.class);
-        getPlayRegistryOut().get(ProtocolConstants.MINECRAFT_1_16).registerPacket(0x2E, PacketOutUseItem.class);
-
-        //Minecraft 1.16.1
-        getPlayRegistryIn().get(ProtocolConstants.MINECRAFT_1_16_1).copyOf(getPlayRegistryIn().get(ProtocolConstants.MINECRAFT_1_16));
-        getPlayRegistryOut().get(ProtocolConstants.MINECRAFT_1_16_1).copyOf(getPlayRegistryOut().get(ProtocolConstants.MINECRAFT_1_16));
-
-        //Minecraft 1.16.2
-        getPlayRegistryIn().get(ProtocolConstants.MINECRAFT_1_16_2).registerPacket(0x00, PacketInSpawnEntity.class);
-        getPlayRegistryIn().get(ProtocolConstants.MINECRAFT_1_16_2).registerPacket(0x0D, PacketInDifficultySet.class);
-        getPlayRegistryIn().get(ProtocolConstants.MINECRAFT_1_16_2).registerPacket(0x0E, PacketInChatPlayer.class);
-        getPlayRegistryIn().get(ProtocolConstants.MINECRAFT_1_16_2).registerPacket(0x11, PacketInConfirmTransaction.class);
-        getPlayRegistryIn().get(ProtocolConstants.MINECRAFT_1_16_2).registerPacket(0x12, PacketInWindowClose.class);
-        getPlayRegistryIn().get(ProtocolConstants.MINECRAFT_1_16_2).registerPacket(0x13, PacketInWindowItems.class);
-        getPlayRegistryIn().get(ProtocolConstants.MINECRAFT_1_16_2).registerPacket(0x15, PacketInSetSlot.class);
-        getPlayRegistryIn().get(ProtocolConstants.MINECRAFT_1_16_2).registerPacket(0x19, PacketInDisconnect.class);
-        getPlayRegistryIn().get(ProtocolConstants.MINECRAFT_1_16_2).registerPacket(0x1F, PacketInKeepAlive.class);
-        getPlayRegistryIn().get(ProtocolConstants.MINECRAFT_1_16_2).registerPacket(0x24, PacketInJoinGame.class);
-        getPlayRegistryIn().get(ProtocolConstants.MINECRAFT_1_16_2).registerPacket(0x2D, PacketInOpenWindow.class);
-        getPlayRegistryIn().get(ProtocolConstants.MINECRAFT_1_16_2).registerPacket(0x32, PacketInPlayerListItem.class);
-        getPlayRegistryIn().get(ProtocolConstants.MINECRAFT_1_16_2).registerPacket(0x34, PacketInPlayerPosLook.class);
-        getPlayRegistryIn().get(ProtocolConstants.MINECRAFT_1_16_2).registerPacket(0x36, PacketInDestroyEntities.class);
-        getPlayRegistryIn().get(ProtocolConstants.MINECRAFT_1_16_2).registerPacket(0x3F, PacketInHeldItemChange.class);
-        getPlayRegistryIn().get(ProtocolConstants.MINECRAFT_1_16_2).registerPacket(0x44, PacketInEntityMetadata.class);
-        getPlayRegistryIn().get(ProtocolConstants.MINECRAFT_1_16_2).registerPacket(0x46, PacketInEntityVelocity.class);
-        getPlayRegistryIn().get(ProtocolConstants.MINECRAFT_1_16_2).registerPacket(0x48, PacketInSetExperience.class);
-        getPlayRegistryIn().get(ProtocolConstants.MINECRAFT_1_16_2).registerPacket(0x49, PacketInUpdateHealth.class);
-
-        getPlayRegistryOut().get(ProtocolConstants.MINECRAFT_1_16_2).registerPacket(0x00, PacketOutTeleportConfirm.class);
-        getPlayRegistryOut().get(ProtocolConstants.MINECRAFT_1_16_2).registerPacket(0x03, PacketOutChatMessage.class);
-        getPlayRegistryOut().get(ProtocolConstants.MINECRAFT_1_16_2).registerPacket(0x04, PacketOutClientStatus.class);
-        getPlayRegistryOut().get(ProtocolConstants.MINECRAFT_1_16_2).registerPacket(0x05, PacketOutClientSettings.class);
-        getPlayRegistryOut().get(ProtocolConstants.MINECRAFT_1_16_2).registerPacket(0x07, PacketOutConfirmTransaction.class);
-        getPlayRegistryOut().get(ProtocolConstants.MINECRAFT_1_16_2).registerPacket(0x09, PacketOutClickWindow.class);
-        getPlayRegistryOut().get(ProtocolConstants.MINECRAFT_1_16_2).registerPacket(0x0A, PacketOutCloseInventory.class);
-        getPlayRegistryOut().get(ProtocolConstants.MINECRAFT_1_16_2).registerPacket(0x10, PacketOutKeepAlive.class);
-        getPlayRegistryOut().get(ProtocolConstants.MINECRAFT_1_16_2).registerPacket(0x12, PacketOutPosition.class);
-        getPlayRegistryOut().get(ProtocolConstants.MINECRAFT_1_16_2).registerPacket(0x13, PacketOutPosLook.class);
-        getPlayRegistryOut().get(ProtocolConstants.MINECRAFT_1_16_2).registerPacket(0x1C, PacketOutEntityAction.class);
-        getPlayRegistryOut().get(ProtocolConstants.MINECRAFT_1_16_2).registerPacket(0x2E, PacketOutBlockPlace.class);
-        getPlayRegistryOut().get(ProtocolConstants.MINECRAFT_1_16_2).registerPacket(0x2F, PacketOutUseItem.class);
-        getPlayRegistryOut().get(ProtocolConstants.MINECRAFT_1_16_2).registerPacket(0x3F, PacketOutHeldItemChange.class);
-
-        //Minecraft 1.16.3
-        getPlayRegistryIn().get(ProtocolConstants.MINECRAFT_1_16_3).copyOf(getPlayRegistryIn().get(ProtocolConstants.MINECRAFT_1_16_2));
-        getPlayRegistryOut().get(ProtocolConstants.MINECRAFT_1_16_3).copyOf(getPlayRegistryOut().get(ProtocolConstants.MINECRAFT_1_16_2));
-
-        //Minecraft 1.16.4
-        getPlayRegistryIn().get(ProtocolConstants.MINECRAFT_1_16_4).copyOf(getPlayRegistryIn().get(ProtocolConstants.MINECRAFT_1_16_3));
-        getPlayRegistryOut().get(ProtocolConstants.MINECRAFT_1_16_4).copyOf(getPlayRegistryOut().get(ProtocolConstants.MINECRAFT_1_16_3));
-
-        //Minecraft 1.17
-        getPlayRegistryIn().get(ProtocolConstants.MINECRAFT_1_17).registerPacket(0x00, PacketInSpawnEntity.class);
-        getPlayRegistryIn().get(ProtocolConstants.MINECRAFT_1_17).registerPacket(0x0E, PacketInDifficultySet.class);
-        getPlayRegistryIn().get(ProtocolConstants.MINECRAFT_1_17).registerPacket(0x0F, PacketInChatPlayer.class);
-        getPlayRegistryIn().get(ProtocolConstants.MINECRAFT_1_17).registerPacket(0x13, PacketInWindowClose.class);
-        getPlayRegistryIn().get(ProtocolConstants.MINECRAFT_1_17).registerPacket(0x14, PacketInWindowItems.class);
-        getPlayRegistryIn().get(ProtocolConstants.MINECRAFT_1_17).registerPacket(0x16, PacketInSetSlot.class);
-        getPlayRegistryIn().get(ProtocolConstants.MINECRAFT_1_17).registerPacket(0x1A, PacketInDisconnect.class);
-        getPlayRegistryIn().get(ProtocolConstants.MINECRAFT_1_17).registerPacket(0x21, PacketInKeepAlive.class);
-        getPlayRegistryIn().get(ProtocolConstants.MINECRAFT_1_17).registerPacket(0x26, PacketInJoinGame.class);
-        getPlayRegistryIn().get(ProtocolConstants.MINECRAFT_1_17).registerPacket(0x2E, PacketInOpenWindow.class);
-        getPlayRegistryIn().get(ProtocolConstants.MINECRAFT_1_17).registerPacket(0x36, PacketInPlayerListItem.class);
-        getPlayRegistryIn().get(ProtocolConstants.MINECRAFT_1_17).registerPacket(0x38, PacketInPlayerPosLook.class);
-        getPlayRegistryIn().get(ProtocolConstants.MINECRAFT_1_17).registerPacket(0x48, PacketInHeldItemChange.class);
-        getPlayRegistryIn().get(ProtocolConstants.MINECRAFT_1_17).registerPacket(0x4D, PacketInEntityMetadata.class);
-        getPlayRegistryIn().get(ProtocolConstants.MINECRAFT_1_17).registerPacket(0x4F, PacketInEntityVelocity.class);
-        getPlayRegistryIn().get(ProtocolConstants.MINECRAFT_1_17).registerPacket(0x51, PacketInSetExperience.class);
-        getPlayRegistryIn().get(ProtocolConstants.MINECRAFT_1_17).registerPacket(0x52, PacketInUpdateHealth.class);
-
-        getPlayRegistryOut().get(ProtocolConstants.MINECRAFT_1_17).registerPacket(0x00, PacketOutTeleportConfirm.class);
-        getPlayRegistryOut().get(ProtocolConstants.MINECRAFT_1_17).registerPacket(0x03, PacketOutChatMessage.class);
-        getPlayRegistryOut().get(ProtocolConstants.MINECRAFT_1_17).registerPacket(0x04, PacketOutClientStatus.class);
-        getPlayRegistryOut().get(ProtocolConstants.MINECRAFT_1_17).registerPacket(0x05, PacketOutClientSettings.class);
-//        getPlayRegistryOut().get(ProtocolConstants.MINECRAFT_1_17).registerPacket(0x07, PacketOutConfirmTransaction.class);
-        getPlayRegistryOut().get(ProtocolConstants.MINECRAFT_1_17).registerPacket(0x08, PacketOutClickWindow.class);
-        getPlayRegistryOut().get(ProtocolConstants.MINECRAFT_1_17).registerPacket(0x09, PacketOutCloseInventory.class);
-        getPlayRegistryOut().get(ProtocolConstants.MINECRAFT_1_17).registerPacket(0x0F, PacketOutKeepAlive.class);
-        getPlayRegistryOut().get(ProtocolConstants.MINECRAFT_1_17).registerPacket(0x11, PacketOutPosition.class);
-        getPlayRegistryOut().get(ProtocolConstants.MINECRAFT_1_17).registerPacket(0x12, PacketOutPosLook.class);
-        getPlayRegistryOut().get(ProtocolConstants.MINECRAFT_1_17).registerPacket(0x1B, PacketOutEntityAction.class);
-        getPlayRegistryOut().get(ProtocolConstants.MINECRAFT_1_17).registerPacket(0x25, PacketOutHeldItemChange.class);
-        getPlayRegistryOut().get(ProtocolConstants.MINECRAFT_1_17).registerPacket(0x2E, PacketOutBlockPlace.class);
-        getPlayRegistryOut().get(ProtocolConstants.MINECRAFT_1_17).registerPacket(0x2F, PacketOutUseItem.class);
-
-        //Minecraft 1.17.1
-        getPlayRegistryIn().get(ProtocolConstants.MINECRAFT_1_17_1).copyOf(getPlayRegistryIn().get(ProtocolConstants.MINECRAFT_1_17));
-        getPlayRegistryOut().get(ProtocolConstants.MINECRAFT_1_17_1).copyOf(getPlayRegistryOut().get(ProtocolConstants.MINECRAFT_1_17));
-
-        //Minecraft 1.18
-        getPlayRegistryIn().get(ProtocolConstants.MINECRAFT_1_18).copyOf(getPlayRegistryIn().get(ProtocolConstants.MINECRAFT_1_17));
-        getPlayRegistryOut().get(ProtocolConstants.MINECRAFT_1_18).copyOf(getPlayRegistryOut().get(ProtocolConstants.MINECRAFT_1_17));
-
-        //Minecraft 1.18.2
-        getPlayRegistryIn().get(ProtocolConstants.MINECRAFT_1_18_2).copyOf(getPlayRegistryIn().get(ProtocolConstants.MINECRAFT_1_18));
-        getPlayRegistryOut().get(ProtocolConstants.MINECRAFT_1_18_2).copyOf(getPlayRegistryOut().get(ProtocolConstants.MINECRAFT_1_18));
-
-        //Minecraft 1.19
-        getPlayRegistryIn().get(ProtocolConstants.MINECRAFT_1_19).registerPacket(0x00, PacketInSpawnEntity.class);
-        getPlayRegistryIn().get(ProtocolConstants.MINECRAFT_1_19).registerPacket(0x0B, PacketInDifficultySet.class);
-        getPlayRegistryIn().get(ProtocolConstants.MINECRAFT_1_19).registerPacket(0x10, PacketInWindowClose.class);
-        getPlayRegistryIn().get(ProtocolConstants.MINECRAFT_1_19).registerPacket(0x11, PacketInWindowItems.class);
-        getPlayRegistryIn().get(ProtocolConstants.MINECRAFT_1_19).registerPacket(0x13, PacketInSetSlot.class);
-        getPlayRegistryIn().get(ProtocolConstants.MINECRAFT_1_19).registerPacket(0x17, PacketInDisconnect.class);
-        getPlayRegistryIn().get(ProtocolConstants.MINECRAFT_1_19).registerPacket(0x1E, PacketInKeepAlive.class);
-        getPlayRegistryIn().get(ProtocolConstants.MINECRAFT_1_19).registerPacket(0x23, PacketInJoinGame.class);
-        getPlayRegistryIn().get(ProtocolConstants.MINECRAFT_1_19).registerPacket(0x2B, PacketInOpenWindow.class);
-        getPlayRegistryIn().get(ProtocolConstants.MINECRAFT_1_19).registerPacket(0x30, PacketInChatPlayer.class);
-        getPlayRegistryIn().get(ProtocolConstants.MINECRAFT_1_19).registerPacket(0x34, PacketInPlayerListItem.class);
-        getPlayRegistryIn().get(ProtocolConstants.MINECRAFT_1_19).registerPacket(0x36, PacketInPlayerPosLook.class);
-        getPlayRegistryIn().get(ProtocolConstants.MINECRAFT_1_19).registerPacket(0x47, PacketInHeldItemChange.class);
-        getPlayRegistryIn().get(ProtocolConstants.MINECRAFT_1_19).registerPacket(0x4D, PacketInEntityMetadata.class);
-        getPlayRegistryIn().get(ProtocolConstants.MINECRAFT_1_19).registerPacket(0x4F, PacketInEntityVelocity.class);
-        getPlayRegistryIn().get(ProtocolConstants.MINECRAFT_1_19).registerPacket(0x51, PacketInSetExperience.class);
-        getPlayRegistryIn().get(ProtocolConstants.MINECRAFT_1_19).registerPacket(0x52, PacketInUpdateHealth.class);
-        getPlayRegistryIn().get(ProtocolConstants.MINECRAFT_1_19).registerPacket(0x5F, PacketInChatSystem.class);
-
-        getPlayRegistryOut().get(ProtocolConstants.MINECRAFT_1_19).registerPacket(0x00, PacketOutTeleportConfirm.class);
-        getPlayRegistryOut().get(ProtocolConstants.MINECRAFT_1_19).registerPacket(0x03, PacketOutChatCommand.class);
-        getPlayRegistryOut().get(ProtocolConstants.MINECRAFT_1_19).registerPacket(0x04, PacketOutChatMessage.class);
-        getPlayRegistryOut().get(ProtocolConstants.MINECRAFT_1_19).registerPacket(0x06, PacketOutClientStatus.class);
-        getPlayRegistryOut().get(ProtocolConstants.MINECRAFT_1_19).registerPacket(0x07, PacketOutClientSettings.class);
-//        getPlayRegistryOut().get(ProtocolConstants.MINECRAFT_1_19).registerPacket(0x07, PacketOutConfirmTransaction.class);
-        getPlayRegistryOut().get(ProtocolConstants.MINECRAFT_1_19).registerPacket(0x0A, PacketOutClickWindow.class);
-        getPlayRegistryOut().get(ProtocolConstants.MINECRAFT_1_19).registerPacket(0x0B, PacketOutCloseInventory.class);
-        getPlayRegistryOut().get(ProtocolConstants.MINECRAFT_1_19).registerPacket(0x11, PacketOutKeepAlive.class);
-        getPlayRegistryOut().get(ProtocolConstants.MINECRAFT_1_19).registerPacket(0x13, PacketOutPosition.class);
-        getPlayRegistryOut().get(ProtocolConstants.MINECRAFT_1_19).registerPacket(0x14, PacketOutPosLook.class);
-        getPlayRegistryOut().get(ProtocolConstants.MINECRAFT_1_19).registerPacket(0x1D, PacketOutEntityAction.class);
-        getPlayRegistryOut().get(ProtocolConstants.MINECRAFT_1_19).registerPacket(0x25, PacketOutHeldItemChange.class);
-        getPlayRegistryOut().get(ProtocolConstants.MINECRAFT_1_19).registerPacket(0x30, PacketOutBlockPlace.class);
-        getPlayRegistryOut().get(ProtocolConstants.MINECRAFT_1_19).registerPacket(0x31, PacketOutUseItem.class);
-
-        //Minecraft 1.19.1
-        getPlayRegistryIn().get(ProtocolConstants.MINECRAFT_1_19_1).registerPacket(0x00, PacketInSpawnEntity.class);
-        getPlayRegistryIn().get(ProtocolConstants.MINECRAFT_1_19_1).registerPacket(0x0B, PacketInDifficultySet.class);
-        getPlayRegistryIn().get(ProtocolConstants.MINECRAFT_1_19_1).registerPacket(0x0F, PacketInCommands.class);
-        getPlayRegistryIn().get(ProtocolConstants.MINECRAFT_1_19_1).registerPacket(0x10, PacketInWindowClose.class);
-        getPlayRegistryIn().get(ProtocolConstants.MINECRAFT_1_19_1).registerPacket(0x11, PacketInWindowItems.class);
-        getPlayRegistryIn().get(ProtocolConstants.MINECRAFT_1_19_1).registerPacket(0x13, PacketInSetSlot.class);
-        getPlayRegistryIn().get(ProtocolConstants.MINECRAFT_1_19_1).registerPacket(0x19, PacketInDisconnect.class);
-        getPlayRegistryIn().get(ProtocolConstants.MINECRAFT_1_19_1).registerPacket(0x20, PacketInKeepAlive.class);
-        getPlayRegistryIn().get(ProtocolConstants.MINECRAFT_1_19_1).registerPacket(0x25, PacketInJoinGame.class);
-        getPlayRegistryIn().get(ProtocolConstants.MINECRAFT_1_19_1).registerPacket(0x2D, PacketInOpenWindow.class);
-        getPlayRegistryIn().get(ProtocolConstants.MINECRAFT_1_19_1).registerPacket(0x33, PacketInChatPlayer.class);
-        getPlayRegistryIn().get(ProtocolConstants.MINECRAFT_1_19_1).registerPacket(0x37, PacketInPlayerListItem.class);
-        getPlayRegistryIn().get(ProtocolConstants.MINECRAFT_1_19_1).registerPacket(0x39, PacketInPlayerPosLook.class);
-        getPlayRegistryIn().get(ProtocolConstants.MINECRAFT_1_19_1).registerPacket(0x4A, PacketInHeldItemChange.class);
-        getPlayRegistryIn().get(ProtocolConstants.MINECRAFT_1_19_1).registerPacket(0x50, PacketInEntityMetadata.class);
-        getPlayRegistryIn().get(ProtocolConstants.MINECRAFT_1_19_1).registerPacket(0x52, PacketInEntityVelocity.class);
-        getPlayRegistryIn().get(ProtocolConstants.MINECRAFT_1_19_1).registerPacket(0x54, PacketInSetExperience.class);
-        getPlayRegistryIn().get(ProtocolConstants.MINECRAFT_1_19_1).registerPacket(0x55, PacketInUpdateHealth.class);
-        getPlayRegistryIn().get(ProtocolConstants.MINECRAFT_1_19_1).registerPacket(0x62, PacketInChatSystem.class);
-
-        getPlayRegistryOut().get(ProtocolConstants.MINECRAFT_1_19_1).registerPacket(0x00, PacketOutTeleportConfirm.class);
-        getPlayRegistryOut().get(ProtocolConstants.MINECRAFT_1_19_1).registerPacket(0x04, PacketOutChatCommand.class);
-        getPlayRegistryOut().get(ProtocolConstants.MINECRAFT_1_19_1).registerPacket(0x05, PacketOutChatMessage.class);
-        getPlayRegistryOut().get(ProtocolConstants.MINECRAFT_1_19_1).registerPacket(0x07, PacketOutClientStatus.class);
-        getPlayRegistryOut().get(ProtocolConstants.MINECRAFT_1_19_1).registerPacket(0x08, PacketOutClientSettings.class);
-//        getPlayRegistryOut().get(ProtocolConstants.MINECRAFT_1_19_1).registerPacket(0x07, PacketOutConfirmTransaction.class);
-        getPlayRegistryOut().get(ProtocolConstants.MINECRAFT_1_19_1).registerPacket(0x0B, PacketOutClickWindow.class);
-        getPlayRegistryOut().get(ProtocolConstants.MINECRAFT_1_19_1).registerPacket(0x0C, PacketOutCloseInventory.class);
-        getPlayRegistryOut().get(ProtocolConstants.MINECRAFT_1_19_1).registerPacket(0x12, PacketOutKeepAlive.class);
-        getPlayRegistryOut().get(ProtocolConstants.MINECRAFT_1_19_1).registerPacket(0x14, PacketOutPosition.class);
-        getPlayRegistryOut().get(ProtocolConstants.MINECRAFT_1_19_1).registerPacket(0x15, PacketOutPosLook.class);
-        getPlayRegistryOut().get(ProtocolConstants.MINECRAFT_1_19_1).registerPacket(0x1E, PacketOutEntityAction.class);
-        getPlayRegistryOut().get(ProtocolConstants.MINECRAFT_1_19_1).registerPacket(0x28, PacketOutHeldItemChange.class);
-        getPlayRegistryOut().get(ProtocolConstants.MINECRAFT_1_19_1).registerPacket(0x31, PacketOutBlockPlace.class);
-        getPlayRegistryOut().get(ProtocolConstants.MINECRAFT_1_19_1).registerPacket(0x32, PacketOutUseItem.class);
-
-        //Minecraft 1.19.3
-        getPlayRegistryIn().get(ProtocolConstants.MINECRAFT_1_19_3).registerPacket(0x00, PacketInSpawnEntity.class);
-        getPlayRegistryIn().get(ProtocolConstants.MINECRAFT_1_19_3).registerPacket(0x0B, PacketInDifficultySet.class);
-        // TODO: PacketInCommands not working (1.19.3)
-//        getPlayRegistryIn().get(ProtocolConstants.MINECRAFT_1_19_3).registerPacket(0x0E, PacketInCommands.class);
-        getPlayRegistryIn().get(ProtocolConstants.MINECRAFT_1_19_3).registerPacket(0x0F, PacketInWindowClose.class);
-        getPlayRegistryIn().get(ProtocolConstants.MINECRAFT_1_19_3).registerPacket(0x10, PacketInWindowItems.class);
-        getPlayRegistryIn().get(ProtocolConstants.MINECRAFT_1_19_3).registerPacket(0x12, PacketInSetSlot.class);
-        getPlayRegistryIn().get(ProtocolConstants.MINECRAFT_1_19_3).registerPacket(0x17, PacketInDisconnect.class);
-        getPlayRegistryIn().get(ProtocolConstants.MINECRAFT_1_19_3).registerPacket(0x1F, PacketInKeepAlive.class);
-        getPlayRegistryIn().get(ProtocolConstants.MINECRAFT_1_19_3).registerPacket(0x24, PacketInJoinGame.class);
-        getPlayRegistryIn().get(ProtocolConstants.MINECRAFT_1_19_3).registerPacket(0x2C, PacketInOpenWindow.class);
-        // TODO: PacketInChatPlayer not working (1.19.3)
-//        getPlayRegistryIn().get(ProtocolConstants.MINECRAFT_1_19_3).registerPacket(0x31, PacketInChatPlayer.class);
-        getPlayRegistryIn().get(ProtocolConstants.MINECRAFT_1_19_3).registerPacket(0x35, PacketInPlayerListItemRemove.class);
-        getPlayRegistryIn().get(ProtocolConstants.MINECRAFT_1_19_3).registerPacket(0x36, PacketInPlayerListItem.class);
-        getPlayRegistryIn().get(ProtocolConstants.MINECRAFT_1_19_3).registerPacket(0x38, PacketInPlayerPosLook.class);
-        getPlayRegistryIn().get(ProtocolConstants.MINECRAFT_1_19_3).registerPacket(0x49, PacketInHeldItemChange.class);
-        getPlayRegistryIn().get(ProtocolConstants.MINECRAFT_1_19_3).registerPacket(0x4E, PacketInEntityMetadata.class);
-        getPlayRegistryIn().get(ProtocolConstants.MINECRAFT_1_19_3).registerPacket(0x50, PacketInEntityVelocity.class);
-        getPlayRegistryIn().get(ProtocolConstants.MINECRAFT_1_19_3).registerPacket(0x52, PacketInSetExperience.class);
-        getPlayRegistryIn().get(ProtocolConstants.MINECRAFT_1_19_3).registerPacket(0x53, PacketInUpdateHealth.class);
-        getPlayRegistryIn().get(ProtocolConstants.MINECRAFT_1_19_3).registerPacket(0x60, PacketInChatSystem.class);
-
-        getPlayRegistryOut().get(ProtocolConstants.MINECRAFT_1_19_3).registerPacket(0x00, PacketOutTeleportConfirm.class);
-        // TODO: Command argument signing (1.19.3)
-        getPlayRegistryOut().get(ProtocolConstants.MINECRAFT_1_19_3).registerPacket(0x04, PacketOutChatCommand.class);
-        // TODO: Chat signing (1.19.3)
-        getPlayRegistryOut().get(ProtocolConstants.MINECRAFT_1_19_3).registerPacket(0x05, PacketOutChatMessage.class);
-        getPlayRegistryOut().get(ProtocolConstants.MINECRAFT_1_19_3).registerPacket(0x06, PacketOutClientStatus.class);
-        getPlayRegistryOut().get(ProtocolConstants.MINECRAFT_1_19_3).registerPacket(0x07, PacketOutClientSettings.class);
-//        getPlayRegistryOut().get(ProtocolConstants.MINECRAFT_1_19_3).registerPacket(0x07, PacketOutConfirmTransaction.class);
-        getPlayRegistryOut().get(ProtocolConstants.MINECRAFT_1_19_3).registerPacket(0x0A, PacketOutClickWindow.class);
-        getPlayRegistryOut().get(ProtocolConstants.MINECRAFT_1_19_3).registerPacket(0x0B, PacketOutCloseInventory.class);
-        getPlayRegistryOut().get(ProtocolConstants.MINECRAFT_1_19_3).registerPacket(0x11, PacketOutKeepAlive.class);
-        getPlayRegistryOut().get(ProtocolConstants.MINECRAFT_1_19_3).registerPacket(0x13, PacketOutPosition.class);
-        getPlayRegistryOut().get(ProtocolConstants.MINECRAFT_1_19_3).registerPacket(0x14, PacketOutPosLook.class);
-        getPlayRegistryOut().get(ProtocolConstants.MINECRAFT_1_19_3).registerPacket(0x1D, PacketOutEntityAction.class);
-        getPlayRegistryOut().get(ProtocolConstants.MINECRAFT_1_19_3).registerPacket(0x20, PacketOutChatSessionUpdate.class);
-        getPlayRegistryOut().get(ProtocolConstants.MINECRAFT_1_19_3).registerPacket(0x28, PacketOutHeldItemChange.class);
-        getPlayRegistryOut().get(ProtocolConstants.MINECRAFT_1_19_3).registerPacket(0x31, PacketOutBlockPlace.class);
-        getPlayRegistryOut().get(ProtocolConstants.MINECRAFT_1_19_3).registerPacket(0x32, PacketOutUseItem.class);
-
-        //Minecraft 1.19.4
-        getPlayRegistryIn().get(ProtocolConstants.MINECRAFT_1_19_4).registerPacket(0x01, PacketInSpawnEntity.class);
-        getPlayRegistryIn().get(ProtocolConstants.MINECRAFT_1_19_4).registerPacket(0x0C, PacketInDifficultySet.class);
-        // TODO: PacketInCommands not working (1.19.3)
-//        getPlayRegistryIn().get(ProtocolConstants.MINECRAFT_1_19_4).registerPacket(0x0E, PacketInCommands.class);
-        getPlayRegistryIn().get(ProtocolConstants.MINECRAFT_1_19_4).registerPacket(0x11, PacketInWindowClose.class);
-        getPlayRegistryIn().get(ProtocolConstants.MINECRAFT_1_19_4).registerPacket(0x12, PacketInWindowItems.class);
-        getPlayRegistryIn().get(ProtocolConstants.MINECRAFT_1_19_4).registerPacket(0x14, PacketInSetSlot.class);
-        getPlayRegistryIn().get(ProtocolConstants.MINECRAFT_1_19_4).registerPacket(0x1A, PacketInDisconnect.class);
-        getPlayRegistryIn().get(ProtocolConstants.MINECRAFT_1_19_4).registerPacket(0x23, PacketInKeepAlive.class);
-        getPlayRegistryIn().get(ProtocolConstants.MINECRAFT_1_19_4).registerPacket(0x28, PacketInJoinGame.class);
-        getPlayRegistryIn().get(ProtocolConstants.MINECRAFT_1_19_4).registerPacket(0x30, PacketInOpenWindow.class);
-        // TODO: PacketInChatPlayer not working (1.19.3)
-//        getPlayRegistryIn().get(ProtocolConstants.MINECRAFT_1_19_4).registerPacket(0x31, PacketInChatPlayer.class);
-        getPlayRegistryIn().get(ProtocolConstants.MINECRAFT_1_19_4).registerPacket(0x39, PacketInPlayerListItemRemove.class);
-        getPlayRegistryIn().get(ProtocolConstants.MINECRAFT_1_19_4).registerPacket(0x3A, PacketInPlayerListItem.class);
-        getPlayRegistryIn().get(ProtocolConstants.MINECRAFT_1_19_4).registerPacket(0x3C, PacketInPlayerPosLook.class); //TODO: MISSING BOOLEAN
-        getPlayRegistryIn().get(ProtocolConstants.MINECRAFT_1_19_4).registerPacket(0x4D, PacketInHeldItemChange.class);
-        getPlayRegistryIn().get(ProtocolConstants.MINECRAFT_1_19_4).registerPacket(0x52, PacketInEntityMetadata.class);
-        getPlayRegistryIn().get(ProtocolConstants.MINECRAFT_1_19_4).registerPacket(0x54, PacketInEntityVelocity.class);
-        getPlayRegistryIn().get(ProtocolConstants.MINECRAFT_1_19_4).registerPacket(0x56, PacketInSetExperience.class);
-        getPlayRegistryIn().get(ProtocolConstants.MINECRAFT_1_19_4).registerPacket(0x57, PacketInUpdateHealth.class);
-        getPlayRegistryIn().get(ProtocolConstants.MINECRAFT_1_19_4).registerPacket(0x64, PacketInChatSystem.class);
-
-        getPlayRegistryOut().get(ProtocolConstants.MINECRAFT_1_19_4).registerPacket(0x00, PacketOutTeleportConfirm.class);
-        // TODO: Command argument signing (1.19.3)
-        getPlayRegistryOut().get(ProtocolConstants.MINECRAFT_1_19_4).registerPacket(0x04, PacketOutChatCommand.class);
-        // TODO: Chat signing (1.19.3)
-        getPlayRegistryOut().get(ProtocolConstants.MINECRAFT_1_19_4).registerPacket(0x05, PacketOutChatMessage.class);
-        getPlayRegistryOut().get(ProtocolConstants.MINECRAFT_1_19_4).registerPacket(0x06, PacketOutChatSessionUpdate.class);
-        getPlayRegistryOut().get(ProtocolConstants.MINECRAFT_1_19_4).registerPacket(0x07, PacketOutClientStatus.class);
-        getPlayRegistryOut().get(ProtocolConstants.MINECRAFT_1_19_4).registerPacket(0x08, PacketOutClientSettings.class);
-//        getPlayRegistryOut().get(ProtocolConstants.MINECRAFT_1_19_4).registerPacket(0x07, PacketOutConfirmTransaction.class);
-        getPlayRegistryOut().get(ProtocolConstants.MINECRAFT_1_19_4).registerPacket(0x0B, PacketOutClickWindow.class);
-        getPlayRegistryOut().get(ProtocolConstants.MINECRAFT_1_19_4).registerPacket(0x0C, PacketOutCloseInventory.class);
-        getPlayRegistryOut().get(ProtocolConstants.MINECRAFT_1_19_4).registerPacket(0x12, PacketOutKeepAlive.class);
-        getPlayRegistryOut().get(ProtocolConstants.MINECRAFT_1_19_4).registerPacket(0x14, PacketOutPosition.class);
-        getPlayRegistryOut().get(ProtocolConstants.MINECRAFT_1_19_4).registerPacket(0x15, PacketOutPosLook.class);
-        getPlayRegistryOut().get(ProtocolConstants.MINECRAFT_1_19_4).registerPacket(0x1E, PacketOutEntityAction.class);
-        getPlayRegistryOut().get(ProtocolConstants.MINECRAFT_1_19_4).registerPacket(0x28, PacketOutHeldItemChange.class);
-        getPlayRegistryOut().get(ProtocolConstants.MINECRAFT_1_19_4).registerPacket(0x31, PacketOutBlockPlace.class);
-        getPlayRegistryOut().get(ProtocolConstants.MINECRAFT_1_19_4).registerPacket(0x32, PacketOutUseItem.class);
-
-        //Register protocol of latest for unknown versions
-        if (!ProtocolConstants.SUPPORTED_VERSION_IDS.contains(FishingBot.getInstance().getCurrentBot().getServerProtocol())) {
+    private void initPacketRegistries(long setupStart) {
+        // the registries are built by the first connection only, later connects should log (almost) zero here
+        long registriesStart = System.nanoTime();
+        PacketRegistries registries = PacketRegistries.getInstance();
+        long registriesNanos = System.nanoTime() - registriesStart;
+        this.handshakeRegistry = registries.getHandshakeRegistry();
+        this.loginRegistryIn = registries.getLoginRegistryIn();
+        this.loginRegistryOut = registries.getLoginRegistryOut();
+        this.codecs = ProtocolCodecs.forProtocol(FishingBot.getInstance().getCurrentBot().getServerProtocol());
+
+        //Use protocol of latest for unknown versions
+        if (!ProtocolConstants.SUPPORTED_VERSION_IDS.contains(FishingBot.getInstance().getCurrentBot().getServerProtocol()))
            FishingBot.getI18n().severe("network-not-supported-server-version", FishingBot.getInstance().getCurrentBot().getServerProtocol());
 
-            getPlayRegistryIn().put(FishingBot.getInstance().getCurrentBot().getServerProtocol(), new PacketRegistry());
-            getPlayRegistryOut().put(FishingBot.getInstance().getCurrentBot().getServerProtocol(), new PacketRegistry());
-            getPlayRegistryIn().get(FishingBot.getInstance().getCurrentBot().getServerProtocol()).copyOf(getPlayRegistryIn().get(ProtocolConstants.getLatest()));
-            getPlayRegistryOut().get(FishingBot.getInstance().getCurrentBot().getServerProtocol()).copyOf(getPlayRegistryOut().get(ProtocolConstants.getLatest()));
-        }
+        FishingBot.getI18n().info("network-setup-time",
+                String.format(Locale.ROOT, "%.2f", (System.nanoTime() - setupStart) / 1_000_000.0),
+                String.format(Locale.ROOT, "%.2f", registriesNanos / 1_000_000.0));
+    }
+
+    public PacketRegistry getPlayRegistryIn() {
+        return PacketRegistries.getInstance().getPlayRegistryIn(FishingBot.getInstance().getCurrentBot().getServerProtocol());
+    }
+
+    public PacketRegistry getPlayRegistryOut() {
+        return PacketRegistries.getInstance().getPlayRegistryOut(FishingBot.getInstance().getCurrentBot().getServerProtocol());
     }
 
     public void sendPacket(Packet packet) {
@@ -739,19 +114,22 @@ public class NetworkHandler {
         }
 
         //Add Packet ID from serverProtocol-specific PacketRegistry
+        int packetId;
         switch (getState()) {
             case HANDSHAKE:
-                Packet.writeVarInt(getHandshakeRegistry().getId(packet.getClass()), buf);
+                packetId = getHandshakeRegistry().getId(packet.getClass());
                 break;
             case LOGIN:
-                Packet.writeVarInt(getLoginRegistryOut().getId(packet.getClass()), buf);
+                packetId = getLoginRegistryOut().getId(packet.getClass());
                 break;
             case PLAY:
-                Packet.writeVarInt(getPlayRegistryOut().get(FishingBot.getInstance().getCurrentBot().getServerProtocol()).getId(packet.getClass()), buf);
+                packetId = getPlayRegistryOut().getId(packet.getClass());
                 break;
             default:
                 return;
         }
+        Packet.writeVarInt(packetId, buf);
+        int headerLength = capture == null ? 0 : buf.toByteArray().length;
 
         //Add packet payload
         try {
@@ -760,6 +138,11 @@ public class NetworkHandler {
             FishingBot.getLog().warning("Could not instantiate " + packet.getClass().getSimpleName());
         }
 
+        if (capture != null) {
+            byte[] data = buf.toByteArray();
+            capture.write(false, getState(), packetId, data, headerLength, data.length - headerLength);
+        }
+
         if (getThreshold() >= 0) {
             //Send packet (with 0 threshold, no compression)
             ByteArrayDataOutput send1 = ByteStreams.newDataOutput();
@@ -849,7 +232,23 @@ public class NetworkHandler {
         }
     }
 
-    private void readPacket(int len, int packetId, ByteArrayDataInputWrapper buf) throws IOException {
+    /**
+     * Decodes a captured packet as if it was just received
+     * @return the class of the packet or null if it is not handled
+     */
+    public Class<? extends Packet> replayPacket(CapturedPacket packet) throws IOException {
+        setState(packet.getState());
+        return readPacket(packet.getData().length, packet.getPacketId(), new ByteArrayDataInputWrapper(packet.getData()));
+    }
+
+    private Class<? extends Packet> readPacket(int len, int packetId, ByteArrayDataInputWrapper buf) throws IOException {
+        if (capture != null) {
+            byte[] data = new byte[buf.getAvailable()];
+            buf.readFully(data);
+            capture.write(true, state, packetId, data, 0, data.length);
+            buf = new ByteArrayDataInputWrapper(data);
+        }
+
         Class<? extends Packet> clazz;
 
         switch (state) {
@@ -860,10 +259,10 @@ public class NetworkHandler {
                 clazz = getLoginRegistryIn().getPacket(packetId);
                 break;
             case PLAY:
-                clazz = getPlayRegistryIn().get(FishingBot.getInstance().getCurrentBot().getServerProtocol()).getPacket(packetId);
+                clazz = getPlayRegistryIn().getPacket(packetId);
                 break;
             default:
-                return;
+                return null;
         }
 
         if (clazz == null) {
@@ -872,7 +271,7 @@ public class NetworkHandler {
                 buf.readFully(bytes);
 //                FishingBot.getLog().info("[" + getState().name().toUpperCase() + "] |C| <<<  S : 0x" + Integer.toHexString(packetId));
             }
-            return;
+            return null;
         } else if (FishingBot.getInstance().getCurrentBot().getConfig().isLogPackets())
             FishingBot.getLog().info("[" + getState().name().toUpperCase() + "] |C| <<<  S : " + clazz.getSimpleName());
 
@@ -883,6 +282,19 @@ public class NetworkHandler {
             FishingBot.getLog().warning("Could not create new instance of " + clazz.getSimpleName());
             e.printStackTrace();
         }
+        return clazz;
+    }
+
+    public void closeCapture() {
+        if (capture == null)
+            return;
+        try {
+            capture.close();
+            FishingBot.getI18n().info("capture-saved", capture.getPackets(), capture.getFile().getPath());
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+        this.capture = null;
     }
 
     public void activateEncryption() {
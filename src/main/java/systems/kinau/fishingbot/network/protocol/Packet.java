@@ -5,21 +5,18 @@
 
 package systems.kinau.fishingbot.network.protocol;
 
-import com.flowpowered.nbt.*;
-import com.flowpowered.nbt.stream.NBTInputStream;
 import com.google.common.base.Charsets;
 import com.google.common.io.ByteArrayDataInput;
 import com.google.common.io.ByteArrayDataOutput;
 import systems.kinau.fishingbot.FishingBot;
 import systems.kinau.fishingbot.bot.MovingObjectPositionBlock;
 import systems.kinau.fishingbot.bot.Slot;
+import systems.kinau.fishingbot.network.protocol.codec.ProtocolCodecs;
 import systems.kinau.fishingbot.network.protocol.play.PacketOutBlockPlace;
 import systems.kinau.fishingbot.network.utils.ByteArrayDataInputWrapper;
 import systems.kinau.fishingbot.network.utils.InvalidPacketException;
 import systems.kinau.fishingbot.network.utils.OverflowPacketException;
-import systems.kinau.fishingbot.utils.NBTUtils;
 
-import java.io.ByteArrayInputStream;
 import java.io.DataInputStream;
 import java.io.IOException;
 import java.util.Arrays;
@@ -224,53 +221,11 @@ public abstract class Packet {
     }
 
     public static Slot readSlot(ByteArrayDataInputWrapper input) {
-        if (FishingBot.getInstance().getCurrentBot().getServerProtocol() >= ProtocolConstants.MINECRAFT_1_13_2) {
-            boolean present = input.readBoolean();
-            if (present) {
-                int itemId = readVarInt(input);
-                byte itemCount = input.readByte();
-                byte[] nbtData = NBTUtils.readNBT(input);
-                int damage = -1;
-                try {
-                    NBTInputStream nbtStream = new NBTInputStream(new ByteArrayInputStream(nbtData.clone()), false);
-                    Tag tag = nbtStream.readTag();
-                    if (tag.getType() == TagType.TAG_COMPOUND) {
-                        CompoundMap tagMap = ((CompoundTag)tag).getValue();
-                        if (tagMap.containsKey("Damage"))
-                            damage = ((IntTag)tagMap.get("Damage")).getValue();
-                    }
-                } catch (IOException e) {
-                }
-                return new Slot(true, itemId, itemCount, (short) damage, nbtData);
-            } else
-                return Slot.EMPTY;
-        } else if (FishingBot.getInstance().getCurrentBot().getServerProtocol() >= ProtocolConstants.MINECRAFT_1_13) {
-            int itemId = input.readShort();
-            if (itemId == -1)
-                return Slot.EMPTY;
-            byte itemCount = input.readByte();
-            byte[] nbtData = NBTUtils.readNBT(input);
-            int damage = -1;
-            try {
-                NBTInputStream nbtStream = new NBTInputStream(new ByteArrayInputStream(nbtData.clone()), false);
-                Tag tag = nbtStream.readTag();
-                if (tag.getType() == TagType.TAG_COMPOUND) {
-                    CompoundMap tagMap = ((CompoundTag)tag).getValue();
-                    if (tagMap.containsKey("Damage"))
-                        damage = ((IntTag)tagMap.get("Damage")).getValue();
-                }
-            } catch (IOException e) {
-            }
-            return new Slot(true, itemId, itemCount, (short) damage, nbtData);
-        } else {
-            int itemId = input.readShort();
-            if (itemId == -1)
-                return Slot.EMPTY;
-            byte itemCount = input.readByte();
-            short itemDamage = input.readShort();
-            byte[] nbtData = NBTUtils.readNBT(input);
-            return new Slot(true, itemId, itemCount, itemDamage, nbtData);
-        }
+        return ProtocolCodecs.forProtocol(FishingBot.getInstance().getCurrentBot().getServerProtocol()).getSlotCodec().read(input);
+    }
+
+    public static Slot readSlot(ByteArrayDataInputWrapper input, NetworkHandler networkHandler) {
+        return networkHandler.getCodecs().getSlotCodec().read(input);
     }
 
     public static MovingObjectPositionBlock readMovingObjectPosition(ByteArrayDataInputWrapper input) {
@@ -9,41 +9,81 @@ import lombok.Getter;
 import systems.kinau.fishingbot.FishingBot;
 import systems.kinau.fishingbot.network.utils.InvalidPacketException;
 
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.Map;
 
 public class PacketRegistry {
 
     @Getter private Map<Integer, Class<? extends Packet>> registeredPackets = new LinkedHashMap<>();
+    private Class<? extends Packet>[] packetsById;
+    private Map<Class<? extends Packet>, Integer> idsByPacket;
 
     public void registerPacket(int id, Class<? extends Packet> clazz) {
+        checkNotFrozen();
         if(registeredPackets.containsKey(id))
             return;
         registeredPackets.put(id, clazz);
     }
 
     public Class<? extends Packet> getPacket(int id) {
+        if (packetsById != null)
+            return id < 0 || id >= packetsById.length ? null : packetsById[id];
         return registeredPackets.get(id);
     }
 
     public int getId(Class<? extends Packet> clazz) throws InvalidPacketException {
-        final int[] id = {-1};
-        registeredPackets.keySet().stream()
-                .filter(integer -> registeredPackets.get(integer).getName().equals(clazz.getName()))
-                .findFirst()
-                .ifPresent(integer -> id[0] = integer);
-        if (id[0] == -1) {
+        Integer id = idsByPacket != null ? idsByPacket.get(clazz) : findId(clazz);
+        if (id == null) {
             FishingBot.getI18n().severe("network-unknown-packet-id", clazz.getSimpleName(), ProtocolConstants.getVersionString(FishingBot.getInstance().getCurrentBot().getServerProtocol()));
             FishingBot.getInstance().getCurrentBot().setRunning(false);
             FishingBot.getInstance().getCurrentBot().setWontConnect(true);
             throw new InvalidPacketException("Packet not registered: " + clazz.getSimpleName());
         }
-        return id[0];
+        return id;
+    }
+
+    private Integer findId(Class<? extends Packet> clazz) {
+        return registeredPackets.keySet().stream()
+                .filter(integer -> registeredPackets.get(integer).getName().equals(clazz.getName()))
+                .findFirst()
+                .orElse(null);
     }
 
     public void copyOf(PacketRegistry packetRegistryBase) {
+        checkNotFrozen();
         packetRegistryBase.getRegisteredPackets().forEach((packetId, packetClass) -> {
             this.registeredPackets.put(packetId, packetClass);
         });
     }
+
+    /**
+     * Makes this registry immutable and indexes it in both directions
+     */
+    @SuppressWarnings("unchecked")
+    public void freeze() {
+        if (isFrozen())
+            return;
+        int maxId = registeredPackets.keySet().stream().mapToInt(Integer::intValue).max().orElse(-1);
+        Class<? extends Packet>[] packets = new Class[maxId + 1];
+        Map<Class<? extends Packet>, Integer> ids = new HashMap<>();
+        registeredPackets.forEach((id, clazz) -> {
+            if (id >= 0)
+                packets[id] = clazz;
+            ids.putIfAbsent(clazz, id);
+        });
+        this.registeredPackets = Collections.unmodifiableMap(registeredPackets);
+        this.idsByPacket = ids;
+        this.packetsById = packets;
+    }
+
+    public boolean isFrozen() {
+        return packetsById != null;
+    }
+
+    private void checkNotFrozen() {
+        if (isFrozen())
+            throw new IllegalStateException("Packet registry is frozen");
+    }
 }
@@ -0,0 +1,75 @@
+package systems.kinau.fishingbot.network.protocol.codec;
+
+import systems.kinau.fishingbot.network.protocol.ProtocolConstants;
+
+import static systems.kinau.fishingbot.network.protocol.codec.MetadataType.*;
+
+/**
+ * Entity metadata layouts, each one with its own numbering of the value types
+ */
+public enum MetadataFormat {
+
+    /**
+     * 1.8: index and type share one byte, the list ends with 0x7F
+     */
+    V1_8(true, BYTE, SHORT, INT, FLOAT, STRING, SLOT, VECTOR, ROTATION),
+    V1_9(false, BYTE, VAR_INT, FLOAT, STRING, STRING, SLOT, BOOLEAN, ROTATION, POSITION, OPTIONAL_POSITION, VAR_INT,
+            OPTIONAL_UUID, VAR_INT, NBT),
+    V1_13(false, BYTE, VAR_INT, FLOAT, STRING, STRING, OPTIONAL_STRING, SLOT, BOOLEAN, ROTATION, POSITION, OPTIONAL_POSITION,
+            VAR_INT, OPTIONAL_UUID, VAR_INT, NBT, PARTICLE),
+    V1_14(false, BYTE, VAR_INT, FLOAT, STRING, STRING, OPTIONAL_STRING, SLOT, BOOLEAN, ROTATION, POSITION, OPTIONAL_POSITION,
+            VAR_INT, OPTIONAL_UUID, VAR_INT, NBT, PARTICLE, VILLAGER_DATA, VAR_INT, VAR_INT, VAR_INT, VAR_INT,
+            OPTIONAL_GLOBAL_POSITION, VAR_INT),
+    V1_19_3(false, BYTE, VAR_INT, VAR_LONG, FLOAT, STRING, STRING, OPTIONAL_STRING, SLOT, BOOLEAN, ROTATION, POSITION,
+            OPTIONAL_POSITION, VAR_INT, OPTIONAL_UUID, VAR_INT, NBT, PARTICLE, VILLAGER_DATA, VAR_INT, VAR_INT, VAR_INT,
+            VAR_INT, OPTIONAL_GLOBAL_POSITION, VAR_INT),
+    V1_19_4(false, BYTE, VAR_INT, VAR_LONG, FLOAT, STRING, STRING, OPTIONAL_STRING, SLOT, BOOLEAN, ROTATION, POSITION,
+            OPTIONAL_POSITION, VAR_INT, OPTIONAL_UUID, VAR_INT, VAR_INT, NBT, PARTICLE, VILLAGER_DATA, VAR_INT, VAR_INT,
+            VAR_INT, VAR_INT, OPTIONAL_GLOBAL_POSITION, VAR_INT, VAR_INT, VECTOR, QUATERNION);
+
+    private final boolean packed;
+    private final MetadataType[] types;
+
+    MetadataFormat(boolean packed, MetadataType... types) {
+        this.packed = packed;
+        this.types = types;
+    }
+
+    public boolean isPacked() {
+        return packed;
+    }
+
+    /**
+     * @return the type with the given id or null if this layout does not know it
+     */
+    public MetadataType getType(int id) {
+        return id < 0 || id >= types.length ? null : types[id];
+    }
+
+    /**
+     * @return index of the health of living entities, it moves whenever new entity fields are added in front of it
+     */
+    public static int getHealthIndex(int protocolId) {
+        if (protocolId <= ProtocolConstants.MINECRAFT_1_9_4)
+            return 6;
+        else if (protocolId < ProtocolConstants.MINECRAFT_1_14)
+            return 7;
+        else if (protocolId < ProtocolConstants.MINECRAFT_1_17)
+            return 8;
+        return 9;
+    }
+
+    public static MetadataFormat forProtocol(int protocolId) {
+        if (protocolId == ProtocolConstants.MINECRAFT_1_8)
+            return V1_8;
+        else if (protocolId <= ProtocolConstants.MINECRAFT_1_12_2)
+            return V1_9;
+        else if (protocolId <= ProtocolConstants.MINECRAFT_1_13_1)
+            return V1_13;
+        else if (protocolId <= ProtocolConstants.MINECRAFT_1_19_1)
+            return V1_14;
+        else if (protocolId <= ProtocolConstants.MINECRAFT_1_19_3)
+            return V1_19_3;
+        return V1_19_4;
+    }
+}
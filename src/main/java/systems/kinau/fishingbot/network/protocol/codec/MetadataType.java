@@ -0,0 +1,114 @@
+package systems.kinau.fishingbot.network.protocol.codec;
+
+import systems.kinau.fishingbot.network.protocol.Packet;
+import systems.kinau.fishingbot.network.utils.ByteArrayDataInputWrapper;
+import systems.kinau.fishingbot.utils.NBTUtils;
+
+/**
+ * Value types of entity metadata entries.
+ * Every type knows how to skip its value by length, without decoding it.
+ */
+public enum MetadataType {
+
+    BYTE(1),
+    SHORT(2),
+    INT(4),
+    FLOAT(4),
+    BOOLEAN(1),
+    ROTATION(12),
+    VECTOR(12),
+    POSITION(8),
+    QUATERNION(16),
+    VAR_INT,
+    VAR_LONG,
+    STRING,
+    OPTIONAL_STRING,
+    OPTIONAL_POSITION,
+    OPTIONAL_UUID,
+    OPTIONAL_GLOBAL_POSITION,
+    SLOT,
+    NBT,
+    PARTICLE,
+    VILLAGER_DATA;
+
+    private final int fixedLength;
+
+    MetadataType() {
+        this(-1);
+    }
+
+    MetadataType(int fixedLength) {
+        this.fixedLength = fixedLength;
+    }
+
+    public void skip(ByteArrayDataInputWrapper in, SlotCodec slotCodec) {
+        if (fixedLength > 0) {
+            in.skipBytes(fixedLength);
+            return;
+        }
+        switch (this) {
+            case VAR_INT:
+                Packet.readVarInt(in);
+                break;
+            case VAR_LONG:
+                Packet.readVarLong(in);
+                break;
+            case STRING:
+                skipString(in);
+                break;
+            case OPTIONAL_STRING:
+                if (in.readBoolean())
+                    skipString(in);
+                break;
+            case OPTIONAL_POSITION:
+                if (in.readBoolean())
+                    in.skipBytes(8);
+                break;
+            case OPTIONAL_UUID:
+                if (in.readBoolean())
+                    in.skipBytes(16);
+                break;
+            case OPTIONAL_GLOBAL_POSITION:
+                if (in.readBoolean()) {
+                    skipString(in);
+                    in.skipBytes(8);
+                }
+                break;
+            case SLOT:
+                slotCodec.skip(in);
+                break;
+            case NBT:
+                NBTUtils.skipNBT(in);
+                break;
+            case PARTICLE:
+                skipParticle(in);
+                break;
+            case VILLAGER_DATA:
+                Packet.readVarInt(in);
+                Packet.readVarInt(in);
+                Packet.readVarInt(in);
+                break;
+        }
+    }
+
+    private static void skipString(ByteArrayDataInputWrapper in) {
+        in.skipBytes(Packet.readVarInt(in));
+    }
+
+    private static void skipParticle(ByteArrayDataInputWrapper in) {
+        switch (Packet.readVarInt(in)) {
+            case 3:
+            case 20:
+                Packet.readVarInt(in);
+                break;
+            case 11:
+                in.skipBytes(16);
+                break;
+            case 27:
+                // item particle, nothing after its slot is needed
+                if (in.readBoolean())
+                    in.skipBytes(in.getAvailable());
+                break;
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package systems.kinau.fishingbot.network.protocol.codec;
+
+import lombok.Getter;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Decoders of the structures whose layout depends on the protocol version.
+ * A connection picks its set once, so hot decode paths neither compare versions nor look up the current bot.
+ */
+@Getter
+public class ProtocolCodecs {
+
+    private static final Map<Integer, ProtocolCodecs> CODECS = new ConcurrentHashMap<>();
+
+    private final int protocolId;
+    private final SlotCodec slotCodec;
+    private final MetadataFormat metadataFormat;
+    private final int healthIndex;
+
+    private ProtocolCodecs(int protocolId) {
+        this.protocolId = protocolId;
+        this.slotCodec = SlotCodec.forProtocol(protocolId);
+        this.metadataFormat = MetadataFormat.forProtocol(protocolId);
+        this.healthIndex = MetadataFormat.getHealthIndex(protocolId);
+    }
+
+    public static ProtocolCodecs forProtocol(int protocolId) {
+        return CODECS.computeIfAbsent(protocolId, ProtocolCodecs::new);
+    }
+}
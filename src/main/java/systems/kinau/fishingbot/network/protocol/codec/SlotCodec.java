@@ -0,0 +1,122 @@
+package systems.kinau.fishingbot.network.protocol.codec;
+
+import com.flowpowered.nbt.CompoundMap;
+import com.flowpowered.nbt.CompoundTag;
+import com.flowpowered.nbt.IntTag;
+import com.flowpowered.nbt.Tag;
+import com.flowpowered.nbt.TagType;
+import com.flowpowered.nbt.stream.NBTInputStream;
+import systems.kinau.fishingbot.bot.Slot;
+import systems.kinau.fishingbot.network.protocol.Packet;
+import systems.kinau.fishingbot.network.protocol.ProtocolConstants;
+import systems.kinau.fishingbot.network.utils.ByteArrayDataInputWrapper;
+import systems.kinau.fishingbot.utils.NBTUtils;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+
+/**
+ * Wire formats of item slots
+ */
+public enum SlotCodec {
+
+    /**
+     * 1.8 - 1.12.2: short id, count, short damage and nbt
+     */
+    LEGACY {
+        @Override
+        public Slot read(ByteArrayDataInputWrapper input) {
+            int itemId = input.readShort();
+            if (itemId == -1)
+                return Slot.EMPTY;
+            byte itemCount = input.readByte();
+            short itemDamage = input.readShort();
+            byte[] nbtData = NBTUtils.readNBT(input);
+            return new Slot(true, itemId, itemCount, itemDamage, nbtData);
+        }
+
+        @Override
+        public void skip(ByteArrayDataInputWrapper input) {
+            if (input.readShort() == -1)
+                return;
+            input.skipBytes(3);
+            NBTUtils.skipNBT(input);
+        }
+    },
+
+    /**
+     * 1.13 - 1.13.1: short id, count and nbt containing the damage
+     */
+    SHORT_ID {
+        @Override
+        public Slot read(ByteArrayDataInputWrapper input) {
+            int itemId = input.readShort();
+            if (itemId == -1)
+                return Slot.EMPTY;
+            byte itemCount = input.readByte();
+            byte[] nbtData = NBTUtils.readNBT(input);
+            return new Slot(true, itemId, itemCount, readDamage(nbtData), nbtData);
+        }
+
+        @Override
+        public void skip(ByteArrayDataInputWrapper input) {
+            if (input.readShort() == -1)
+                return;
+            input.skipBytes(1);
+            NBTUtils.skipNBT(input);
+        }
+    },
+
+    /**
+     * 1.13.2+: present flag, var int id, count and nbt containing the damage
+     */
+    VAR_INT_ID {
+        @Override
+        public Slot read(ByteArrayDataInputWrapper input) {
+            if (!input.readBoolean())
+                return Slot.EMPTY;
+            int itemId = Packet.readVarInt(input);
+            byte itemCount = input.readByte();
+            byte[] nbtData = NBTUtils.readNBT(input);
+            return new Slot(true, itemId, itemCount, readDamage(nbtData), nbtData);
+        }
+
+        @Override
+        public void skip(ByteArrayDataInputWrapper input) {
+            if (!input.readBoolean())
+                return;
+            Packet.readVarInt(input);
+            input.skipBytes(1);
+            NBTUtils.skipNBT(input);
+        }
+    };
+
+    public abstract Slot read(ByteArrayDataInputWrapper input);
+
+    /**
+     * Moves past a slot without copying or parsing its nbt
+     */
+    public abstract void skip(ByteArrayDataInputWrapper input);
+
+    public static SlotCodec forProtocol(int protocolId) {
+        if (protocolId >= ProtocolConstants.MINECRAFT_1_13_2)
+            return VAR_INT_ID;
+        else if (protocolId >= ProtocolConstants.MINECRAFT_1_13)
+            return SHORT_ID;
+        return LEGACY;
+    }
+
+    private static short readDamage(byte[] nbtData) {
+        int damage = -1;
+        try {
+            NBTInputStream nbtStream = new NBTInputStream(new ByteArrayInputStream(nbtData), false);
+            Tag tag = nbtStream.readTag();
+            if (tag.getType() == TagType.TAG_COMPOUND) {
+                CompoundMap tagMap = ((CompoundTag) tag).getValue();
+                if (tagMap.containsKey("Damage"))
+                    damage = ((IntTag) tagMap.get("Damage")).getValue();
+            }
+        } catch (IOException ignore) { }
+        return (short) damage;
+    }
+}
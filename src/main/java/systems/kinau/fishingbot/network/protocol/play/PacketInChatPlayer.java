@@ -12,22 +12,19 @@ package systems.kinau.fishingbot.network.protocol.play;
 import com.google.common.io.ByteArrayDataOutput;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
-import org.json.simple.JSONObject;
-import org.json.simple.parser.JSONParser;
 import systems.kinau.fishingbot.FishingBot;
 import systems.kinau.fishingbot.event.play.ChatEvent;
 import systems.kinau.fishingbot.network.protocol.NetworkHandler;
 import systems.kinau.fishingbot.network.protocol.Packet;
 import systems.kinau.fishingbot.network.protocol.ProtocolConstants;
 import systems.kinau.fishingbot.network.utils.ByteArrayDataInputWrapper;
-import systems.kinau.fishingbot.utils.TextComponent;
+import systems.kinau.fishingbot.utils.ChatComponentReader;
 
 import java.util.UUID;
 
 @NoArgsConstructor
 public class PacketInChatPlayer extends Packet {
 
-    private final JSONParser PARSER = new JSONParser();
     @Getter
     private String text;
     @Getter
@@ -83,19 +80,8 @@ public class PacketInChatPlayer extends Packet {
 
     private String readChatComponent(ByteArrayDataInputWrapper in) {
         String text = readString(in);
-        try {
-            JSONObject object = (JSONObject) PARSER.parse(text);
-
-            try {
-                text = TextComponent.toPlainText(object);
-            } catch (Exception ignored) {
-                //Ignored
-            }
-
-            //TODO: Handle this correctly. This packet represents the normal chat packet up to 1.18.2 and the vanilla server player chat packet in 1.19 and higher
-        } catch (Exception ignored) {
-            //Ignored
-        }
-        return text;
+        //TODO: Handle this correctly. This packet represents the normal chat packet up to 1.18.2 and the vanilla server player chat packet in 1.19 and higher
+        String plainText = ChatComponentReader.toPlainText(text);
+        return plainText == null ? text : plainText;
     }
 }
@@ -6,11 +6,13 @@ import com.mojang.brigadier.arguments.*;
 import com.mojang.brigadier.tree.RootCommandNode;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import systems.kinau.fishingbot.Bot;
 import systems.kinau.fishingbot.FishingBot;
 import systems.kinau.fishingbot.event.play.CommandsRegisteredEvent;
 import systems.kinau.fishingbot.modules.command.CommandExecutor;
 import systems.kinau.fishingbot.modules.command.brigardier.CommandNodeData;
 import systems.kinau.fishingbot.modules.command.brigardier.CommandTree;
+import systems.kinau.fishingbot.modules.command.brigardier.LazyCommandTree;
 import systems.kinau.fishingbot.modules.command.brigardier.argument.*;
 import systems.kinau.fishingbot.modules.command.brigardier.node.ArgumentNode;
 import systems.kinau.fishingbot.modules.command.brigardier.node.LiteralNode;
@@ -27,7 +29,7 @@ import java.util.List;
 public class PacketInCommands extends Packet {
 
     @Getter
-    private CommandDispatcher<CommandExecutor> commandDispatcher;
+    private LazyCommandTree commandTree;
 
     @Override
     public void write(ByteArrayDataOutput out, int protocolId) throws IOException {
@@ -36,6 +38,16 @@ public class PacketInCommands extends Packet {
 
     @Override
     public void read(ByteArrayDataInputWrapper in, NetworkHandler networkHandler, int length, int protocolId) throws IOException {
+        // nodes are decoded lazily, when the dispatcher is first used
+        byte[] data = new byte[in.getAvailable()];
+        in.readFully(data);
+        Bot bot = FishingBot.getInstance().getCurrentBot();
+        this.commandTree = LazyCommandTree.of(bot.getServerHost() + ":" + bot.getServerPort(), protocolId, data);
+        bot.getEventManager().callEvent(new CommandsRegisteredEvent(commandTree));
+    }
+
+    public static CommandDispatcher<CommandExecutor> decode(byte[] data, int protocolId) {
+        ByteArrayDataInputWrapper in = new ByteArrayDataInputWrapper(data);
         int count = readVarInt(in);
         List<CommandNodeData> nodes = new ArrayList<>();
         for (int i = 0; i < count; i++)
@@ -43,11 +55,10 @@ public class PacketInCommands extends Packet {
         int rootIndex = readVarInt(in);
 
         RootCommandNode<CommandExecutor> rootNode = (RootCommandNode<CommandExecutor>) new CommandTree(nodes).getNode(rootIndex);
-        this.commandDispatcher = new CommandDispatcher<>(rootNode);
-        FishingBot.getInstance().getCurrentBot().getEventManager().callEvent(new CommandsRegisteredEvent(commandDispatcher));
+        return new CommandDispatcher<>(rootNode);
     }
 
-    private CommandNodeData readCommandNode(ByteArrayDataInputWrapper in) {
+    private static CommandNodeData readCommandNode(ByteArrayDataInputWrapper in) {
         byte flags = in.readByte();
         int count = readVarInt(in);
         if (count > in.getAvailable()) return null;
@@ -60,7 +71,7 @@ public class PacketInCommands extends Packet {
         return new CommandNodeData(node, flags, redirectNode, children);
     }
 
-    private Node readArgumentBuilder(ByteArrayDataInputWrapper in, byte flags) {
+    private static Node readArgumentBuilder(ByteArrayDataInputWrapper in, byte flags) {
         int nodeType = flags & 0x03;
         if (nodeType == 2) {
             String name = readString(in);
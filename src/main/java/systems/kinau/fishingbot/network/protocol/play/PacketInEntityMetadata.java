@@ -15,11 +15,16 @@ import systems.kinau.fishingbot.enums.MaterialMc18;
 import systems.kinau.fishingbot.event.play.UpdateHealthEvent;
 import systems.kinau.fishingbot.network.protocol.NetworkHandler;
 import systems.kinau.fishingbot.network.protocol.Packet;
-import systems.kinau.fishingbot.network.protocol.ProtocolConstants;
+import systems.kinau.fishingbot.network.protocol.codec.MetadataFormat;
+import systems.kinau.fishingbot.network.protocol.codec.MetadataType;
+import systems.kinau.fishingbot.network.protocol.codec.ProtocolCodecs;
+import systems.kinau.fishingbot.network.protocol.codec.SlotCodec;
 import systems.kinau.fishingbot.network.utils.ByteArrayDataInputWrapper;
 import systems.kinau.fishingbot.utils.ItemUtils;
 
 import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.DoubleConsumer;
 
 //TODO: Add as event, yes this code is ugly...
 @NoArgsConstructor
@@ -40,563 +45,64 @@ public class PacketInEntityMetadata extends Packet {
                 return;
             if (FishingBot.getInstance().getCurrentBot().getFishingModule().containsPossibleItem(eid) && FishingBot.getInstance().getCurrentBot().getPlayer().getEntityID() != eid)
                 return;
-            if (protocolId == ProtocolConstants.MINECRAFT_1_8) {
-                readWatchableObjects18(in, networkHandler, eid);
-            } else {
-                defaultLoop(protocolId, in, networkHandler, eid);
-            }
+            boolean self = FishingBot.getInstance().getCurrentBot().getPlayer().getEntityID() == eid;
+            MetadataFormat format = networkHandler.getCodecs().getMetadataFormat();
+            readEntries(in, networkHandler.getCodecs(), self,
+                    health -> FishingBot.getInstance().getCurrentBot().getEventManager().callEvent(new UpdateHealthEvent(eid, (float) health, -1, -1)),
+                    slot -> addPossibleCaughtItem(format, eid, slot));
         } catch (Throwable ex) {
             ex.printStackTrace();
         }
     }
 
-    private void defaultLoop(int protocolID, ByteArrayDataInputWrapper in, NetworkHandler networkHandler, int eid) {
-        while (true) {
-            if (in.getAvailable() == 0)
-                break;
-            int var2 = in.readByte();
-            if (var2 == -1)
-                break;
-            if (var2 == 127 || in.getAvailable() <= 1) {
-                break;
-            }
-
-            int type = in.readByte();
-
-            if (protocolID <= ProtocolConstants.MINECRAFT_1_12_2)
-                readWatchableObjects19(in, networkHandler, eid, type);
-            else if (protocolID <= ProtocolConstants.MINECRAFT_1_13_1)
-                readWatchableObjects113(in, networkHandler, eid, type);
-            else if (protocolID <= ProtocolConstants.MINECRAFT_1_19_1)
-                readWatchableObjects114(in, networkHandler, eid, type);
-            else
-                readWatchableObjects1193(in, networkHandler, eid, type);
-        }
-    }
-
-    private void readWatchableObjects1193(ByteArrayDataInputWrapper in, NetworkHandler networkHandler, int eid, int type) {
-        switch (type) {
-            case 0: {
-                in.readByte();
-                break;
-            }
-            case 1: {
-                readVarInt(in);
-                break;
-            }
-            case 2: {
-                readVarLong(in);
-            }
-            case 3: {
-                float health = in.readFloat();
-                FishingBot.getInstance().getCurrentBot().getEventManager().callEvent(new UpdateHealthEvent(eid, health, -1, -1));
-                return;
-            }
-            case 4: {
-                readString(in);
-                break;
-            }
-            case 5: {
-                readString(in);
-                break;
-            }
-            case 6: {
-                boolean present = in.readBoolean();
-                if (present) {
-                    readString(in);
-                }
-                break;
-            }
-            case 7: {
-                Slot slot = readSlot(in);
-                if (!slot.isPresent())
-                    return;
-                List<Enchantment> enchantments = ItemUtils.getEnchantments(slot);
-                String name = ItemUtils.getItemName(slot);
-                FishingBot.getInstance().getCurrentBot().getFishingModule().getPossibleCaughtItems().add(new Item(eid, slot.getItemId(), name, enchantments, -1, -1, -1));
-                return;
-            }
-            case 8: {
-                in.readBoolean();
-                break;
-            }
-            case 9: {
-                in.readFloat();
-                in.readFloat();
-                in.readFloat();
-                break;
-            }
-            case 10: {
-                in.readLong();
-                break;
-            }
-            case 11: {
-                boolean present = in.readBoolean();
-                if (present) {
-                    in.readLong();
-                }
-                break;
-            }
-            case 12: {
-                readVarInt(in);
-                break;
-            }
-            case 13: {
-                boolean present = in.readBoolean();
-                if (present) {
-                    readUUID(in);
-                }
-                break;
-            }
-            case 14: {
-                readVarInt(in);
-                break;
-            }
-            case 15: {
-                in.readFully(new byte[in.getAvailable()]);
-                break;
-            }
-            case 16: {
-                int id = readVarInt(in);
-                switch (id) {
-                    case 20:
-                    case 3: {
-                        readVarInt(in);
-                        break;
-                    }
-                    case 11: {
-                        in.readFloat();
-                        in.readFloat();
-                        in.readFloat();
-                        in.readFloat();
-                        break;
-                    }
-                    case 27: {
-                        boolean present = in.readBoolean();
-                        if (!present)
-                            break;
-                        readVarInt(in);
-                        in.readByte();
-                        in.readFully(new byte[in.getAvailable()]);
-                        break;
-                    }
-                }
-                break;
-            }
-            case 17: {
-                readVarInt(in);
-                readVarInt(in);
-                readVarInt(in);
-                break;
-            }
-            case 18: {
-                readVarInt(in);
-                break;
-            }
-            case 19: {
-                readVarInt(in);
-                break;
-            }
-            case 20: {
-                readVarInt(in);
-                break;
-            }
-            case 21: {
-                readVarInt(in);
-                break;
-            }
-            case 22: {
-                readString(in);
-                in.readLong();
-                break;
-            }
-            case 23: {
-                readVarInt(in);
-                break;
+    /**
+     * Walks the entries using the type table of the connection's metadata format.
+     * Only item stacks of other entities and the health of the bot are decoded, everything else is skipped by length.
+     *
+     * @param self whether the entries belong to the bot, its health is passed to healthConsumer, otherwise present item stacks to slotConsumer
+     */
+    public static void readEntries(ByteArrayDataInputWrapper in, ProtocolCodecs codecs, boolean self, DoubleConsumer healthConsumer, Consumer<Slot> slotConsumer) {
+        MetadataFormat format = codecs.getMetadataFormat();
+        SlotCodec slotCodec = codecs.getSlotCodec();
+        int healthIndex = codecs.getHealthIndex();
+        while (in.getAvailable() > 0) {
+            int index;
+            int typeId;
+            if (format.isPacked()) {
+                byte header = in.readByte();
+                if (header == 0x7F)
+                    break;
+                index = header & 31;
+                typeId = (header & 224) >> 5;
+            } else {
+                index = in.readByte();
+                if (index == -1 || index == 127 || in.getAvailable() <= 1)
+                    break;
+                typeId = in.readByte();
             }
-        }
-    }
 
-    private void readWatchableObjects114(ByteArrayDataInputWrapper in, NetworkHandler networkHandler, int eid, int type) {
-        switch (type) {
-            case 0: {
-                in.readByte();
-                break;
-            }
-            case 1: {
-                readVarInt(in);
-                break;
-            }
-            case 2: {
-                float health = in.readFloat();
-                FishingBot.getInstance().getCurrentBot().getEventManager().callEvent(new UpdateHealthEvent(eid, health, -1, -1));
-                return;
-            }
-            case 3: {
-                readString(in);
-                break;
-            }
-            case 4: {
-                readString(in);
-                break;
-            }
-            case 5: {
-                boolean present = in.readBoolean();
-                if (present) {
-                    readString(in);
-                }
-                break;
-            }
-            case 6: {
-                Slot slot = readSlot(in);
-                if (!slot.isPresent())
-                    return;
-                List<Enchantment> enchantments = ItemUtils.getEnchantments(slot);
-                String name = ItemUtils.getItemName(slot);
-                FishingBot.getInstance().getCurrentBot().getFishingModule().getPossibleCaughtItems().add(new Item(eid, slot.getItemId(), name, enchantments, -1, -1, -1));
-                return;
-            }
-            case 7: {
-                in.readBoolean();
-                break;
-            }
-            case 8: {
-                in.readFloat();
-                in.readFloat();
-                in.readFloat();
-                break;
-            }
-            case 9: {
-                in.readLong();
-                break;
-            }
-            case 10: {
-                boolean present = in.readBoolean();
-                if (present) {
-                    in.readLong();
-                }
-                break;
-            }
-            case 11: {
-                readVarInt(in);
+            MetadataType type = format.getType(typeId);
+            if (type == null)
                 break;
-            }
-            case 12: {
-                boolean present = in.readBoolean();
-                if (present) {
-                    readUUID(in);
-                }
-                break;
-            }
-            case 13: {
-                readVarInt(in);
-                break;
-            }
-            case 14: {
-                in.readFully(new byte[in.getAvailable()]);
-                break;
-            }
-            case 15: {
-                int id = readVarInt(in);
-                switch (id) {
-                    case 20:
-                    case 3: {
-                        readVarInt(in);
-                        break;
-                    }
-                    case 11: {
-                        in.readFloat();
-                        in.readFloat();
-                        in.readFloat();
-                        in.readFloat();
-                        break;
-                    }
-                    case 27: {
-                        boolean present = in.readBoolean();
-                        if (!present)
-                            break;
-                        readVarInt(in);
-                        in.readByte();
-                        in.readFully(new byte[in.getAvailable()]);
-                        break;
-                    }
-                }
-                break;
-            }
-            case 16: {
-                readVarInt(in);
-                readVarInt(in);
-                readVarInt(in);
-                break;
-            }
-            case 17: {
-                readVarInt(in);
-                break;
-            }
-            case 18: {
-                readVarInt(in);
+            // other floats of the player (e.g. absorption) must not be taken for its health
+            if (self && index == healthIndex && type == MetadataType.FLOAT) {
+                healthConsumer.accept(in.readFloat());
                 break;
+            } else if (type == MetadataType.SLOT && !self) {
+                Slot slot = slotCodec.read(in);
+                if (slot.isPresent())
+                    slotConsumer.accept(slot);
+            } else {
+                type.skip(in, slotCodec);
             }
         }
     }
 
-    private void readWatchableObjects113(ByteArrayDataInputWrapper in, NetworkHandler networkHandler, int eid, int type) {
-        try {
-            switch (type) {
-                case 0: {
-                    in.readByte();
-                    break;
-                }
-                case 1: {
-                    readVarInt(in);
-                    break;
-                }
-                case 2: {
-                    float health = in.readFloat();
-                    FishingBot.getInstance().getCurrentBot().getEventManager().callEvent(new UpdateHealthEvent(eid, health, -1, -1));
-                    return;
-                }
-                case 3: {
-                    readString(in);
-                    break;
-                }
-                case 4: {
-                    readString(in);
-                    break;
-                }
-                case 5: {
-                    in.readBoolean();
-                    break;
-                }
-                case 6: {
-                    Slot slot = readSlot(in);
-                    if (!slot.isPresent())
-                        return;
-
-                    List<Enchantment> enchantments = ItemUtils.getEnchantments(slot);
-
-                    String name = ItemUtils.getItemName(slot);
-
-                    FishingBot.getInstance().getCurrentBot().getFishingModule().getPossibleCaughtItems().add(new Item(eid, slot.getItemId(), name, enchantments, -1, -1, -1));
-
-                    return;
-                }
-                case 7: {
-                    in.readBoolean();
-                    break;
-                }
-                case 8: {
-                    in.readFloat();
-                    in.readFloat();
-                    in.readFloat();
-                    break;
-                }
-                case 9: {
-                    in.readLong();
-                    break;
-                }
-                case 10: {
-                    boolean present = in.readBoolean();
-                    if (present) {
-                        in.readLong();
-                    }
-                    break;
-                }
-                case 11: {
-                    readVarInt(in);
-                    break;
-                }
-                case 12: {
-                    boolean present = in.readBoolean();
-                    if (present) {
-                        readUUID(in);
-                    }
-                    break;
-                }
-                case 13: {
-                    readVarInt(in);
-                    break;
-                }
-                case 14: {
-                    in.readFully(new byte[in.getAvailable()]);
-                    break;
-                }
-                case 15: {
-                    int id = readVarInt(in);
-                    switch (id) {
-                        case 20:
-                        case 3: {
-                            readVarInt(in);
-                            break;
-                        }
-                        case 11: {
-                            in.readFloat();
-                            in.readFloat();
-                            in.readFloat();
-                            in.readFloat();
-                            break;
-                        }
-                        case 27: {
-                            boolean present = in.readBoolean();
-                            if (!present)
-                                break;
-                            readVarInt(in);
-                            in.readByte();
-                            in.readFully(new byte[in.getAvailable()]);
-                            break;
-                        }
-                    }
-                    break;
-                }
-                case 16: {
-                    readVarInt(in);
-                    readVarInt(in);
-                    readVarInt(in);
-                    break;
-                }
-                case 17: {
-                    readVarInt(in);
-                    break;
-                }
-                case 18: {
-                    readVarInt(in);
-                    break;
-                }
-            }
-        } catch (Exception ignored) { }
-    }
-
-    private void readWatchableObjects19(ByteArrayDataInputWrapper in, NetworkHandler networkHandler, int eid, int type) {
-        try {
-            switch (type) {
-                case 0: {
-                    in.readByte();
-                    break;
-                }
-                case 1: {
-                    readVarInt(in);
-                    break;
-                }
-                case 2: {
-                    float health = in.readFloat();
-                    FishingBot.getInstance().getCurrentBot().getEventManager().callEvent(new UpdateHealthEvent(eid, health, -1, -1));
-                    return;
-                }
-                case 3: {
-                    readString(in);
-                    break;
-                }
-                case 4: {
-                    readString(in);
-                    break;
-                }
-                case 5: {
-                    Slot slot = readSlot(in);
-                    if (!slot.isPresent())
-                        return;
-                    String name = ItemUtils.getItemName(slot);
-                    List<Enchantment> enchantments = ItemUtils.getEnchantments(slot);
-                    FishingBot.getInstance().getCurrentBot().getFishingModule().getPossibleCaughtItems().add(new Item(eid, slot.getItemId(), name, enchantments, -1, -1, -1));
-                    return;
-                }
-                case 6: {
-                    in.readBoolean();
-                    break;
-                }
-                case 7: {
-                    in.readFloat();
-                    in.readFloat();
-                    in.readFloat();
-                    break;
-                }
-                case 8: {
-                    in.readLong();
-                    break;
-                }
-                case 9: {
-                    boolean present = in.readBoolean();
-                    if (present) {
-                        in.readLong();
-                    }
-                    break;
-                }
-                case 10: {
-                    readVarInt(in);
-                    break;
-                }
-                case 11: {
-                    boolean present = in.readBoolean();
-                    if (present) {
-                        readUUID(in);
-                    }
-                    break;
-                }
-                case 12: {
-                    readVarInt(in);
-                    break;
-                }
-            }
-        } catch (Exception ignored) { }
-    }
-
-    private void readWatchableObjects18(ByteArrayDataInputWrapper in, NetworkHandler networkHandler, int eid) {
-        while (true) {
-            if (in.getAvailable() == 0)
-                break;
-            byte var2 = in.readByte();
-            if (var2 == 0x7F)
-                break;
-
-            int i = (var2 & 224) >> 5;
-
-            try {
-                switch (i) {
-                    case 0: {
-                        in.readByte();
-                        break;
-                    }
-                    case 1: {
-                        in.readShort();
-                        break;
-                    }
-                    case 2: {
-                        in.readInt();
-                        break;
-                    }
-                    case 3: {
-                        float health = in.readFloat();
-                        FishingBot.getInstance().getCurrentBot().getEventManager().callEvent(new UpdateHealthEvent(eid, health, -1, -1));
-                        return;
-                    }
-                    case 4: {
-                        readString(in);
-                        break;
-                    }
-
-                    case 5: {
-                        Slot slot = readSlot(in);
-                        String name = MaterialMc18.getMaterialName(slot.getItemId(), slot.getItemDamage());
-                        List<Enchantment> enchantments = ItemUtils.getEnchantments(slot);
-                        FishingBot.getInstance().getCurrentBot().getFishingModule().getPossibleCaughtItems().add(new Item(eid, slot.getItemId(), name, enchantments, -1, -1, -1));
-
-                        return;
-                    }
-                    case 6: {
-                        in.readInt();
-                        in.readInt();
-                        in.readInt();
-                        break;
-                    }
-                    case 7: {
-                        in.readFloat();
-                        in.readFloat();
-                        in.readFloat();
-                        break;
-                    }
-                }
-            } catch (Exception ex) {
-                break;
-            }
-        }
+    private void addPossibleCaughtItem(MetadataFormat format, int eid, Slot slot) {
+        String name = format == MetadataFormat.V1_8
+                ? MaterialMc18.getMaterialName(slot.getItemId(), slot.getItemDamage())
+                : ItemUtils.getItemName(slot);
+        List<Enchantment> enchantments = ItemUtils.getEnchantments(slot);
+        FishingBot.getInstance().getCurrentBot().getFishingModule().getPossibleCaughtItems().add(new Item(eid, slot.getItemId(), name, enchantments, -1, -1, -1));
     }
 }
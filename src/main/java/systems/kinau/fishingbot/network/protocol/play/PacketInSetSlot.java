@@ -31,7 +31,7 @@ public class PacketInSetSlot extends Packet {
             readVarInt(in); // revision
         }
         this.slotId = in.readShort();
-        this.slot = readSlot(in);
+        this.slot = readSlot(in, networkHandler);
 
         FishingBot.getInstance().getCurrentBot().getEventManager().callEvent(new UpdateSlotEvent(windowId, slotId, slot));
     }
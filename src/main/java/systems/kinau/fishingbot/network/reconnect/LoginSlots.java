@@ -0,0 +1,98 @@
+package systems.kinau.fishingbot.network.reconnect;
+
+import systems.kinau.fishingbot.FishingBot;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.OverlappingFileLockException;
+import java.nio.file.StandardOpenOption;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Limits how many bots log in to the same server at once.
+ * A slot is a lock on one of a fixed number of files in the temp folder, so the limit holds for all bots
+ * running on this machine, no matter if they share a JVM or not. The lock is released by the OS if a bot dies.
+ */
+public class LoginSlots {
+
+    private static final File FOLDER = new File(System.getProperty("java.io.tmpdir"), "fishingbot-logins");
+    private static final long POLL_INTERVAL = 250;
+
+    /**
+     * Waits for a free login slot of the server
+     *
+     * @param maxLogins how many bots may log in at once, no slot is taken if this is below 1
+     * @param waiting   polled while all slots are taken, gives up once it returns false
+     * @return the taken slot or null if there is no limit, the slots could not be used or waiting has been aborted
+     */
+    public static Slot acquire(String host, int port, int maxLogins, BooleanSupplier waiting) {
+        if (maxLogins < 1)
+            return null;
+        if (!FOLDER.exists() && !FOLDER.mkdirs())
+            return null;
+        String prefix = (host + "_" + port).toLowerCase(Locale.ROOT).replaceAll("[^a-z0-9._-]", "_");
+        boolean logged = false;
+        while (waiting.getAsBoolean()) {
+            for (int i = 0; i < maxLogins; i++) {
+                try {
+                    Slot slot = tryLock(new File(FOLDER, prefix + "-" + i + ".lock"));
+                    if (slot != null)
+                        return slot;
+                } catch (IOException e) {
+                    e.printStackTrace();
+                    return null;
+                }
+            }
+            if (!logged) {
+                FishingBot.getI18n().info("reconnect-waiting-for-login-slot", maxLogins);
+                logged = true;
+            }
+            try {
+                TimeUnit.MILLISECONDS.sleep(POLL_INTERVAL);
+            } catch (InterruptedException ex) {
+                return null;
+            }
+        }
+        return null;
+    }
+
+    private static Slot tryLock(File file) throws IOException {
+        FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+        try {
+            FileLock lock = channel.tryLock();
+            if (lock != null)
+                return new Slot(channel, lock);
+        } catch (OverlappingFileLockException ignore) {
+            // held by another bot of this JVM
+        }
+        channel.close();
+        return null;
+    }
+
+    public static class Slot implements Closeable {
+
+        private final FileChannel channel;
+        private final FileLock lock;
+
+        private Slot(FileChannel channel, FileLock lock) {
+            this.channel = channel;
+            this.lock = lock;
+        }
+
+        @Override
+        public void close() {
+            try {
+                if (lock.isValid())
+                    lock.release();
+                channel.close();
+            } catch (IOException e) {
+                e.printStackTrace();
+            }
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package systems.kinau.fishingbot.network.reconnect;
+
+import lombok.Getter;
+import systems.kinau.fishingbot.FishingBot;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Delays between reconnect attempts, growing exponentially with decorrelated jitter:
+ * every delay is random between the base delay and three times the previous one, capped at the max delay.
+ * Bots disconnected at the same moment therefore spread out instead of retrying in lockstep.
+ */
+public class ReconnectScheduler {
+
+    private final long baseDelay;
+    private final long maxDelay;
+
+    private long lastDelay;
+    private long failedSince;
+    @Getter private int attempts;
+
+    @Getter private long totalAttempts;
+    @Getter private long recoveries;
+    @Getter private long totalRecoveryMillis;
+    @Getter private long maxRecoveryMillis;
+
+    public ReconnectScheduler(long baseDelay, long maxDelay, TimeUnit unit) {
+        this.baseDelay = Math.max(1, unit.toMillis(baseDelay));
+        this.maxDelay = Math.max(this.baseDelay, unit.toMillis(maxDelay));
+    }
+
+    /**
+     * @return the time to wait in milliseconds before the next attempt
+     */
+    public synchronized long nextDelay() {
+        if (attempts == 0)
+            failedSince = System.currentTimeMillis();
+        attempts++;
+        totalAttempts++;
+        long upper = Math.min(maxDelay, Math.max(baseDelay, lastDelay * 3));
+        lastDelay = upper <= baseDelay ? baseDelay : ThreadLocalRandom.current().nextLong(baseDelay, upper + 1);
+        return lastDelay;
+    }
+
+    /**
+     * Called once the bot is logged in again, resets the backoff
+     */
+    public synchronized void connected() {
+        if (attempts > 0) {
+            long recoveryMillis = System.currentTimeMillis() - failedSince;
+            recoveries++;
+            totalRecoveryMillis += recoveryMillis;
+            maxRecoveryMillis = Math.max(maxRecoveryMillis, recoveryMillis);
+            FishingBot.getI18n().info("reconnect-recovered", attempts, recoveryMillis, toString());
+        }
+        attempts = 0;
+        lastDelay = 0;
+    }
+
+    @Override
+    public synchronized String toString() {
+        return "attempts: " + totalAttempts
+                + ", recoveries: " + recoveries
+                + ", avg recovery: " + (recoveries == 0 ? 0 : totalRecoveryMillis / recoveries) + "ms"
+                + ", max recovery: " + maxRecoveryMillis + "ms";
+    }
+}
@@ -0,0 +1,141 @@
+package systems.kinau.fishingbot.tick;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import lombok.Getter;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Drives all periodic and delayed work of the bots at 20 ticks per second using a hashed timing wheel.
+ * A single ticker thread advances the wheel and hands due tasks to a small pool of workers,
+ * so the number of threads does not grow with the number of scheduled tasks.
+ */
+public class TickEngine {
+
+    public static final long TICK_MILLIS = 50;
+    private static final long TICK_NANOS = TimeUnit.MILLISECONDS.toNanos(TICK_MILLIS);
+    private static final int WHEEL_SIZE = 512;
+    private static final int WHEEL_MASK = WHEEL_SIZE - 1;
+
+    private final List<TickTask>[] wheel;
+    private final Queue<TickTask> pendingTasks = new ConcurrentLinkedQueue<>();
+    @Getter private final Set<TickTask> tasks = ConcurrentHashMap.newKeySet();
+    private final ExecutorService workers;
+    private final Thread tickerThread;
+    @Getter private volatile long currentTick;
+    private volatile boolean running = true;
+
+    @SuppressWarnings("unchecked")
+    public TickEngine(int workerThreads) {
+        this.wheel = new List[WHEEL_SIZE];
+        for (int i = 0; i < WHEEL_SIZE; i++)
+            wheel[i] = new ArrayList<>();
+        this.workers = Executors.newFixedThreadPool(workerThreads,
+                new ThreadFactoryBuilder().setNameFormat("tick-worker-%d").setDaemon(true).build());
+        this.tickerThread = new Thread(this::run, "tick-engine");
+        tickerThread.setDaemon(true);
+        tickerThread.start();
+    }
+
+    /**
+     * Runs runnable once after the given amount of ticks (0 = next tick)
+     */
+    public TickTask schedule(String name, Runnable runnable, long delayTicks) {
+        return submit(new TickTask(this, name, runnable, 0), delayTicks);
+    }
+
+    public TickTask schedule(String name, Runnable runnable, long delay, TimeUnit unit) {
+        return schedule(name, runnable, toTicks(delay, unit));
+    }
+
+    /**
+     * Runs runnable every periodTicks, starting after delayTicks
+     */
+    public TickTask scheduleRepeating(String name, Runnable runnable, long delayTicks, long periodTicks) {
+        if (periodTicks <= 0)
+            throw new IllegalArgumentException("The period of a repeating task has to be at least one tick");
+        return submit(new TickTask(this, name, runnable, periodTicks), delayTicks);
+    }
+
+    public TickTask scheduleRepeating(String name, Runnable runnable, long delay, long period, TimeUnit unit) {
+        return scheduleRepeating(name, runnable, toTicks(delay, unit), Math.max(1, toTicks(period, unit)));
+    }
+
+    public void shutdown() {
+        this.running = false;
+        tickerThread.interrupt();
+        workers.shutdownNow();
+        tasks.clear();
+    }
+
+    public static long toTicks(long duration, TimeUnit unit) {
+        long millis = unit.toMillis(duration);
+        return (millis + TICK_MILLIS - 1) / TICK_MILLIS;
+    }
+
+    void unregister(TickTask task) {
+        tasks.remove(task);
+    }
+
+    private TickTask submit(TickTask task, long delayTicks) {
+        task.deadline = getCurrentTick() + Math.max(0, delayTicks);
+        tasks.add(task);
+        pendingTasks.add(task);
+        return task;
+    }
+
+    private void run() {
+        long start = System.nanoTime();
+        while (running) {
+            long tick = getCurrentTick() + 1;
+            long sleep;
+            while ((sleep = start + tick * TICK_NANOS - System.nanoTime()) > 0) {
+                LockSupport.parkNanos(sleep);
+                if (!running)
+                    return;
+            }
+            processTick(tick);
+            this.currentTick = tick;
+        }
+    }
+
+    private void processTick(long tick) {
+        TickTask pending;
+        while ((pending = pendingTasks.poll()) != null) {
+            if (pending.deadline < tick)
+                pending.deadline = tick;
+            wheel[(int) (pending.deadline & WHEEL_MASK)].add(pending);
+        }
+
+        Iterator<TickTask> bucket = wheel[(int) (tick & WHEEL_MASK)].iterator();
+        List<TickTask> rescheduled = null;
+        while (bucket.hasNext()) {
+            TickTask task = bucket.next();
+            if (task.isCancelled()) {
+                bucket.remove();
+                continue;
+            }
+            if (task.deadline > tick)
+                continue;
+            bucket.remove();
+            if (task.isRepeating()) {
+                task.deadline = tick + task.getPeriodTicks();
+                if (rescheduled == null)
+                    rescheduled = new ArrayList<>();
+                rescheduled.add(task);
+            }
+            if (task.tryStart()) {
+                try {
+                    workers.execute(task::execute);
+                } catch (RejectedExecutionException ignore) { }
+            }
+        }
+
+        if (rescheduled != null) {
+            for (TickTask task : rescheduled)
+                wheel[(int) (task.deadline & WHEEL_MASK)].add(task);
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package systems.kinau.fishingbot.tick;
+
+import lombok.Getter;
+import systems.kinau.fishingbot.FishingBot;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A task registered at the {@link TickEngine}. Repeating tasks never run concurrently with themselves,
+ * a run which would overlap the previous one is skipped and counted.
+ */
+public class TickTask {
+
+    @Getter private final String name;
+    @Getter private final long periodTicks;
+    private final Runnable runnable;
+    private final TickEngine engine;
+
+    // only accessed by the ticker thread
+    long deadline;
+
+    private final AtomicBoolean executing = new AtomicBoolean(false);
+    @Getter private volatile boolean cancelled;
+
+    private final AtomicLong runs = new AtomicLong();
+    private final AtomicLong overruns = new AtomicLong();
+    private final AtomicLong skippedRuns = new AtomicLong();
+    private final AtomicLong totalExecutionNanos = new AtomicLong();
+    private final AtomicLong maxExecutionNanos = new AtomicLong();
+
+    TickTask(TickEngine engine, String name, Runnable runnable, long periodTicks) {
+        this.engine = engine;
+        this.name = name;
+        this.runnable = runnable;
+        this.periodTicks = periodTicks;
+    }
+
+    public boolean isRepeating() {
+        return periodTicks > 0;
+    }
+
+    public void cancel() {
+        this.cancelled = true;
+        engine.unregister(this);
+    }
+
+    boolean tryStart() {
+        if (executing.compareAndSet(false, true))
+            return true;
+        skippedRuns.incrementAndGet();
+        return false;
+    }
+
+    void execute() {
+        long start = System.nanoTime();
+        try {
+            if (!isCancelled())
+                runnable.run();
+        } catch (Throwable throwable) {
+            throwable.printStackTrace();
+        } finally {
+            long duration = System.nanoTime() - start;
+            runs.incrementAndGet();
+            totalExecutionNanos.addAndGet(duration);
+            maxExecutionNanos.accumulateAndGet(duration, Math::max);
+            long budget = TimeUnit.MILLISECONDS.toNanos(Math.max(1, periodTicks) * TickEngine.TICK_MILLIS);
+            if (duration > budget) {
+                long count = overruns.incrementAndGet();
+                // warn on the 1st, 2nd, 4th, 8th... overrun, so a task which always overruns does not flood the log
+                if (Long.bitCount(count) == 1 && FishingBot.getI18n() != null)
+                    FishingBot.getI18n().warning("tick-task-overrun", getName(),
+                            TimeUnit.NANOSECONDS.toMillis(duration), TimeUnit.NANOSECONDS.toMillis(budget), count);
+            }
+            executing.set(false);
+            if (!isRepeating())
+                engine.unregister(this);
+        }
+    }
+
+    public long getRuns() {
+        return runs.get();
+    }
+
+    /**
+     * @return the number of runs, which took longer than the tasks period (or one tick for non-repeating tasks)
+     */
+    public long getOverruns() {
+        return overruns.get();
+    }
+
+    /**
+     * @return the number of runs skipped, because the previous run was still in progress
+     */
+    public long getSkippedRuns() {
+        return skippedRuns.get();
+    }
+
+    public double getAverageExecutionMillis() {
+        long runs = getRuns();
+        return runs == 0 ? 0 : totalExecutionNanos.get() / (double) runs / TimeUnit.MILLISECONDS.toNanos(1);
+    }
+
+    public double getMaxExecutionMillis() {
+        return maxExecutionNanos.get() / (double) TimeUnit.MILLISECONDS.toNanos(1);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s (runs: %d, overruns: %d, skipped: %d, avg: %.2fms, max: %.2fms)",
+                getName(), getRuns(), getOverruns(), getSkippedRuns(), getAverageExecutionMillis(), getMaxExecutionMillis());
+    }
+}
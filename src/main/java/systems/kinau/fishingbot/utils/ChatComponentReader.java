@@ -0,0 +1,299 @@
+package systems.kinau.fishingbot.utils;
+
+/**
+ * Single pass reader turning a json chat component into plain text without building a json tree.
+ * Produces the same text as {@link TextComponent#toPlainText(org.json.simple.JSONObject)}:
+ * the root text and its direct extras, or the arguments of a translated component if it has some.
+ * One reader (and its buffers) is kept per thread.
+ */
+public class ChatComponentReader {
+
+    private static final ThreadLocal<ChatComponentReader> READERS = ThreadLocal.withInitial(ChatComponentReader::new);
+
+    private final StringBuilder text = new StringBuilder();
+    private final StringBuilder with = new StringBuilder();
+    private final StringBuilder value = new StringBuilder();
+    private String json;
+    private int pos;
+    private boolean hasWith;
+    private String translate;
+
+    private ChatComponentReader() { }
+
+    /**
+     * @return the plain text of the component or null if it is no valid json
+     */
+    public static String toPlainText(String json) {
+        ChatComponentReader reader = READERS.get();
+        try {
+            return reader.read(json);
+        } catch (IllegalStateException | IndexOutOfBoundsException ex) {
+            return null;
+        } finally {
+            reader.json = null;
+        }
+    }
+
+    private String read(String json) {
+        this.json = json;
+        this.pos = 0;
+        this.hasWith = false;
+        this.translate = null;
+        text.setLength(0);
+        with.setLength(0);
+
+        skipWhitespace();
+        char first = peek();
+        String result;
+        if (first == '{') {
+            readRoot();
+            if (hasWith) {
+                if ("multiplayer.player.joined".equals(translate))
+                    with.append("joined the game");
+                else if ("multiplayer.player.left".equals(translate))
+                    with.append("left the game");
+                result = with.toString();
+            } else {
+                result = text.toString();
+            }
+        } else if (first == '"') {
+            // plain string components are their own text
+            result = readString(value).toString();
+        } else {
+            throw new IllegalStateException("Unexpected " + first);
+        }
+        skipWhitespace();
+        if (pos != json.length())
+            throw new IllegalStateException("Trailing data at " + pos);
+        return result;
+    }
+
+    private void readRoot() {
+        expect('{');
+        if (consume('}'))
+            return;
+        do {
+            String key = readKey();
+            switch (key) {
+                case "text":
+                    readText(text, 0);
+                    break;
+                case "extra":
+                    readExtras(text);
+                    break;
+                case "with":
+                    readWith();
+                    break;
+                case "translate":
+                    if (peek() == '"')
+                        translate = readString(value).toString();
+                    else
+                        skipValue();
+                    break;
+                default:
+                    skipValue();
+            }
+        } while (consume(','));
+        expect('}');
+    }
+
+    private void readWith() {
+        if (peek() != '[') {
+            skipValue();
+            return;
+        }
+        hasWith = true;
+        // like the json tree based conversion, a repeated key replaces earlier arguments
+        with.setLength(0);
+        expect('[');
+        if (consume(']'))
+            return;
+        do {
+            if (peek() == '{')
+                readComponent(with);
+            else
+                appendPrimitive(with);
+            with.append(' ');
+        } while (consume(','));
+        expect(']');
+    }
+
+    private void readComponent(StringBuilder out) {
+        int start = out.length();
+        expect('{');
+        if (consume('}'))
+            return;
+        do {
+            String key = readKey();
+            if (key.equals("text"))
+                readText(out, start);
+            else if (key.equals("extra"))
+                readExtras(out);
+            else
+                skipValue();
+        } while (consume(','));
+        expect('}');
+    }
+
+    private void readExtras(StringBuilder out) {
+        if (peek() != '[') {
+            skipValue();
+            return;
+        }
+        expect('[');
+        if (consume(']'))
+            return;
+        do {
+            if (peek() == '{')
+                readExtra(out);
+            else
+                appendPrimitive(out);
+        } while (consume(','));
+        expect(']');
+    }
+
+    private void readExtra(StringBuilder out) {
+        expect('{');
+        if (consume('}'))
+            return;
+        do {
+            if (readKey().equals("text"))
+                readText(out, out.length());
+            else
+                skipValue();
+        } while (consume(','));
+        expect('}');
+    }
+
+    /**
+     * Inserts the text at the given position, as vanilla servers write the extras before the text of a component
+     */
+    private void readText(StringBuilder out, int position) {
+        if (peek() == '"')
+            out.insert(position, readString(value));
+        else
+            skipValue();
+    }
+
+    private void appendPrimitive(StringBuilder out) {
+        char c = peek();
+        if (c == '"') {
+            readString(out);
+        } else if (c == '[' || c == '{') {
+            skipValue();
+        } else {
+            int start = pos;
+            skipValue();
+            out.append(json.substring(start, pos).trim());
+        }
+    }
+
+    private String readKey() {
+        skipWhitespace();
+        String key = readString(value).toString();
+        expect(':');
+        return key;
+    }
+
+    private StringBuilder readString(StringBuilder out) {
+        if (out == value)
+            value.setLength(0);
+        expect('"');
+        while (true) {
+            char c = json.charAt(pos++);
+            if (c == '"')
+                return out;
+            if (c != '\\') {
+                out.append(c);
+                continue;
+            }
+            char escaped = json.charAt(pos++);
+            switch (escaped) {
+                case 'b': out.append('\b'); break;
+                case 'f': out.append('\f'); break;
+                case 'n': out.append('\n'); break;
+                case 'r': out.append('\r'); break;
+                case 't': out.append('\t'); break;
+                case 'u':
+                    try {
+                        out.append((char) Integer.parseInt(json.substring(pos, pos + 4), 16));
+                    } catch (NumberFormatException ex) {
+                        throw new IllegalStateException("Invalid unicode escape at " + pos);
+                    }
+                    pos += 4;
+                    break;
+                default: out.append(escaped);
+            }
+        }
+    }
+
+    private void skipValue() {
+        skipWhitespace();
+        char c = peek();
+        switch (c) {
+            case '"':
+                skipString();
+                break;
+            case '{':
+            case '[':
+                skipNested();
+                break;
+            default:
+                int start = pos;
+                while (pos < json.length() && "{}[],: \t\r\n\"".indexOf(json.charAt(pos)) < 0)
+                    pos++;
+                if (start == pos)
+                    throw new IllegalStateException("Unexpected " + c + " at " + pos);
+        }
+        skipWhitespace();
+    }
+
+    private void skipString() {
+        pos++;
+        while (true) {
+            char c = json.charAt(pos++);
+            if (c == '"')
+                return;
+            if (c == '\\')
+                pos++;
+        }
+    }
+
+    private void skipNested() {
+        int depth = 0;
+        do {
+            char c = json.charAt(pos);
+            if (c == '"') {
+                skipString();
+                continue;
+            }
+            if (c == '{' || c == '[')
+                depth++;
+            else if (c == '}' || c == ']')
+                depth--;
+            pos++;
+        } while (depth > 0);
+    }
+
+    private char peek() {
+        skipWhitespace();
+        return json.charAt(pos);
+    }
+
+    private boolean consume(char c) {
+        if (peek() != c)
+            return false;
+        pos++;
+        return true;
+    }
+
+    private void expect(char c) {
+        if (!consume(c))
+            throw new IllegalStateException("Expected " + c + " at " + pos);
+    }
+
+    private void skipWhitespace() {
+        while (pos < json.length() && Character.isWhitespace(json.charAt(pos)))
+            pos++;
+    }
+}
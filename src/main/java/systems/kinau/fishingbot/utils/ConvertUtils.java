@@ -99,7 +99,9 @@ public class ConvertUtils {
                         int units = Integer.valueOf(obj.get("units").toString());
                         TimeUnit timeUnit = TimeUnit.valueOf((String) obj.get("timeUnit"));
                         JSONArray command = (JSONArray) new JSONParser().parse(obj.get("commands").toString());
-                        timers.add(new Timer(name, units, timeUnit, new ArrayList<String>(command)));
+                        String cron = obj.get("cron") == null ? null : obj.get("cron").toString();
+                        int jitter = obj.get("jitter") == null ? 0 : Integer.valueOf(obj.get("jitter").toString());
+                        timers.add(new Timer(name, units, timeUnit, new ArrayList<String>(command), cron, jitter));
                     } catch (Exception e) {
                         e.printStackTrace();
                     }
@@ -17,25 +17,18 @@ import systems.kinau.fishingbot.network.protocol.ProtocolConstants;
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicInteger;
 
 public class ItemUtils {
 
-    private static Map<Integer, Integer> rodId = new HashMap<>();
-    private static Map<Integer, Set<Integer>> fishIds = new HashMap<>();
-    private static Map<Integer, Integer> enchantedBookId = new HashMap<>();
+    private static final int DEFAULT_ROD_ID = 563;
+    private static final String[] FISH = {"minecraft:cod", "minecraft:salmon", "minecraft:tropical_fish", "minecraft:pufferfish"};
+
+    private static final Map<Integer, ItemIds> itemIds = new ConcurrentHashMap<>();
 
     public static int getRodId(int protocolId) {
-        if (rodId.containsKey(protocolId))
-            return rodId.get(protocolId);
-
-        if (RegistryHandler.getItemsMap(protocolId).containsValue("minecraft:fishing_rod")) {
-            rodId.put(protocolId, RegistryHandler.getItemsMap(protocolId).entrySet().stream()
-                    .filter(entry -> entry.getValue().equals("minecraft:fishing_rod"))
-                    .findAny().get().getKey());
-            return rodId.get(protocolId);
-        }
-        return 563;
+        return getItemIds(protocolId).rodId;
     }
 
     public static boolean isFishingRod(Slot slot) {
@@ -56,29 +49,40 @@ public class ItemUtils {
     public static boolean isFish(int protocol, int itemId) {
         if (protocol < ProtocolConstants.MINECRAFT_1_13)
             return itemId == MaterialMc18.RAW_FISH.getId();
-        if (fishIds.containsKey(protocol))
-            return fishIds.get(protocol).contains(itemId);
-        Set<Integer> ids = new HashSet<>();
-        RegistryHandler.getItemsMap(protocol).forEach((id, name) -> {
-            if (name.equals("minecraft:cod") || name.equals("minecraft:salmon") || name.equals("minecraft:tropical_fish") || name.equals("minecraft:pufferfish"))
-                ids.add(id);
-        });
-        fishIds.put(protocol, ids);
-        return ids.contains(itemId);
+        return itemId >= 0 && getItemIds(protocol).fish.get(itemId);
     }
 
     public static boolean isEnchantedBook(int protocol, int itemId) {
         if (protocol < ProtocolConstants.MINECRAFT_1_13)
             return itemId == MaterialMc18.ENCHANTED_BOOK.getId();
-        if (enchantedBookId.containsKey(protocol))
-            return enchantedBookId.get(protocol) == itemId;
-        AtomicInteger ebId = new AtomicInteger();
-        RegistryHandler.getItemsMap(protocol).forEach((id, name) -> {
-            if (name.equals("minecraft:enchanted_book"))
-                ebId.set(id);
-        });
-        enchantedBookId.put(protocol, ebId.get());
-        return ebId.get() == itemId;
+        return itemId >= 0 && getItemIds(protocol).books.get(itemId);
+    }
+
+    private static ItemIds getItemIds(int protocol) {
+        return itemIds.computeIfAbsent(protocol, ItemIds::new);
+    }
+
+    /**
+     * Ids of the items the bot classifies, looked up once per protocol through the name index of the registry
+     */
+    private static class ItemIds {
+
+        private final int rodId;
+        private final BitSet fish = new BitSet();
+        private final BitSet books = new BitSet();
+
+        private ItemIds(int protocol) {
+            int rod = RegistryHandler.getItemId("minecraft:fishing_rod", protocol);
+            this.rodId = rod < 0 ? DEFAULT_ROD_ID : rod;
+            for (String name : FISH) {
+                int id = RegistryHandler.getItemId(name, protocol);
+                if (id >= 0)
+                    fish.set(id);
+            }
+            int book = RegistryHandler.getItemId("minecraft:enchanted_book", protocol);
+            if (book >= 0)
+                books.set(book);
+        }
     }
 
     public static List<Enchantment> getEnchantments(Slot slot) {
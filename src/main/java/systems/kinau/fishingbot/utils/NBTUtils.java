@@ -33,6 +33,47 @@ public class NBTUtils {
         return dataRead;
     }
 
+    /**
+     * Moves past the nbt data the same way {@link #readNBT(ByteArrayDataInputWrapper)} would, without copying it
+     */
+    public static void skipNBT(ByteArrayDataInputWrapper in) {
+        byte type = in.readByte();
+        if (type != 10)
+            return;
+        in.skipBytes(in.readUnsignedShort());
+        skipPayload(type, in);
+    }
+
+    private static void skipPayload(byte type, ByteArrayDataInputWrapper in) {
+        switch (type) {
+            case 12: in.skipBytes(in.readInt() * 8); break;
+            case 11: in.skipBytes(in.readInt() * 4); break;
+            case 10: {
+                byte childType;
+                while ((childType = in.readByte()) != 0) {
+                    in.skipBytes(in.readUnsignedShort());
+                    skipPayload(childType, in);
+                }
+                break;
+            }
+            case 9: {
+                byte listType = in.readByte();
+                int listCount = in.readInt();
+                for (int i = 0; i < listCount; i++)
+                    skipPayload(listType, in);
+                break;
+            }
+            case 8: in.skipBytes(in.readUnsignedShort()); break;
+            case 7: in.skipBytes(in.readInt()); break;
+            case 6:
+            case 4: in.skipBytes(8); break;
+            case 5:
+            case 3: in.skipBytes(4); break;
+            case 2: in.skipBytes(2); break;
+            case 1: in.skipBytes(1); break;
+        }
+    }
+
     private static int readTag(byte type, short nameLength, int tabs, ByteArrayDataInputWrapper in) {
         switch (type) {
             case 12: {
@@ -0,0 +1,73 @@
+package systems.kinau.fishingbot.network.http;
+
+import com.sun.net.httpserver.HttpServer;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import systems.kinau.fishingbot.auth.AuthData;
+import systems.kinau.fishingbot.auth.msa.DeviceTokenGenerator;
+import systems.kinau.fishingbot.network.mojangapi.MojangAPI;
+import systems.kinau.fishingbot.network.protocol.ProtocolConstants;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+
+/**
+ * Points the Realms API and the Microsoft device code flow at a local server
+ * and checks that all their requests go over one pooled keep-alive connection.
+ */
+public class SharedHttpClientTest {
+
+    private static final byte[] WORLDS = "{\"servers\":[{\"id\":1,\"owner\":\"owner\",\"name\":\"realm\",\"motd\":\"motd\"}]}"
+            .getBytes(StandardCharsets.UTF_8);
+    private static final byte[] DEVICE_CODE = ("{\"user_code\":\"ABCD\",\"device_code\":\"code\",\"verification_uri\":\"http://localhost\","
+            + "\"expires_in\":900,\"interval\":5}").getBytes(StandardCharsets.UTF_8);
+
+    private final Set<Integer> clientPorts = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger requests = new AtomicInteger();
+    private HttpServer server;
+    private String endpoint;
+
+    @Before
+    public void startServer() throws IOException {
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.createContext("/", exchange -> {
+            clientPorts.add(exchange.getRemoteAddress().getPort());
+            requests.incrementAndGet();
+            byte[] body = exchange.getRequestURI().getPath().endsWith("/devicecode") ? DEVICE_CODE : WORLDS;
+            exchange.getResponseHeaders().set("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        server.start();
+        endpoint = "http://" + server.getAddress().getAddress().getHostAddress() + ":" + server.getAddress().getPort();
+    }
+
+    @After
+    public void stopServer() {
+        server.stop(0);
+    }
+
+    @Test
+    public void reusesOneConnection() {
+        MojangAPI mojangAPI = new MojangAPI(new AuthData("token", "00000000-0000-0000-0000-000000000000", "FishingBot"),
+                ProtocolConstants.MINECRAFT_1_19_4, endpoint, endpoint);
+        for (int i = 0; i < 10; i++) {
+            assertEquals(1, mojangAPI.getPossibleWorlds().size());
+            assertNotNull(DeviceTokenGenerator.createDeviceToken(endpoint, "client"));
+        }
+        assertEquals(20, requests.get());
+        assertEquals(1, clientPorts.size());
+    }
+}